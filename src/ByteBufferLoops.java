@@ -0,0 +1,394 @@
+// ByteBufferLoops.java
+// GENERATED by tools/BufferLoopGen.java; do not edit.
+// Regenerate with `make ByteBufferLoops-gen`.
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+final class ByteBufferLoops {
+  static final String[] OP_NAMES = {
+      "put", "get", "compact", "view.int",
+      "view.long", "getInt.abs", "putInt.abs", "getLong.rel",
+      "putLong.rel",
+  };
+
+  private ByteBufferLoops() {}
+
+  static long run(int kind, int op, ByteBuffer buf, byte[] chunk, int ops) {
+    switch (kind) {
+    case 0:
+      return runHeap(op, buf, chunk, ops);
+    case 1:
+      return runDirect(op, buf, chunk, ops);
+    default:
+      return runMapped(op, buf, chunk, ops);
+    }
+  }
+
+  private static long runHeap(int op, ByteBuffer buf, byte[] chunk,
+                              int ops) {
+    switch (op) {
+    case 0: // put
+      return putHeap(buf, chunk, ops);
+    case 1: // get
+      return getHeap(buf, chunk, ops);
+    case 2: // compact
+      return compactHeap(buf, ops);
+    case 3: // view.int
+      return viewIntHeap(buf, ops);
+    case 4: // view.long
+      return viewLongHeap(buf, ops);
+    case 5: // getInt.abs
+      return getIntAbsHeap(buf, ops);
+    case 6: // putInt.abs
+      return putIntAbsHeap(buf, ops);
+    case 7: // getLong.rel
+      return getLongRelHeap(buf, ops);
+    default: // putLong.rel
+      return putLongRelHeap(buf, ops);
+    }
+  }
+
+  private static long runDirect(int op, ByteBuffer buf, byte[] chunk,
+                                int ops) {
+    switch (op) {
+    case 0: // put
+      return putDirect(buf, chunk, ops);
+    case 1: // get
+      return getDirect(buf, chunk, ops);
+    case 2: // compact
+      return compactDirect(buf, ops);
+    case 3: // view.int
+      return viewIntDirect(buf, ops);
+    case 4: // view.long
+      return viewLongDirect(buf, ops);
+    case 5: // getInt.abs
+      return getIntAbsDirect(buf, ops);
+    case 6: // putInt.abs
+      return putIntAbsDirect(buf, ops);
+    case 7: // getLong.rel
+      return getLongRelDirect(buf, ops);
+    default: // putLong.rel
+      return putLongRelDirect(buf, ops);
+    }
+  }
+
+  private static long runMapped(int op, ByteBuffer buf, byte[] chunk,
+                                int ops) {
+    switch (op) {
+    case 0: // put
+      return putMapped(buf, chunk, ops);
+    case 1: // get
+      return getMapped(buf, chunk, ops);
+    case 2: // compact
+      return compactMapped(buf, ops);
+    case 3: // view.int
+      return viewIntMapped(buf, ops);
+    case 4: // view.long
+      return viewLongMapped(buf, ops);
+    case 5: // getInt.abs
+      return getIntAbsMapped(buf, ops);
+    case 6: // putInt.abs
+      return putIntAbsMapped(buf, ops);
+    case 7: // getLong.rel
+      return getLongRelMapped(buf, ops);
+    default: // putLong.rel
+      return putLongRelMapped(buf, ops);
+    }
+  }
+
+  private static long putHeap(ByteBuffer buf, byte[] chunk, int ops) {
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      while (buf.hasRemaining())
+        buf.put(chunk, 0, Math.min(chunk.length, buf.remaining()));
+    }
+    return buf.get(buf.capacity() - 1);
+  }
+
+  private static long getHeap(ByteBuffer buf, byte[] chunk, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      while (buf.hasRemaining()) {
+        int n = Math.min(chunk.length, buf.remaining());
+        buf.get(chunk, 0, n);
+        sum += chunk[n - 1];
+      }
+    }
+    return sum;
+  }
+
+  private static long compactHeap(ByteBuffer buf, int ops) {
+    long sum = 0;
+    int half = buf.capacity() / 2;
+    for (int i = 0; i < ops; i++) {
+      buf.clear().position(half);
+      buf.compact();
+      sum += buf.position();
+    }
+    buf.clear();
+    return sum + buf.get(0);
+  }
+
+  private static long viewIntHeap(ByteBuffer buf, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      IntBuffer view = buf.asIntBuffer();
+      int n = view.limit();
+      for (int j = 0; j < n; j++)
+        sum += view.get(j);
+    }
+    return sum;
+  }
+
+  private static long viewLongHeap(ByteBuffer buf, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      LongBuffer view = buf.asLongBuffer();
+      int n = view.limit();
+      for (int j = 0; j < n; j++)
+        sum += view.get(j);
+    }
+    return sum;
+  }
+
+  private static long getIntAbsHeap(ByteBuffer buf, int ops) {
+    long sum = 0;
+    int n = buf.capacity() & ~3;
+    for (int i = 0; i < ops; i++) {
+      for (int j = 0; j < n; j += 4)
+        sum += buf.getInt(j);
+    }
+    return sum;
+  }
+
+  private static long putIntAbsHeap(ByteBuffer buf, int ops) {
+    int n = buf.capacity() & ~3;
+    for (int i = 0; i < ops; i++) {
+      for (int j = 0; j < n; j += 4)
+        buf.putInt(j, i + j);
+    }
+    return n == 0 ? 0 : buf.getInt(0) + buf.getInt(n - 4);
+  }
+
+  private static long getLongRelHeap(ByteBuffer buf, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      while (buf.remaining() >= 8)
+        sum += buf.getLong();
+    }
+    return sum;
+  }
+
+  private static long putLongRelHeap(ByteBuffer buf, int ops) {
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      long v = i;
+      while (buf.remaining() >= 8)
+        buf.putLong(v++);
+    }
+    int last = (buf.capacity() & ~7) - 8;
+    return last < 0 ? 0 : buf.getLong(0) ^ buf.getLong(last);
+  }
+
+  private static long putDirect(ByteBuffer buf, byte[] chunk, int ops) {
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      while (buf.hasRemaining())
+        buf.put(chunk, 0, Math.min(chunk.length, buf.remaining()));
+    }
+    return buf.get(buf.capacity() - 1);
+  }
+
+  private static long getDirect(ByteBuffer buf, byte[] chunk, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      while (buf.hasRemaining()) {
+        int n = Math.min(chunk.length, buf.remaining());
+        buf.get(chunk, 0, n);
+        sum += chunk[n - 1];
+      }
+    }
+    return sum;
+  }
+
+  private static long compactDirect(ByteBuffer buf, int ops) {
+    long sum = 0;
+    int half = buf.capacity() / 2;
+    for (int i = 0; i < ops; i++) {
+      buf.clear().position(half);
+      buf.compact();
+      sum += buf.position();
+    }
+    buf.clear();
+    return sum + buf.get(0);
+  }
+
+  private static long viewIntDirect(ByteBuffer buf, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      IntBuffer view = buf.asIntBuffer();
+      int n = view.limit();
+      for (int j = 0; j < n; j++)
+        sum += view.get(j);
+    }
+    return sum;
+  }
+
+  private static long viewLongDirect(ByteBuffer buf, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      LongBuffer view = buf.asLongBuffer();
+      int n = view.limit();
+      for (int j = 0; j < n; j++)
+        sum += view.get(j);
+    }
+    return sum;
+  }
+
+  private static long getIntAbsDirect(ByteBuffer buf, int ops) {
+    long sum = 0;
+    int n = buf.capacity() & ~3;
+    for (int i = 0; i < ops; i++) {
+      for (int j = 0; j < n; j += 4)
+        sum += buf.getInt(j);
+    }
+    return sum;
+  }
+
+  private static long putIntAbsDirect(ByteBuffer buf, int ops) {
+    int n = buf.capacity() & ~3;
+    for (int i = 0; i < ops; i++) {
+      for (int j = 0; j < n; j += 4)
+        buf.putInt(j, i + j);
+    }
+    return n == 0 ? 0 : buf.getInt(0) + buf.getInt(n - 4);
+  }
+
+  private static long getLongRelDirect(ByteBuffer buf, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      while (buf.remaining() >= 8)
+        sum += buf.getLong();
+    }
+    return sum;
+  }
+
+  private static long putLongRelDirect(ByteBuffer buf, int ops) {
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      long v = i;
+      while (buf.remaining() >= 8)
+        buf.putLong(v++);
+    }
+    int last = (buf.capacity() & ~7) - 8;
+    return last < 0 ? 0 : buf.getLong(0) ^ buf.getLong(last);
+  }
+
+  private static long putMapped(ByteBuffer buf, byte[] chunk, int ops) {
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      while (buf.hasRemaining())
+        buf.put(chunk, 0, Math.min(chunk.length, buf.remaining()));
+    }
+    return buf.get(buf.capacity() - 1);
+  }
+
+  private static long getMapped(ByteBuffer buf, byte[] chunk, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      while (buf.hasRemaining()) {
+        int n = Math.min(chunk.length, buf.remaining());
+        buf.get(chunk, 0, n);
+        sum += chunk[n - 1];
+      }
+    }
+    return sum;
+  }
+
+  private static long compactMapped(ByteBuffer buf, int ops) {
+    long sum = 0;
+    int half = buf.capacity() / 2;
+    for (int i = 0; i < ops; i++) {
+      buf.clear().position(half);
+      buf.compact();
+      sum += buf.position();
+    }
+    buf.clear();
+    return sum + buf.get(0);
+  }
+
+  private static long viewIntMapped(ByteBuffer buf, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      IntBuffer view = buf.asIntBuffer();
+      int n = view.limit();
+      for (int j = 0; j < n; j++)
+        sum += view.get(j);
+    }
+    return sum;
+  }
+
+  private static long viewLongMapped(ByteBuffer buf, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      LongBuffer view = buf.asLongBuffer();
+      int n = view.limit();
+      for (int j = 0; j < n; j++)
+        sum += view.get(j);
+    }
+    return sum;
+  }
+
+  private static long getIntAbsMapped(ByteBuffer buf, int ops) {
+    long sum = 0;
+    int n = buf.capacity() & ~3;
+    for (int i = 0; i < ops; i++) {
+      for (int j = 0; j < n; j += 4)
+        sum += buf.getInt(j);
+    }
+    return sum;
+  }
+
+  private static long putIntAbsMapped(ByteBuffer buf, int ops) {
+    int n = buf.capacity() & ~3;
+    for (int i = 0; i < ops; i++) {
+      for (int j = 0; j < n; j += 4)
+        buf.putInt(j, i + j);
+    }
+    return n == 0 ? 0 : buf.getInt(0) + buf.getInt(n - 4);
+  }
+
+  private static long getLongRelMapped(ByteBuffer buf, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      while (buf.remaining() >= 8)
+        sum += buf.getLong();
+    }
+    return sum;
+  }
+
+  private static long putLongRelMapped(ByteBuffer buf, int ops) {
+    for (int i = 0; i < ops; i++) {
+      buf.clear();
+      long v = i;
+      while (buf.remaining() >= 8)
+        buf.putLong(v++);
+    }
+    int last = (buf.capacity() & ~7) - 8;
+    return last < 0 ? 0 : buf.getLong(0) ^ buf.getLong(last);
+  }
+}
@@ -2,17 +2,109 @@
 // Smoke tests for heap/direct buffers, views, ordering, slicing, duplication, compact, and read-only paths.
  
 
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
 
 public final class ByteBufferTest {
   private static final TestSupport.Counter CTR = new TestSupport.Counter();
 
+  // --bench: buffer sizes, bytes touched per cell and rep, op count cap.
+  private static final int[] DEFAULT_BENCH_SIZES = {64,         1024,
+                                                    16384,      262144,
+                                                    4 << 20,    64 << 20};
+  private static final int DEFAULT_BENCH_BUDGET = 1 << 24;
+  private static final int DEFAULT_BENCH_REPS = 3;
+  private static final int MAX_BENCH_OPS = 1 << 20;
+  // put/get copy through one array of at most this size, so a 64 MB buffer
+  // does not need a 64 MB array next to it.
+  private static final int BULK_CHUNK = 1 << 20;
+  // A winner less than this fraction ahead of the runner-up is marked "~".
+  private static final double TIE_MARGIN = 0.10;
+
+  private static final String[] KIND_NAMES = {"heap", "direct", "mapped"};
+  private static final int KIND_HEAP = 0;
+  private static final int KIND_DIRECT = 1;
+  private static final int KIND_MAPPED = 2;
+
+  // The first BULK_OPS ops do not depend on byte order; the rest run once
+  // per order. The loops are in ByteBufferLoops (generated), one copy per
+  // kind, in this op order.
+  private static final String[] OP_NAMES = ByteBufferLoops.OP_NAMES;
+  private static final int BULK_OPS = 3;
+  private static final int OP_PUT = 0;
+  private static final int OP_GET = 1;
+  private static final int OP_COMPACT = 2;
+  private static final int OP_VIEW_INT = 3;
+  private static final int OP_VIEW_LONG = 4;
+  private static final int OP_GET_INT_ABS = 5;
+  private static final int OP_PUT_INT_ABS = 6;
+  private static final int OP_GET_LONG_REL = 7;
+  private static final ByteOrder[] ORDERS = {ByteOrder.BIG_ENDIAN,
+                                             ByteOrder.LITTLE_ENDIAN};
+
+  // --codec: RecordCodec records per run, payload sizes 0..MAX_PAYLOAD.
+  private static final int DEFAULT_CODEC_RECORDS = 200000;
+  private static final int DEFAULT_CODEC_REPS = 3;
+  private static final int MAX_PAYLOAD = 256;
+  private static final int CODEC_NAMES = 64;
+  // Without ThreadMXBean the allocation pass is limited to this many
+  // records, so it can finish before the young generation fills up.
+  private static final int HEAP_DELTA_RECORDS = 20000;
+  private static final String[] DECODER_NAMES = {"object", "flyweight",
+                                                 "slice"};
+  private static final int DECODER_OBJECT = 0;
+  private static final int DECODER_FLYWEIGHT = 1;
+
+  private static volatile long BLACKHOLE;
+  // HotSpot's com.sun.management.ThreadMXBean, looked up once; null where
+  // java.lang.management does not exist (ART).
+  private static Object threadBean;
+  private static Method allocatedBytesMethod;
+  private static boolean allocLookupDone;
+
   private ByteBufferTest() {}
 
   public static void main(String[] args) {
     CTR.reset();
+    boolean bench = false;
+    boolean codec = false;
+    int codecRecords = DEFAULT_CODEC_RECORDS;
+    int codecReps = DEFAULT_CODEC_REPS;
+    int[] benchSizes = DEFAULT_BENCH_SIZES;
+    int benchBudget = DEFAULT_BENCH_BUDGET;
+    int benchReps = DEFAULT_BENCH_REPS;
+    for (String s : args) {
+      if ("--bench".equals(s)) {
+        bench = true;
+      } else if (s.startsWith("--benchSizes=")) {
+        benchSizes = parseIntList(s.substring(s.indexOf('=') + 1), benchSizes);
+      } else if (s.startsWith("--benchBudget=")) {
+        benchBudget = parseInt(s.substring(s.indexOf('=') + 1), benchBudget);
+      } else if (s.startsWith("--benchReps=")) {
+        benchReps = parseInt(s.substring(s.indexOf('=') + 1), benchReps);
+      } else if ("--codec".equals(s)) {
+        codec = true;
+      } else if (s.startsWith("--codecRecords=")) {
+        codecRecords = parseInt(s.substring(s.indexOf('=') + 1), codecRecords);
+      } else if (s.startsWith("--codecReps=")) {
+        codecReps = parseInt(s.substring(s.indexOf('=') + 1), codecReps);
+      } else if ("--short".equals(s)) {
+        benchSizes = new int[] {64, 1024, 16384, 262144, 4 << 20};
+        benchBudget = 1 << 21;
+        benchReps = 2;
+        codecRecords = 20000;
+        codecReps = 2;
+      }
+    }
     System.out.println("== ByteBuffer tests ==");
     try {
       testHeapVsDirect();
@@ -25,6 +117,20 @@ public final class ByteBufferTest {
       TestSupport.summary("ByteBufferTest", CTR);
       if (CTR.getFail() != 0)
         System.exit(1);
+      if (bench) {
+        CTR.reset();
+        runBench(benchSizes, Math.max(1, benchBudget), Math.max(1, benchReps));
+        TestSupport.summary("ByteBufferTest.bench", CTR);
+        if (CTR.getFail() != 0)
+          System.exit(1);
+      }
+      if (codec) {
+        CTR.reset();
+        runCodec(Math.max(1, codecRecords), Math.max(1, codecReps));
+        TestSupport.summary("ByteBufferTest.codec", CTR);
+        if (CTR.getFail() != 0)
+          System.exit(1);
+      }
     } catch (Throwable t) {
       t.printStackTrace();
       System.out.println("FAIL=" + (CTR.getFail() + 1));
@@ -130,6 +236,490 @@ public final class ByteBufferTest {
     checkTrue("readonly.throw", threw);
   }
 
+  /**
+   * --bench: MB/s of buffer bytes touched for bulk put/get through a byte[],
+   * compact (bytes moved), int/long views and absolute/relative primitive
+   * access in both byte orders, on heap, direct and mapped buffers of each
+   * size. Every kind runs the same op sequence on the same contents, so each
+   * op's result must match the heap buffer's. Each kind runs its own copy of
+   * the op loops, so no call site mixes heap, direct and mapped receivers.
+   * Ends with the fastest kind per op and size ("~" when the runner-up is
+   * within TIE_MARGIN).
+   */
+  private static void runBench(int[] sizes, int budget, int reps)
+      throws IOException {
+    System.out.println("== ByteBuffer bench ==");
+    System.out.printf(Locale.ROOT, "bbBench: budget=%d bytes/cell reps=%d%n",
+                      budget, reps);
+    int maxSize = 0;
+    for (int size : sizes)
+      maxSize = Math.max(maxSize, size);
+    byte[] chunk = new byte[Math.min(maxSize, BULK_CHUNK)];
+    for (int i = 0; i < chunk.length; i++)
+      chunk[i] = (byte)(i * 31 + 7);
+    // Every op on every kind (and order) gets compiled before any timing.
+    byte[] warmChunk = new byte[Math.min(chunk.length, 4096)];
+    for (int kind = 0; kind < KIND_NAMES.length; kind++) {
+      ByteBuffer buf = newBuffer(kind, 4096);
+      for (ByteOrder order : ORDERS) {
+        buf.order(order);
+        for (int op = 0; op < OP_NAMES.length; op++)
+          BLACKHOLE ^= ByteBufferLoops.run(kind, op, buf, warmChunk, 500);
+      }
+    }
+    int columns = BULK_OPS + (OP_NAMES.length - BULK_OPS) * ORDERS.length;
+    String[][] fastest = new String[columns][sizes.length];
+    for (int si = 0; si < sizes.length; si++) {
+      int size = sizes[si];
+      int ops = Math.max(1, Math.min(MAX_BENCH_OPS, budget / size));
+      ByteBuffer[] bufs = new ByteBuffer[KIND_NAMES.length];
+      for (int kind = 0; kind < bufs.length; kind++) {
+        bufs[kind] = newBuffer(kind, size);
+        bufs[kind].put(chunk, 0, Math.min(size, chunk.length)).clear();
+      }
+      double[][] mbps = new double[columns][bufs.length];
+      int col = 0;
+      for (int o = -1; o < ORDERS.length; o++) {
+        int from = o < 0 ? 0 : BULK_OPS;
+        int to = o < 0 ? BULK_OPS : OP_NAMES.length;
+        for (int op = from; op < to; op++, col++) {
+          String name = OP_NAMES[op] + (o < 0 ? "" : "." + orderName(o));
+          long expected = 0;
+          double best = 0;
+          double second = 0;
+          for (int kind = 0; kind < bufs.length; kind++) {
+            ByteBuffer buf = bufs[kind];
+            buf.order(ORDERS[Math.max(0, o)]);
+            long got = ByteBufferLoops.run(kind, op, buf, chunk, 1);
+            if (kind == KIND_HEAP)
+              expected = got;
+            else
+              checkTrue("bbBench." + KIND_NAMES[kind] + "." + sizeName(size) +
+                            "." + name, got == expected);
+            mbps[col][kind] = benchCell(kind, op, buf, chunk, ops, reps,
+                                        bytesPerOp(op, size));
+            if (mbps[col][kind] > best) {
+              second = best;
+              best = mbps[col][kind];
+              fastest[col][si] = KIND_NAMES[kind];
+            } else {
+              second = Math.max(second, mbps[col][kind]);
+            }
+          }
+          if (second >= best * (1 - TIE_MARGIN))
+            fastest[col][si] += "~";
+        }
+      }
+      for (int kind = 0; kind < bufs.length; kind++)
+        printRows(size, kind, mbps);
+    }
+    int col = 0;
+    for (int o = -1; o < ORDERS.length; o++) {
+      int from = o < 0 ? 0 : BULK_OPS;
+      int to = o < 0 ? BULK_OPS : OP_NAMES.length;
+      for (int op = from; op < to; op++, col++) {
+        StringBuilder sb = new StringBuilder();
+        for (int si = 0; si < sizes.length; si++)
+          sb.append(' ').append(sizeName(sizes[si])).append('=')
+              .append(fastest[col][si]);
+        System.out.printf(Locale.ROOT, "bbBench fastest %-15s%s%n",
+                          OP_NAMES[op] + (o < 0 ? "" : "." + orderName(o)),
+                          sb);
+      }
+    }
+  }
+
+  private static void printRows(int size, int kind, double[][] mbps) {
+    StringBuilder sb = new StringBuilder();
+    int col = 0;
+    for (int o = -1; o < ORDERS.length; o++) {
+      sb.setLength(0);
+      int from = o < 0 ? 0 : BULK_OPS;
+      int to = o < 0 ? BULK_OPS : OP_NAMES.length;
+      for (int op = from; op < to; op++, col++)
+        sb.append(String.format(Locale.ROOT, " %s=%.1f", OP_NAMES[op],
+                                mbps[col][kind]));
+      System.out.printf(Locale.ROOT, "bbBench %-5s %-6s %-4s MB/s:%s%n",
+                        sizeName(size), KIND_NAMES[kind],
+                        o < 0 ? "bulk" : orderName(o), sb);
+    }
+  }
+
+  private static double benchCell(int kind, int op, ByteBuffer buf,
+                                  byte[] chunk, int ops, int reps,
+                                  long bytes) {
+    long best = Long.MAX_VALUE;
+    for (int r = 0; r < reps + 1; r++) {
+      long t0 = System.nanoTime();
+      BLACKHOLE ^= ByteBufferLoops.run(kind, op, buf, chunk, ops);
+      long dt = System.nanoTime() - t0;
+      if (r == 0)
+        continue; // warm-up rep
+      best = Math.min(best, dt);
+    }
+    return bytes * (double)ops / 1048576.0 / (Math.max(1, best) / 1e9);
+  }
+
+  private static long bytesPerOp(int op, int size) {
+    switch (op) {
+    case OP_PUT:
+    case OP_GET:
+      return size;
+    case OP_COMPACT:
+      return size - size / 2;
+    case OP_VIEW_INT:
+    case OP_GET_INT_ABS:
+    case OP_PUT_INT_ABS:
+      return size & ~3;
+    default:
+      return size & ~7;
+    }
+  }
+
+  /**
+   * --codec: packs records into one direct buffer with RecordCodec, checks
+   * the round trip and slice sharing, then decodes every record three ways:
+   * object (RecordCodec.Decoded per record), flyweight (one Record moved
+   * over the buffer) and slice (a read-only slice per record, read through
+   * the flyweight). "header" reads the fixed fields, "full" also hashes the
+   * name and sums the payload. Reports records/s and bytes allocated per
+   * record; all three must produce the same checksum.
+   */
+  private static void runCodec(int records, int reps) {
+    System.out.println("== RecordCodec bench ==");
+    Random rnd = new Random(0x5EEDL);
+    byte[][] names = new byte[CODEC_NAMES][];
+    for (int i = 0; i < names.length; i++) {
+      String name = "svc" + (i % 8) + ".topic." + (i * 37 % 1000) +
+                    (i % 3 == 0 ? ".event" : "");
+      names[i] = name.getBytes(StandardCharsets.US_ASCII);
+    }
+    byte[] pool = new byte[2 * MAX_PAYLOAD];
+    for (int i = 0; i < pool.length; i++)
+      pool[i] = (byte)(i * 13 + 1);
+    int[] nameIdx = new int[records];
+    int[] payLen = new int[records];
+    int[] payOff = new int[records];
+    long total = 0;
+    for (int i = 0; i < records; i++) {
+      nameIdx[i] = rnd.nextInt(names.length);
+      payLen[i] = rnd.nextInt(MAX_PAYLOAD + 1);
+      payOff[i] = rnd.nextInt(MAX_PAYLOAD);
+      total += RecordCodec.recordSize(names[nameIdx[i]].length, payLen[i]);
+    }
+    if (total > Integer.MAX_VALUE) {
+      checkTrue("codec.size<2GB", false);
+      return;
+    }
+    ByteBuffer direct = ByteBuffer.allocateDirect((int)total);
+    RecordCodec.Writer w = null;
+    boolean fit = true;
+    long encodeNs = Long.MAX_VALUE;
+    for (int r = 0; r < reps + 1; r++) {
+      w = new RecordCodec.Writer(direct);
+      long t0 = System.nanoTime();
+      for (int i = 0; i < records; i++) {
+        fit &= w.append(i * 7919L, i & 15, i * 0.5, names[nameIdx[i]], pool,
+                        payOff[i], payLen[i]) >= 0;
+      }
+      long dt = System.nanoTime() - t0;
+      if (r > 0)
+        encodeNs = Math.min(encodeNs, dt);
+    }
+    checkTrue("codec.encode.fit", fit);
+    ByteBuffer packed = w.finish();
+    int[] offsets = RecordCodec.index(packed);
+    checkEq("codec.count", offsets.length, records);
+    checkEq("codec.size", (long)packed.limit(), total);
+    checkCodecRoundTrip(packed, offsets, names, nameIdx, pool, payOff,
+                        payLen);
+
+    boolean exact = threadAllocated() >= 0;
+    System.out.printf(Locale.ROOT, "codec: records=%d bytes=%d " +
+                      "(%.1fB/rec) encode=%.0frec/s alloc=%s reps=%d%n",
+                      records, total, total / (double)records,
+                      records / (encodeNs / 1e9),
+                      exact ? "ThreadMXBean" : "heap delta (approx)", reps);
+    for (int full = 0; full < 2; full++) {
+      String touch = full == 0 ? "header" : "full";
+      long expected = 0;
+      for (int d = 0; d < DECODER_NAMES.length; d++) {
+        long sum = decodePass(d, full != 0, packed, offsets, records);
+        if (d == DECODER_OBJECT)
+          expected = sum;
+        else
+          checkTrue("codec." + touch + "." + DECODER_NAMES[d] + ".checksum",
+                    sum == expected);
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < reps + 1; r++) {
+          long s0 = System.nanoTime();
+          BLACKHOLE ^= decodePass(d, full != 0, packed, offsets, records);
+          long dt = System.nanoTime() - s0;
+          if (r == 0)
+            continue; // warm-up rep
+          best = Math.min(best, dt);
+        }
+        int counted = exact ? records : Math.min(records, HEAP_DELTA_RECORDS);
+        double perRecord =
+            allocatedBytes(d, full != 0, packed, offsets, counted) /
+            (double)counted;
+        System.out.printf(Locale.ROOT, "codec %-6s %-9s %12.0frec/s " +
+                          "%8.1fB/rec%n", touch, DECODER_NAMES[d],
+                          records / (Math.max(1, best) / 1e9), perRecord);
+        if (exact && d == DECODER_FLYWEIGHT)
+          checkTrue("codec." + touch + ".flyweight.noAlloc", perRecord < 1);
+      }
+    }
+  }
+
+  private static void checkCodecRoundTrip(ByteBuffer packed, int[] offsets,
+                                          byte[][] names, int[] nameIdx,
+                                          byte[] pool, int[] payOff,
+                                          int[] payLen) {
+    RecordCodec.Record rec = new RecordCodec.Record();
+    boolean ok = true;
+    int step = Math.max(1, offsets.length / 64);
+    for (int i = 0; i < offsets.length; i += step) {
+      rec.wrap(packed, offsets[i]);
+      ok &= rec.id() == i * 7919L && rec.kind() == (i & 15) &&
+            rec.value() == i * 0.5 && rec.nameEquals(names[nameIdx[i]]) &&
+            rec.payloadLength() == payLen[i];
+      for (int j = 0; j < payLen[i]; j++)
+        ok &= rec.payloadByte(j) == pool[payOff[i] + j];
+    }
+    checkTrue("codec.roundTrip", ok);
+
+    int last = offsets.length - 1;
+    ByteBuffer slice = RecordCodec.slice(packed, offsets[last]);
+    checkTrue("codec.slice.readOnly", slice.isReadOnly());
+    checkTrue("codec.slice.direct", slice.isDirect());
+    checkTrue("codec.slice.order", slice.order() == RecordCodec.ORDER);
+    rec.wrap(slice, 0);
+    checkTrue("codec.slice.fields",
+              rec.id() == last * 7919L &&
+                  rec.name().equals(new String(names[nameIdx[last]],
+                                               StandardCharsets.US_ASCII)));
+    checkEq("codec.slice.capacity", slice.capacity(), rec.length());
+    ByteBuffer payload = rec.payload();
+    checkEq("codec.payload.capacity", payload.capacity(), payLen[last]);
+    if (payLen[last] > 0)
+      checkEq("codec.payload.share", payload.get(0), pool[payOff[last]]);
+    boolean threw = false;
+    try {
+      slice.put(0, (byte)0);
+    } catch (ReadOnlyBufferException e) {
+      threw = true;
+    }
+    checkTrue("codec.slice.put.throws", threw);
+
+    ByteBuffer corrupt = ByteBuffer.allocate(RecordCodec.HEADER)
+                             .order(RecordCodec.ORDER)
+                             .putInt(0, RecordCodec.HEADER + 4);
+    checkTrue("codec.index.badLength", indexRejects(corrupt));
+
+    // A valid length word around a payload (or name) that overruns it; the
+    // name length is the short at 24, the payload length the int at 28.
+    int size = RecordCodec.recordSize(4, 4);
+    corrupt = ByteBuffer.allocate(size).order(RecordCodec.ORDER);
+    new RecordCodec.Writer(corrupt).append(1L, 0, 0.0, new byte[4],
+                                           new byte[4], 0, 4);
+    checkEq("codec.index.valid", RecordCodec.index(corrupt).length, 1);
+    corrupt.putInt(28, size);
+    checkTrue("codec.index.badPayloadLength", indexRejects(corrupt));
+    corrupt.putInt(28, -1);
+    checkTrue("codec.index.negativePayloadLength", indexRejects(corrupt));
+    corrupt.putInt(28, 4).putShort(24, (short)size);
+    checkTrue("codec.index.badNameLength", indexRejects(corrupt));
+  }
+
+  private static boolean indexRejects(ByteBuffer packed) {
+    try {
+      RecordCodec.index(packed);
+      return false;
+    } catch (IllegalArgumentException e) {
+      return true;
+    }
+  }
+
+  // Separate loops per decoder so each gets its own call sites. Only the
+  // first count records are read.
+  private static long decodePass(int decoder, boolean full, ByteBuffer packed,
+                                 int[] offsets, int count) {
+    switch (decoder) {
+    case DECODER_OBJECT:
+      return decodeObjects(full, packed, offsets, count);
+    case DECODER_FLYWEIGHT:
+      return decodeFlyweight(full, packed, offsets, count);
+    default:
+      return decodeSlices(full, packed, offsets, count);
+    }
+  }
+
+  private static long decodeObjects(boolean full, ByteBuffer packed,
+                                    int[] offsets, int count) {
+    ByteBuffer in = packed.duplicate().order(RecordCodec.ORDER);
+    if (count < offsets.length)
+      in.limit(offsets[count]);
+    long sum = 0;
+    while (in.hasRemaining()) {
+      RecordCodec.Decoded d = RecordCodec.Decoded.read(in);
+      sum += d.id + d.kind + (long)d.value;
+      if (full) {
+        sum += d.name.hashCode();
+        for (byte b : d.payload)
+          sum += b;
+      }
+    }
+    return sum;
+  }
+
+  private static long decodeFlyweight(boolean full, ByteBuffer packed,
+                                      int[] offsets, int count) {
+    RecordCodec.Record rec = new RecordCodec.Record();
+    long sum = 0;
+    for (int i = 0; i < count; i++)
+      sum += consume(rec.wrap(packed, offsets[i]), full);
+    return sum;
+  }
+
+  private static long decodeSlices(boolean full, ByteBuffer packed,
+                                   int[] offsets, int count) {
+    RecordCodec.Record rec = new RecordCodec.Record();
+    long sum = 0;
+    for (int i = 0; i < count; i++)
+      sum += consume(rec.wrap(RecordCodec.slice(packed, offsets[i]), 0), full);
+    return sum;
+  }
+
+  private static long consume(RecordCodec.Record rec, boolean full) {
+    long sum = rec.id() + rec.kind() + (long)rec.value();
+    if (full) {
+      sum += rec.nameHash();
+      ByteBuffer buf = rec.buffer();
+      for (int p = rec.payloadOffset(), end = p + rec.payloadLength(); p < end;
+           p++)
+        sum += buf.get(p);
+    }
+    return sum;
+  }
+
+  private static long allocatedBytes(int decoder, boolean full,
+                                     ByteBuffer packed, int[] offsets,
+                                     int count) {
+    long before = threadAllocated();
+    if (before >= 0) {
+      BLACKHOLE ^= decodePass(decoder, full, packed, offsets, count);
+      return threadAllocated() - before;
+    }
+    Runtime rt = Runtime.getRuntime();
+    long base = usedAfterGc();
+    BLACKHOLE ^= decodePass(decoder, full, packed, offsets, count);
+    return Math.max(0, rt.totalMemory() - rt.freeMemory() - base);
+  }
+
+  // Bytes allocated so far by this thread, or -1 without ThreadMXBean.
+  private static long threadAllocated() {
+    if (!allocLookupDone) {
+      allocLookupDone = true;
+      try {
+        Object bean = Class.forName("java.lang.management.ManagementFactory")
+                          .getMethod("getThreadMXBean")
+                          .invoke(null);
+        Class<?> ext = Class.forName("com.sun.management.ThreadMXBean");
+        if (ext.isInstance(bean)) {
+          allocatedBytesMethod =
+              ext.getMethod("getThreadAllocatedBytes", long.class);
+          threadBean = bean;
+        }
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        threadBean = null;
+      }
+    }
+    if (threadBean == null)
+      return -1;
+    try {
+      return (Long)allocatedBytesMethod.invoke(threadBean,
+                                               Thread.currentThread().getId());
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return -1;
+    }
+  }
+
+  private static long usedAfterGc() {
+    Runtime rt = Runtime.getRuntime();
+    for (int i = 0; i < 2; i++) {
+      System.gc();
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return rt.totalMemory() - rt.freeMemory();
+  }
+
+  // Mapped buffers come from a temp file that is unlinked right away; the
+  // mapping stays valid until it is collected.
+  private static ByteBuffer newBuffer(int kind, int size) throws IOException {
+    if (kind == KIND_HEAP)
+      return ByteBuffer.allocate(size);
+    if (kind == KIND_DIRECT)
+      return ByteBuffer.allocateDirect(size);
+    File f = createTempUnderDataTmp("bbbench", ".bin");
+    try (RandomAccessFile raf = new RandomAccessFile(f, "rw");
+         FileChannel ch = raf.getChannel()) {
+      raf.setLength(size);
+      return ch.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    } finally {
+      if (!f.delete())
+        f.deleteOnExit();
+    }
+  }
+
+  private static String orderName(int o) {
+    return ORDERS[o] == ByteOrder.BIG_ENDIAN ? "BE" : "LE";
+  }
+
+  private static String sizeName(int size) {
+    if (size >= 1 << 20 && size % (1 << 20) == 0)
+      return (size >> 20) + "MB";
+    if (size >= 1 << 10 && size % (1 << 10) == 0)
+      return (size >> 10) + "KB";
+    return size + "B";
+  }
+
+  private static File createTempUnderDataTmp(String prefix, String suffix)
+      throws IOException {
+    // System tmpdir first, then /data/local/tmp (writable from adb shell).
+    try {
+      return File.createTempFile(prefix, suffix);
+    } catch (IOException e) {
+      File dir = new File("/data/local/tmp");
+      if (!dir.exists())
+        dir.mkdirs();
+      return new File(dir, prefix + "-" + System.nanoTime() + suffix);
+    }
+  }
+
+  private static int[] parseIntList(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      out[i] = parseInt(parts[i], 0);
+      if (out[i] <= 0)
+        return fallback;
+    }
+    return out;
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+
   private static void checkEq(String name, int got, int exp) {
     TestSupport.checkEq(name, got, exp, CTR);
   }
@@ -186,83 +186,39 @@ public class BytecodePlayground {
   static Object retA() { return "ok"; }
   static void retV() {}
 
-  static int PASS = 0, FAIL = 0;
+  private static final TestSupport.Counter CTR = new TestSupport.Counter();
   static void log(String msg) { System.out.println(msg); }
 
   // ====== 断言 ======
   static void checkEq(String name, int got, int exp) {
-    if (got != exp) {
-      System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
-      FAIL++;
-    } else {
-      System.out.print("OK   ");
-      System.out.print(name);
-      System.out.print(": ");
-      System.out.println(got);
-      PASS++;
-    }
+    TestSupport.checkEq(name, got, exp, CTR);
   }
   static void checkEq(String name, long got, long exp) {
-    if (got != exp) {
-      System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
-      FAIL++;
-    } else {
-      System.out.println("OK   " + name + ": " + got);
-      PASS++;
-    }
+    TestSupport.checkEq(name, got, exp, CTR);
   }
   static void checkEq(String name, Object got, Object exp) {
-    boolean ok = (exp == null ? got == null : exp.equals(got));
-    if (!ok) {
-      System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
-      FAIL++;
-    } else {
-      System.out.println("OK   " + name + ": " + got);
-      PASS++;
-    }
+    TestSupport.checkEq(name, got, exp, CTR);
   }
   static void checkEq(String name, float got, float exp, float eps) {
-    if (Math.abs(got - exp) > eps) {
-      System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
-      FAIL++;
-    } else {
-      System.out.println("OK   " + name + ": " + got);
-      PASS++;
-    }
+    TestSupport.checkApprox(name, got, exp, eps, CTR);
   }
   static void checkEq(String name, double got, double exp, double eps) {
-    if (Math.abs(got - exp) > eps) {
-      System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
-      FAIL++;
-    } else {
-      System.out.println("OK   " + name + ": " + got);
-      PASS++;
-    }
+    TestSupport.checkApprox(name, got, exp, eps, CTR);
   }
   static void checkTrue(String name, boolean ok) {
-    if (!ok) {
-      System.out.println("FAIL " + name);
-      FAIL++;
-    } else {
-      System.out.println("OK   " + name);
-      PASS++;
-    }
+    TestSupport.checkTrue(name, ok, CTR);
   }
   static <T extends Throwable> void expectThrows(String name, Class<T> type,
                                                  Runnable r) {
     try {
       r.run();
-      System.out.println("FAIL " + name + ": no exception");
-      FAIL++;
+      TestSupport.checkTrue(name + ": no exception", false, CTR);
     } catch (Throwable t) {
-      if (type.isInstance(t)) {
-        System.out.println("OK   " + name + ": " +
-                           t.getClass().getSimpleName());
-        PASS++;
-      } else {
-        System.out.println("FAIL " + name + ": " + t);
-        FAIL++;
-      }
+      if (type.isInstance(t))
+        TestSupport.checkTrue(name + ": " + t.getClass().getSimpleName(), true,
+                              CTR);
+      else
+        TestSupport.checkTrue(name + ": " + t, false, CTR);
     }
   }
 
@@ -719,10 +675,10 @@ public class BytecodePlayground {
   // ====== 新增：参数传递压力测试（利用自带 native API） ======
   private static void runParamPassingStress() {
     log("== Builtin native param-passing stress ==");
-    int pass0 = PASS, fail0 = FAIL;
+    int pass0 = CTR.getPass(), fail0 = CTR.getFail();
     testArraycopy5_Params();
     log(String.format(Locale.ROOT, "ParamStress ΔPASS=%d ΔFAIL=%d",
-                      PASS - pass0, FAIL - fail0));
+                      CTR.getPass() - pass0, CTR.getFail() - fail0));
   }
 
   /**
@@ -821,7 +777,7 @@ public class BytecodePlayground {
       // 新增：参数传递压力测试
       runParamPassingStress();
 
-      System.out.println("SELFTEST PASS=" + PASS + " FAIL=" + FAIL);
+      TestSupport.summary("SELFTEST", CTR);
     } else {
       log("== 跳过自检 ==");
     }
@@ -966,8 +922,7 @@ public class BytecodePlayground {
     S_L = 2L;
     S_F = 3f;
     S_D = 4d;
-    PASS = 0;
-    FAIL = 0;
+    CTR.reset();
 
     BytecodePlayground be = new BytecodePlayground();
     A a = new A();
@@ -1038,8 +993,8 @@ public class BytecodePlayground {
     log("retV() called");
 
     log("== 自检 SUMMARY ==");
-    System.out.println("PASS=" + PASS + " FAIL=" + FAIL);
-    if (FAIL != 0)
+    System.out.println("PASS=" + CTR.getPass() + " FAIL=" + CTR.getFail());
+    if (CTR.getFail() != 0)
       System.out.println("自检失败，但继续进入 Soak。");
   }
 
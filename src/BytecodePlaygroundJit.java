@@ -3,6 +3,9 @@
  
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
 
 public final class BytecodePlaygroundJit {
   private static final int WARM_ITERS = 4096;
@@ -438,11 +441,168 @@ public final class BytecodePlaygroundJit {
     }
   }
 
+  // ====== 多态调用点基准 ======
+  // 接收者类 MegaReceivers.Impl<k> 由 tools/MegaReceiverGen.java 生成，
+  // Impl<k>.apply(x) == x + k，方便按接收者下标算期望值。
+  private static final int DIST_STABLE = 0;   // 90% 固定主类，其余均匀
+  private static final int DIST_SHIFTING = 1; // 主类每个 batch 换一个
+  private static final int DIST_UNIFORM = 2;  // 所有类均匀
+  private static final String[] DIST_NAMES = {"stable", "shifting", "uniform"};
+  private static final int SEQ_LEN = 4096; // 接收者序列，下标 i & (SEQ_LEN-1)
+
+  // 每种分布一个独立调用点；同一调用点上接收者类数逐步增加。
+  private static long megaCall(int dist, MegaReceivers.I[] seq, int calls) {
+    long acc = 0;
+    switch (dist) {
+    case DIST_STABLE:
+      for (int i = 0; i < calls; i++)
+        acc += seq[i & (SEQ_LEN - 1)].apply(i);
+      break;
+    case DIST_SHIFTING:
+      for (int i = 0; i < calls; i++)
+        acc += seq[i & (SEQ_LEN - 1)].apply(i);
+      break;
+    default:
+      for (int i = 0; i < calls; i++)
+        acc += seq[i & (SEQ_LEN - 1)].apply(i);
+      break;
+    }
+    return acc;
+  }
+
+  private static long megaExpected(int[] idx, int calls) {
+    long acc = 0;
+    for (int i = 0; i < calls; i++)
+      acc += i + idx[i & (SEQ_LEN - 1)];
+    return acc;
+  }
+
+  private static void fillReceivers(int dist, int impls, int batch, Random rnd,
+                                    MegaReceivers.I[] seq, int[] idx) {
+    int dominant = dist == DIST_SHIFTING ? batch % impls : 0;
+    for (int i = 0; i < seq.length; i++) {
+      int k;
+      if (dist == DIST_UNIFORM || rnd.nextInt(10) == 0)
+        k = rnd.nextInt(impls);
+      else
+        k = dominant;
+      idx[i] = k;
+      seq[i] = MegaReceivers.RECEIVERS[k];
+    }
+  }
+
+  /**
+   * 对每种分布，在同一调用点上依次用 1..64 个接收者类跑 batches 个 batch，
+   * 报告中位数 ns/call 与吞吐。调用点状态无法从 Java 读出，所以用计时推断：
+   * 中位数比上一档涨 1.5 倍以上记为 "step"（多半是变成 megamorphic），
+   * 单个 batch 超过本档中位数 3 倍记为 spike（多半是 deopt/重编译）。
+   * 要确认请配合 -verbose:jit（ART）或 -XX:+PrintCompilation（HotSpot）。
+   */
+  private static void runMegaBench(int[] implCounts, int[] dists, int batches,
+                                   int calls) {
+    log("== 多态调用点基准 batches=" + batches + " calls=" + calls + " ==");
+    Random rnd = new Random(0x5EEDL);
+    MegaReceivers.I[] seq = new MegaReceivers.I[SEQ_LEN];
+    int[] idx = new int[SEQ_LEN];
+    double[] ns = new double[batches];
+    int maxImpls = MegaReceivers.RECEIVERS.length;
+    for (int dist : dists) {
+      double prevMedian = 0;
+      // 先用第一档接收者把调用点跑热，不计时，也不引入新的接收者类
+      fillReceivers(dist, Math.max(1, Math.min(implCounts[0], maxImpls)), 0,
+                    rnd, seq, idx);
+      for (int b = 0; b < batches; b++)
+        megaCall(dist, seq, calls);
+      for (int impls : implCounts) {
+        impls = Math.max(1, Math.min(impls, maxImpls));
+        int spikes = 0;
+        for (int b = 0; b < batches; b++) {
+          fillReceivers(dist, impls, b, rnd, seq, idx);
+          long t0 = System.nanoTime();
+          long got = megaCall(dist, seq, calls);
+          ns[b] = (System.nanoTime() - t0) / (double)calls;
+          if (b == 0) {
+            checkEq("mega." + DIST_NAMES[dist] + ".n" + impls, got,
+                    megaExpected(idx, calls));
+          }
+        }
+        double[] sorted = Arrays.copyOf(ns, batches);
+        Arrays.sort(sorted);
+        double median = sorted[batches / 2];
+        for (int b = 0; b < batches; b++) {
+          if (ns[b] > median * 3)
+            spikes++;
+        }
+        boolean step = prevMedian > 0 && median > prevMedian * 1.5;
+        System.out.printf(Locale.ROOT,
+                          "mega %-8s impls=%2d median=%6.2fns max=%7.2fns " +
+                              "%6.1f Mcalls/s spikes=%d%s%n",
+                          DIST_NAMES[dist], impls, median, sorted[batches - 1],
+                          1e3 / median, spikes, step ? " step" : "");
+        prevMedian = median;
+      }
+    }
+  }
+
+  private static int[] parseIntList(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      try {
+        out[i] = Integer.parseInt(parts[i].trim());
+      } catch (NumberFormatException e) {
+        return fallback;
+      }
+    }
+    return out;
+  }
+
+  private static int[] parseDists(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      out[i] = Arrays.asList(DIST_NAMES).indexOf(parts[i].trim());
+      if (out[i] < 0)
+        return fallback;
+    }
+    return out;
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+
   private static void logSummary() {
     TestSupport.summary("BytecodePlaygroundJit", CTR);
   }
 
   public static void main(String[] args) {
+    boolean megaBench = false;
+    int[] megaImpls = {1, 2, 4, 8, 16, 64};
+    int[] megaDists = {DIST_STABLE, DIST_SHIFTING, DIST_UNIFORM};
+    int megaBatches = 20;
+    int megaCalls = 200000;
+    for (String s : args) {
+      if ("--megaBench".equals(s)) {
+        megaBench = true;
+      } else if (s.startsWith("--megaImpls=")) {
+        megaImpls = parseIntList(s.substring(s.indexOf('=') + 1), megaImpls);
+      } else if (s.startsWith("--megaDist=")) {
+        megaDists = parseDists(s.substring(s.indexOf('=') + 1), megaDists);
+      } else if (s.startsWith("--megaBatches=")) {
+        megaBatches = parseInt(s.substring(s.indexOf('=') + 1), megaBatches);
+      } else if (s.startsWith("--megaCalls=")) {
+        megaCalls = parseInt(s.substring(s.indexOf('=') + 1), megaCalls);
+      } else if ("--short".equals(s)) {
+        megaBatches = 8;
+        megaCalls = 50000;
+      }
+    }
+
     CTR.reset();
     System.out.println("== JIT 预热自检 (独立版) ==");
     requestJitCompilation();
@@ -464,6 +624,10 @@ public final class BytecodePlaygroundJit {
     testParameterSpill();
     testRegisterSpill();
     testReturns();
+    if (megaBench) {
+      runMegaBench(megaImpls, megaDists, Math.max(1, megaBatches),
+                   Math.max(1, megaCalls));
+    }
     System.out.println("== DONE ==");
     logSummary();
   }
@@ -0,0 +1,426 @@
+// CollationSortBench.java
+// Sorting localized strings: Collator.compare vs precomputed CollationKeys,
+// single-threaded vs fork-join merge sort. ICUTestSuite --collSort feeds it
+// an android.icu Collator; run standalone it uses java.text.Collator.
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+public final class CollationSortBench {
+  private static final TestSupport.Counter CTR = new TestSupport.Counter();
+
+  // Small sizes locate the crossover; --full adds 10^6 and 10^7, which take
+  // minutes with compare-based sorting.
+  private static final int[] DEFAULT_SIZES = {10, 100, 1000, 10000, 100000};
+  private static final int[] FULL_SIZES = {10,     100,     1000,    10000,
+                                           100000, 1000000, 10000000};
+  private static final int DEFAULT_REPS = 3;
+  // Sizes at or above this are timed once (after the smaller sizes warmed
+  // every path); a 10^6 compare sort already takes seconds.
+  private static final int SINGLE_REP_SIZE = 100000;
+  // Below this, reps are multiplied so a sort of a few microseconds is not
+  // lost in timer noise.
+  private static final int SMALL_SIZE = 1000;
+  private static final int SMALL_REP_FACTOR = 20;
+  private static final int SEQ_THRESHOLD = 8192;
+  private static final long SEED = 0xC0FFEEL;
+  private static final String[] MODE_NAMES = {"compare.single",
+                                              "compare.parallel",
+                                              "keys.single", "keys.parallel"};
+
+  // Contact-list style names with shared prefixes and accented letters.
+  private static final String[] FIRST = {
+      "Åsa",   "Anna",   "Anders", "Ängel",  "Björn", "Berit",  "Émile",
+      "Elin",  "Erik",   "Ørjan",  "Olof",   "Östen", "Zoë",    "Zlatan",
+      "Ida",   "Ingrid", "Jörg",   "Jonas",  "Lars",  "Léa",    "Märta",
+      "Maria", "Nils",   "Noël",   "Per",    "Päivi", "Sören",  "Sara",
+      "Tove",  "Ulla",   "Åke",    "Chloé",  "Dörte", "Gustav", "Hélène",
+      "Karin", "Maja",   "Oskar",  "Rut",    "Vera"};
+  private static final String[] LAST = {
+      "Andersson", "Åberg",    "Öberg",     "Ekström",  "Ängström",
+      "Berg",      "Bergström", "Carlsson", "Dahl",     "Eriksson",
+      "Fält",      "Gustafsson", "Hägg",    "Holm",     "Isaksson",
+      "Jönsson",   "Karlsson", "Lindqvist", "Löfgren",  "Mårtensson",
+      "Nilsson",   "Nordström", "Olsson",   "Östlund",  "Persson",
+      "Pettersson", "Rönn",    "Sjögren",   "Sundén",   "Svensson",
+      "Törnqvist", "Wallin",   "Wikström",  "Åkesson",  "Ørsted",
+      "Dupré",     "Lefèvre",  "Müller",    "Schäfer",  "Zäch"};
+
+  private static volatile long BLACKHOLE;
+
+  private CollationSortBench() {}
+
+  /** The collator operations the benchmark needs; K is the key type. */
+  public interface Coll<K> {
+    int compare(String a, String b);
+
+    K key(String s);
+
+    int compareKeys(K a, K b);
+
+    /** Size of the key's sort bytes. */
+    int keyBytes(K key);
+
+    /** An independent instance for another worker thread. */
+    Coll<K> copy();
+  }
+
+  public static void main(String[] args) {
+    CTR.reset();
+    boolean ok = run("java.text", new JavaTextColl(new Locale("sv", "SE")),
+                     args);
+    TestSupport.summary("CollationSortBench", CTR);
+    if (!ok)
+      System.exit(1);
+  }
+
+  /**
+   * For each size: sort a copy of the same names with compare and with
+   * keys (key generation included in the key time), on one thread and on a
+   * fork-join pool, check all four orders agree, and report ms per sort,
+   * sorts/s, key payload bytes and the retained heap of the key entries.
+   * The crossover is the first size from which keys stay faster.
+   */
+  public static <K> boolean run(String label, Coll<K> coll, String[] args) {
+    int failBefore = CTR.getFail();
+    int[] sizes = DEFAULT_SIZES;
+    int reps = DEFAULT_REPS;
+    int threads = Runtime.getRuntime().availableProcessors();
+    for (String s : args) {
+      if (s.startsWith("--sortSizes=")) {
+        sizes = parseIntList(s.substring(s.indexOf('=') + 1), sizes);
+      } else if (s.startsWith("--sortReps=")) {
+        reps = parseInt(s.substring(s.indexOf('=') + 1), reps);
+      } else if (s.startsWith("--sortThreads=")) {
+        threads = parseInt(s.substring(s.indexOf('=') + 1), threads);
+      } else if ("--short".equals(s)) {
+        sizes = new int[] {10, 100, 1000, 10000};
+        reps = 2;
+      } else if ("--full".equals(s)) {
+        sizes = FULL_SIZES;
+      }
+    }
+    reps = Math.max(1, reps);
+    threads = Math.max(1, threads);
+    System.out.printf(Locale.ROOT, "collSort [%s]: sizes=%s reps=%d " +
+                      "threads=%d%n", label, Arrays.toString(sizes), reps,
+                      threads);
+    final ThreadLocal<Coll<K>> local = perThread(coll);
+    final ThreadLocal<Comparator<String>> compares =
+        ThreadLocal.withInitial(() -> local.get()::compare);
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    int crossSingle = -1;
+    int crossParallel = -1;
+    try {
+      for (int n : sizes) {
+        String[] input = names(n);
+        int r = n >= SINGLE_REP_SIZE ? 1
+                : n < SMALL_SIZE ? reps * SMALL_REP_FACTOR : reps;
+        double[] ms = new double[4];
+        String[][] out = new String[4][];
+        for (int mode = 0; mode < 4; mode++) {
+          long best = Long.MAX_VALUE;
+          int runs = r == 1 ? 1 : r + 1;
+          for (int i = 0; i < runs; i++) {
+            String[] a = input.clone();
+            long t0 = System.nanoTime();
+            sort(mode, a, coll, local, compares, pool);
+            long dt = System.nanoTime() - t0;
+            out[mode] = a;
+            if (runs > 1 && i == 0)
+              continue; // warm-up rep
+            best = Math.min(best, dt);
+          }
+          ms[mode] = best / 1e6;
+        }
+        for (int mode = 1; mode < 4; mode++) {
+          TestSupport.checkTrue("collSort." + label + ".n" + n + "." +
+                                    MODE_NAMES[mode],
+                                Arrays.equals(out[0], out[mode]), CTR);
+        }
+        long payload = 0;
+        for (int i = 0; i < n; i += Math.max(1, n / 10000))
+          payload += coll.keyBytes(coll.key(input[i]));
+        double bytesPerKey = payload / (double)Math.min(n, 10000);
+        long heap = keyEntryHeap(coll, input);
+        System.out.printf(Locale.ROOT,
+                          "collSort [%s] n=%d compare: single=%.3fms " +
+                              "(%.1f sorts/s) parallel=%.3fms (%.1f sorts/s)%n",
+                          label, n, ms[0], 1e3 / ms[0], ms[1], 1e3 / ms[1]);
+        System.out.printf(Locale.ROOT,
+                          "collSort [%s] n=%d keys:    single=%.3fms " +
+                              "(%.1f sorts/s) parallel=%.3fms (%.1f sorts/s) " +
+                              "key=%.1fB/str heap=%.1fMB%n",
+                          label, n, ms[2], 1e3 / ms[2], ms[3], 1e3 / ms[3],
+                          bytesPerKey, heap / (1024.0 * 1024.0));
+        if (ms[2] < ms[0]) {
+          if (crossSingle < 0)
+            crossSingle = n;
+        } else {
+          crossSingle = -1;
+        }
+        if (ms[3] < ms[1]) {
+          if (crossParallel < 0)
+            crossParallel = n;
+        } else {
+          crossParallel = -1;
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+    System.out.printf(Locale.ROOT,
+                      "collSort [%s] crossover (keys faster from): " +
+                          "single=%s parallel=%s%n",
+                      label, crossSingle < 0 ? "none" : "n=" + crossSingle,
+                      crossParallel < 0 ? "none" : "n=" + crossParallel);
+    return CTR.getFail() == failBefore;
+  }
+
+  private static <K> void sort(int mode, String[] a, Coll<K> coll,
+                               ThreadLocal<Coll<K>> local,
+                               ThreadLocal<Comparator<String>> compares,
+                               ForkJoinPool pool) {
+    switch (mode) {
+    case 0:
+      Arrays.sort(a, coll::compare);
+      break;
+    case 1:
+      parallelSort(a, compares::get, pool);
+      break;
+    case 2:
+      sortByKeys(a, coll, local, null);
+      break;
+    default:
+      sortByKeys(a, coll, local, pool);
+      break;
+    }
+  }
+
+  /** Builds key entries (in parallel when a pool is given), sorts, unpacks. */
+  private static <K> void sortByKeys(String[] a, final Coll<K> coll,
+                                     final ThreadLocal<Coll<K>> local,
+                                     ForkJoinPool pool) {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    final Entry<K>[] entries = (Entry<K>[])new Entry[a.length];
+    if (pool == null) {
+      for (int i = 0; i < a.length; i++)
+        entries[i] = new Entry<K>(coll.key(a[i]), a[i]);
+      Arrays.sort(entries, (x, y) -> coll.compareKeys(x.key, y.key));
+    } else {
+      pool.invoke(new KeyTask<K>(a, entries, 0, a.length, local));
+      final Comparator<Entry<K>> byKey =
+          (x, y) -> coll.compareKeys(x.key, y.key);
+      parallelSort(entries, () -> byKey, pool);
+    }
+    for (int i = 0; i < a.length; i++)
+      a[i] = entries[i].s;
+  }
+
+  /** Retained heap of one full entry array, measured around a GC. */
+  private static <K> long keyEntryHeap(Coll<K> coll, String[] input) {
+    long before = usedAfterGc();
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Entry<K>[] entries = (Entry<K>[])new Entry[input.length];
+    for (int i = 0; i < input.length; i++)
+      entries[i] = new Entry<K>(coll.key(input[i]), input[i]);
+    long after = usedAfterGc();
+    BLACKHOLE ^= System.identityHashCode(entries[entries.length - 1]);
+    return Math.max(0, after - before);
+  }
+
+  private static long usedAfterGc() {
+    Runtime rt = Runtime.getRuntime();
+    for (int i = 0; i < 2; i++) {
+      System.gc();
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return rt.totalMemory() - rt.freeMemory();
+  }
+
+  /**
+   * cmps is asked once per task, so a per-worker comparator costs one
+   * ThreadLocal lookup per task rather than one per compare.
+   */
+  private static <T> void parallelSort(
+      T[] a, Supplier<? extends Comparator<? super T>> cmps,
+      ForkJoinPool pool) {
+    T[] tmp = a.clone();
+    pool.invoke(new MergeSortTask<T>(a, tmp, 0, a.length, cmps));
+  }
+
+  private static <K> ThreadLocal<Coll<K>> perThread(final Coll<K> coll) {
+    return new ThreadLocal<Coll<K>>() {
+      @Override
+      protected Coll<K> initialValue() {
+        return coll.copy();
+      }
+    };
+  }
+
+  /** Deterministic contact names; duplicates are expected at large n. */
+  static String[] names(int n) {
+    Random rnd = new Random(SEED);
+    String[] out = new String[n];
+    StringBuilder sb = new StringBuilder(32);
+    for (int i = 0; i < n; i++) {
+      sb.setLength(0);
+      sb.append(FIRST[rnd.nextInt(FIRST.length)]);
+      if (rnd.nextInt(4) == 0)
+        sb.append(' ').append((char)('A' + rnd.nextInt(26))).append('.');
+      sb.append(' ').append(LAST[rnd.nextInt(LAST.length)]);
+      if (rnd.nextInt(3) == 0)
+        sb.append('-').append(LAST[rnd.nextInt(LAST.length)]);
+      out[i] = sb.toString();
+    }
+    return out;
+  }
+
+  static final class Entry<K> {
+    final K key;
+    final String s;
+
+    Entry(K key, String s) {
+      this.key = key;
+      this.s = s;
+    }
+  }
+
+  /** Stable merge sort: halves in parallel, sequential merge. */
+  static final class MergeSortTask<T> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final T[] a;
+    private final T[] tmp;
+    private final int lo;
+    private final int hi;
+    private final Supplier<? extends Comparator<? super T>> cmps;
+
+    MergeSortTask(T[] a, T[] tmp, int lo, int hi,
+                  Supplier<? extends Comparator<? super T>> cmps) {
+      this.a = a;
+      this.tmp = tmp;
+      this.lo = lo;
+      this.hi = hi;
+      this.cmps = cmps;
+    }
+
+    @Override
+    protected void compute() {
+      Comparator<? super T> cmp = cmps.get();
+      if (hi - lo <= SEQ_THRESHOLD) {
+        Arrays.sort(a, lo, hi, cmp);
+        return;
+      }
+      int mid = (lo + hi) >>> 1;
+      invokeAll(new MergeSortTask<T>(a, tmp, lo, mid, cmps),
+                new MergeSortTask<T>(a, tmp, mid, hi, cmps));
+      System.arraycopy(a, lo, tmp, lo, hi - lo);
+      int i = lo;
+      int j = mid;
+      for (int k = lo; k < hi; k++) {
+        if (j >= hi || (i < mid && cmp.compare(tmp[i], tmp[j]) <= 0))
+          a[k] = tmp[i++];
+        else
+          a[k] = tmp[j++];
+      }
+    }
+  }
+
+  /** Builds key entries for [lo, hi) with each worker's own collator. */
+  static final class KeyTask<K> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final String[] src;
+    private final Entry<K>[] dst;
+    private final int lo;
+    private final int hi;
+    private final ThreadLocal<Coll<K>> local;
+
+    KeyTask(String[] src, Entry<K>[] dst, int lo, int hi,
+            ThreadLocal<Coll<K>> local) {
+      this.src = src;
+      this.dst = dst;
+      this.lo = lo;
+      this.hi = hi;
+      this.local = local;
+    }
+
+    @Override
+    protected void compute() {
+      if (hi - lo <= SEQ_THRESHOLD) {
+        Coll<K> c = local.get();
+        for (int i = lo; i < hi; i++)
+          dst[i] = new Entry<K>(c.key(src[i]), src[i]);
+        return;
+      }
+      int mid = (lo + hi) >>> 1;
+      invokeAll(new KeyTask<K>(src, dst, lo, mid, local),
+                new KeyTask<K>(src, dst, mid, hi, local));
+    }
+  }
+
+  /** java.text.Collator; compare is synchronized, hence one per thread. */
+  static final class JavaTextColl implements Coll<CollationKey> {
+    private final Collator collator;
+
+    JavaTextColl(Locale locale) { this(Collator.getInstance(locale)); }
+
+    private JavaTextColl(Collator collator) { this.collator = collator; }
+
+    @Override
+    public int compare(String a, String b) {
+      return collator.compare(a, b);
+    }
+
+    @Override
+    public CollationKey key(String s) {
+      return collator.getCollationKey(s);
+    }
+
+    @Override
+    public int compareKeys(CollationKey a, CollationKey b) {
+      return a.compareTo(b);
+    }
+
+    @Override
+    public int keyBytes(CollationKey key) {
+      return key.toByteArray().length;
+    }
+
+    @Override
+    public Coll<CollationKey> copy() {
+      return new JavaTextColl((Collator)collator.clone());
+    }
+  }
+
+  private static int[] parseIntList(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      out[i] = parseInt(parts[i], 0);
+      if (out[i] <= 0)
+        return fallback;
+    }
+    return out;
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+}
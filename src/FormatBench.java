@@ -0,0 +1,379 @@
+// FormatBench.java
+// Formatter construction vs per-operation cost, and what caching buys.
+// ICUTestSuite --bench feeds it android.icu services; run standalone (host
+// or device) it falls back to the matching java.text classes.
+
+import java.text.BreakIterator;
+import java.text.Collator;
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+public final class FormatBench {
+  private static final TestSupport.Counter CTR = new TestSupport.Counter();
+
+  private static final int DEFAULT_OPS = 20000;
+  private static final int DEFAULT_COLD_OPS = 500;
+  private static final int DEFAULT_REPS = 3;
+  private static final int CHECK_OPS = 64;
+
+  private static final int STRATEGY_SHARED = 0;
+  private static final int STRATEGY_COLD = 1;
+  private static final int STRATEGY_CLONE = 2;
+  private static final int STRATEGY_THREAD_LOCAL = 3;
+
+  // Shared inputs so every service does comparable work per operation.
+  static final String[] WORDS = {"ångström", "zebra",   "äpple",  "Öl",
+                                 "apa",      "Zürich",  "école",  "ETA",
+                                 "eta",      "résumé",  "resume", "Åre"};
+  static final String BREAK_TEXT =
+      "Hello ICU, the quick brown fox jumps over 12 lazy dogs. 世界!";
+  static final long BASE_MILLIS = 1626255000000L; // 2021-07-14T09:30Z
+
+  private static volatile long BLACKHOLE;
+
+  // Next FormatBenchLoops slot; each Service gets its own loop copies.
+  private static int nextSlot;
+
+  private FormatBench() {}
+
+  /** One operation on a formatter-like instance; returns a digest. */
+  public interface Use<T> {
+    long apply(T inst, int i);
+  }
+
+  /** Creates / copies instances of one formatter kind. */
+  public interface Factory<T> {
+    T create();
+  }
+
+  /** Clones an instance; null in a Service means the class has no clone. */
+  public interface Copier<T> {
+    T copy(T proto);
+  }
+
+  public static final class Service<T> {
+    final String name;
+    final Factory<T> factory;
+    final Copier<T> copier;
+    final Use<T> use;
+    final int slot;
+    // Set by measureFirst; -1 until then.
+    long firstNs = -1;
+
+    private Service(String name, Factory<T> factory, Copier<T> copier,
+                    Use<T> use, int slot) {
+      this.name = name;
+      this.factory = factory;
+      this.copier = copier;
+      this.use = use;
+      this.slot = slot;
+    }
+
+    public static <T> Service<T> of(String name, Factory<T> factory,
+                                    Copier<T> copier, Use<T> use) {
+      int slot;
+      synchronized (FormatBench.class) {
+        slot = nextSlot++ % FormatBenchLoops.SLOTS;
+      }
+      return new Service<T>(name, factory, copier, use, slot);
+    }
+  }
+
+  public static void main(String[] args) {
+    CTR.reset();
+    boolean ok = run("java.text", javaTextServices(), args);
+    TestSupport.summary("FormatBench", CTR);
+    if (!ok)
+      System.exit(1);
+  }
+
+  /** Digest of a formatted string, hashed over every char. */
+  public static long digest(String s) {
+    return s.length() * 31L + s.hashCode();
+  }
+
+  /**
+   * Times the first construction of each service that has none recorded yet.
+   * Call it before anything else touches these classes (ICUTestSuite does so
+   * before its tests) so first= includes class loading and locale data.
+   */
+  public static void measureFirst(List<Service<?>> services) {
+    for (Service<?> s : services) {
+      if (s.firstNs >= 0)
+        continue;
+      long t0 = System.nanoTime();
+      try {
+        BLACKHOLE ^= System.identityHashCode(s.factory.create());
+      } catch (RuntimeException | LinkageError e) {
+        // Reported when run() skips the service.
+      }
+      s.firstNs = System.nanoTime() - t0;
+    }
+  }
+
+  /**
+   * Per service: the first construction in the process (class loading and
+   * locale data), then steady-state construction and clone cost, the cost of
+   * one operation on a shared instance, and ns per operation for the three
+   * caching strategies a caller can pick: cold (construct per op), clone
+   * (clone a prototype per op) and a ThreadLocal cached instance. Every
+   * service runs its own copies of the strategy loops (FormatBenchLoops), so
+   * no call site mixes services, and the strategies are timed in alternating
+   * order. Returns false if any strategy produced different results from the
+   * shared one.
+   */
+  public static boolean run(String label, List<Service<?>> services,
+                            String[] args) {
+    int failBefore = CTR.getFail();
+    int ops = DEFAULT_OPS;
+    int coldOps = DEFAULT_COLD_OPS;
+    int reps = DEFAULT_REPS;
+    for (String s : args) {
+      if (s.startsWith("--benchOps=")) {
+        ops = parseInt(s.substring(s.indexOf('=') + 1), ops);
+      } else if (s.startsWith("--benchColdOps=")) {
+        coldOps = parseInt(s.substring(s.indexOf('=') + 1), coldOps);
+      } else if (s.startsWith("--benchReps=")) {
+        reps = parseInt(s.substring(s.indexOf('=') + 1), reps);
+      } else if ("--short".equals(s)) {
+        ops = 2000;
+        coldOps = 50;
+        reps = 2;
+      }
+    }
+    ops = Math.max(CHECK_OPS, ops);
+    coldOps = Math.max(1, coldOps);
+    reps = Math.max(1, reps);
+    System.out.printf(Locale.ROOT,
+                      "fmtBench [%s]: ops=%d coldOps=%d reps=%d%n", label, ops,
+                      coldOps, reps);
+    measureFirst(services);
+    for (Service<?> s : services) {
+      try {
+        runService(label, s, ops, coldOps, reps);
+      } catch (RuntimeException | LinkageError e) {
+        System.out.printf(Locale.ROOT, "fmtBench [%s] %s skipped: %s%n", label,
+                          s.name, e);
+      }
+    }
+    return CTR.getFail() == failBefore;
+  }
+
+  private static <T> void runService(String label, Service<T> s, int ops,
+                                     int coldOps, int reps) {
+    T proto = s.factory.create();
+    double firstMs = s.firstNs / 1e6;
+    boolean canClone = s.copier != null;
+
+    long expect = loop(s, proto, null, STRATEGY_SHARED, CHECK_OPS);
+    TestSupport.checkEq("fmtBench." + label + "." + s.name + ".cold",
+                        loop(s, proto, null, STRATEGY_COLD, CHECK_OPS), expect,
+                        CTR);
+    if (canClone)
+      TestSupport.checkEq("fmtBench." + label + "." + s.name + ".clone",
+                          loop(s, proto, null, STRATEGY_CLONE, CHECK_OPS),
+                          expect, CTR);
+    ThreadLocal<T> tl = newThreadLocal(s);
+    TestSupport.checkEq("fmtBench." + label + "." + s.name + ".threadLocal",
+                        loop(s, proto, tl, STRATEGY_THREAD_LOCAL, CHECK_OPS),
+                        expect, CTR);
+
+    int[] strategies = canClone
+        ? new int[] {STRATEGY_SHARED, STRATEGY_COLD, STRATEGY_CLONE,
+                     STRATEGY_THREAD_LOCAL}
+        : new int[] {STRATEGY_SHARED, STRATEGY_COLD, STRATEGY_THREAD_LOCAL};
+    int[] strategyOps = new int[STRATEGY_THREAD_LOCAL + 1];
+    strategyOps[STRATEGY_SHARED] = ops;
+    strategyOps[STRATEGY_COLD] = coldOps;
+    strategyOps[STRATEGY_CLONE] = coldOps;
+    strategyOps[STRATEGY_THREAD_LOCAL] = ops;
+
+    // Warm every path before timing any of them, so the first strategy
+    // measured does not pay for compiling the shared formatter code.
+    for (int st : strategies)
+      BLACKHOLE ^= loop(s, proto, tl, st, strategyOps[st]);
+
+    double constructNs = timeConstruct(s, coldOps, reps);
+    double cloneNs = canClone ? timeClone(s, proto, coldOps, reps) : 0;
+    double[] perOp = timeStrategies(s, proto, tl, strategies, strategyOps,
+                                    reps);
+    double sharedNs = perOp[STRATEGY_SHARED];
+
+    System.out.printf(Locale.ROOT,
+                      "fmtBench [%s] %-18s first=%.2fms construct=%.2fus " +
+                          "clone=%s op=%.0fns (construct = %.1f ops)%n",
+                      label, s.name, firstMs, constructNs / 1e3,
+                      canClone ? String.format(Locale.ROOT, "%.2fus",
+                                               cloneNs / 1e3)
+                               : "n/a",
+                      sharedNs, constructNs / Math.max(1.0, sharedNs));
+    System.out.printf(Locale.ROOT,
+                      "fmtBench [%s] %-18s per op: cold=%.0fns clone=%s " +
+                          "threadLocal=%.0fns shared=%.0fns%n",
+                      label, s.name, perOp[STRATEGY_COLD],
+                      canClone ? String.format(Locale.ROOT, "%.0fns",
+                                               perOp[STRATEGY_CLONE])
+                               : "n/a",
+                      perOp[STRATEGY_THREAD_LOCAL], sharedNs);
+  }
+
+  /**
+   * Best ns/op per strategy over {@code reps} rounds after one warm-up
+   * round. Each round times every strategy once, forwards on even rounds
+   * and backwards on odd ones, so none always runs first or last.
+   */
+  private static <T> double[] timeStrategies(Service<T> s, T proto,
+                                             ThreadLocal<T> tl,
+                                             int[] strategies, int[] ops,
+                                             int reps) {
+    long[] best = new long[ops.length];
+    Arrays.fill(best, Long.MAX_VALUE);
+    for (int r = 0; r < reps + 1; r++) {
+      for (int k = 0; k < strategies.length; k++) {
+        int st = strategies[(r & 1) == 0 ? k : strategies.length - 1 - k];
+        long t0 = System.nanoTime();
+        long sink = loop(s, proto, tl, st, ops[st]);
+        long dt = System.nanoTime() - t0;
+        BLACKHOLE ^= sink;
+        if (r == 0)
+          continue; // warm-up round
+        best[st] = Math.min(best[st], dt);
+      }
+    }
+    double[] perOp = new double[ops.length];
+    for (int st : strategies)
+      perOp[st] = best[st] / (double)ops[st];
+    return perOp;
+  }
+
+  private static <T> long loop(Service<T> s, T proto, ThreadLocal<T> tl,
+                               int strategy, int ops) {
+    switch (strategy) {
+    case STRATEGY_SHARED:
+      return FormatBenchLoops.shared(s.slot, s, proto, ops);
+    case STRATEGY_COLD:
+      return FormatBenchLoops.cold(s.slot, s, ops);
+    case STRATEGY_CLONE:
+      return FormatBenchLoops.clone(s.slot, s, proto, ops);
+    default:
+      return FormatBenchLoops.threadLocal(s.slot, s, tl, ops);
+    }
+  }
+
+  private static <T> double timeConstruct(Service<T> s, int n, int reps) {
+    long best = Long.MAX_VALUE;
+    for (int r = 0; r < reps + 1; r++) {
+      long t0 = System.nanoTime();
+      BLACKHOLE ^= FormatBenchLoops.construct(s.slot, s, n);
+      long dt = System.nanoTime() - t0;
+      if (r == 0)
+        continue;
+      best = Math.min(best, dt);
+    }
+    return best / (double)n;
+  }
+
+  private static <T> double timeClone(Service<T> s, T proto, int n,
+                                      int reps) {
+    long best = Long.MAX_VALUE;
+    for (int r = 0; r < reps + 1; r++) {
+      long t0 = System.nanoTime();
+      BLACKHOLE ^= FormatBenchLoops.copy(s.slot, s, proto, n);
+      long dt = System.nanoTime() - t0;
+      if (r == 0)
+        continue;
+      best = Math.min(best, dt);
+    }
+    return best / (double)n;
+  }
+
+  private static <T> ThreadLocal<T> newThreadLocal(final Service<T> s) {
+    return new ThreadLocal<T>() {
+      @Override
+      protected T initialValue() {
+        return s.factory.create();
+      }
+    };
+  }
+
+  /**
+   * java.text counterparts of the ICUTestSuite services. CompactDecimalFormat,
+   * Transliterator, MeasureFormat and RelativeDateTimeFormatter have no
+   * java.text equivalent; MessageFormat uses a choice pattern because
+   * java.text has no plural/select.
+   */
+  public static List<Service<?>> javaTextServices() {
+    List<Service<?>> list = new ArrayList<>();
+    list.add(Service.of(
+        "NumberFormat", () -> NumberFormat.getInstance(Locale.GERMANY),
+        nf -> (NumberFormat)nf.clone(),
+        (nf, i) -> digest(nf.format(12345.678 + i))));
+    list.add(Service.of("CurrencyFormat",
+                        () -> {
+                          NumberFormat nf = NumberFormat.getCurrencyInstance(
+                              Locale.CANADA_FRENCH);
+                          nf.setCurrency(Currency.getInstance("EUR"));
+                          return nf;
+                        },
+                        nf -> (NumberFormat)nf.clone(),
+                        (nf, i) -> digest(nf.format(42.5 + i))));
+    list.add(Service.of("SimpleDateFormat",
+                        () -> {
+                          DateFormat df = new SimpleDateFormat(
+                              "yyyy-MM-dd HH:mm z", Locale.US);
+                          df.setTimeZone(TimeZone.getTimeZone("UTC"));
+                          return df;
+                        },
+                        df -> (DateFormat)df.clone(),
+                        (df, i) -> digest(df.format(
+                            new Date(BASE_MILLIS + i * 60_000L)))));
+    list.add(Service.of("Collator",
+                        () -> {
+                          Collator c = Collator.getInstance(
+                              new Locale("sv", "SE"));
+                          c.setStrength(Collator.SECONDARY);
+                          return c;
+                        },
+                        c -> (Collator)c.clone(),
+                        (c, i) -> c.compare(WORDS[i % WORDS.length],
+                                            WORDS[(i + 1) % WORDS.length])));
+    list.add(Service.of("BreakIterator",
+                        () -> BreakIterator.getWordInstance(Locale.US),
+                        bi -> (BreakIterator)bi.clone(),
+                        (bi, i) -> countBreaks(bi, BREAK_TEXT)));
+    list.add(Service.of(
+        "MessageFormat",
+        () -> new MessageFormat(
+            "{0,choice,0#no files|1#one file|1<{0,number,integer} files} " +
+                "uploaded by {1}.",
+            Locale.US),
+        mf -> (MessageFormat)mf.clone(),
+        (mf, i) -> digest(mf.format(new Object[] {i % 7, "them"}))));
+    return list;
+  }
+
+  static long countBreaks(BreakIterator bi, String text) {
+    bi.setText(text);
+    long n = 0;
+    for (int end = bi.next(); end != BreakIterator.DONE; end = bi.next())
+      n++;
+    return n;
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+}
@@ -0,0 +1,1812 @@
+// FormatBenchLoops.java
+// GENERATED by tools/FormatLoopGen.java; do not edit.
+// Regenerate with `make FormatBenchLoops-gen`.
+
+final class FormatBenchLoops {
+  static final int SLOTS = 32;
+
+  private FormatBenchLoops() {}
+
+  static <T> long shared(int slot, FormatBench.Service<T> s, T inst, int ops) {
+    switch (slot) {
+    case 0:
+      return shared0(s, inst, ops);
+    case 1:
+      return shared1(s, inst, ops);
+    case 2:
+      return shared2(s, inst, ops);
+    case 3:
+      return shared3(s, inst, ops);
+    case 4:
+      return shared4(s, inst, ops);
+    case 5:
+      return shared5(s, inst, ops);
+    case 6:
+      return shared6(s, inst, ops);
+    case 7:
+      return shared7(s, inst, ops);
+    case 8:
+      return shared8(s, inst, ops);
+    case 9:
+      return shared9(s, inst, ops);
+    case 10:
+      return shared10(s, inst, ops);
+    case 11:
+      return shared11(s, inst, ops);
+    case 12:
+      return shared12(s, inst, ops);
+    case 13:
+      return shared13(s, inst, ops);
+    case 14:
+      return shared14(s, inst, ops);
+    case 15:
+      return shared15(s, inst, ops);
+    case 16:
+      return shared16(s, inst, ops);
+    case 17:
+      return shared17(s, inst, ops);
+    case 18:
+      return shared18(s, inst, ops);
+    case 19:
+      return shared19(s, inst, ops);
+    case 20:
+      return shared20(s, inst, ops);
+    case 21:
+      return shared21(s, inst, ops);
+    case 22:
+      return shared22(s, inst, ops);
+    case 23:
+      return shared23(s, inst, ops);
+    case 24:
+      return shared24(s, inst, ops);
+    case 25:
+      return shared25(s, inst, ops);
+    case 26:
+      return shared26(s, inst, ops);
+    case 27:
+      return shared27(s, inst, ops);
+    case 28:
+      return shared28(s, inst, ops);
+    case 29:
+      return shared29(s, inst, ops);
+    case 30:
+      return shared30(s, inst, ops);
+    case 31:
+      return shared31(s, inst, ops);
+    default:
+      throw new IllegalArgumentException("slot=" + slot);
+    }
+  }
+
+  static <T> long cold(int slot, FormatBench.Service<T> s, int ops) {
+    switch (slot) {
+    case 0:
+      return cold0(s, ops);
+    case 1:
+      return cold1(s, ops);
+    case 2:
+      return cold2(s, ops);
+    case 3:
+      return cold3(s, ops);
+    case 4:
+      return cold4(s, ops);
+    case 5:
+      return cold5(s, ops);
+    case 6:
+      return cold6(s, ops);
+    case 7:
+      return cold7(s, ops);
+    case 8:
+      return cold8(s, ops);
+    case 9:
+      return cold9(s, ops);
+    case 10:
+      return cold10(s, ops);
+    case 11:
+      return cold11(s, ops);
+    case 12:
+      return cold12(s, ops);
+    case 13:
+      return cold13(s, ops);
+    case 14:
+      return cold14(s, ops);
+    case 15:
+      return cold15(s, ops);
+    case 16:
+      return cold16(s, ops);
+    case 17:
+      return cold17(s, ops);
+    case 18:
+      return cold18(s, ops);
+    case 19:
+      return cold19(s, ops);
+    case 20:
+      return cold20(s, ops);
+    case 21:
+      return cold21(s, ops);
+    case 22:
+      return cold22(s, ops);
+    case 23:
+      return cold23(s, ops);
+    case 24:
+      return cold24(s, ops);
+    case 25:
+      return cold25(s, ops);
+    case 26:
+      return cold26(s, ops);
+    case 27:
+      return cold27(s, ops);
+    case 28:
+      return cold28(s, ops);
+    case 29:
+      return cold29(s, ops);
+    case 30:
+      return cold30(s, ops);
+    case 31:
+      return cold31(s, ops);
+    default:
+      throw new IllegalArgumentException("slot=" + slot);
+    }
+  }
+
+  static <T> long clone(int slot, FormatBench.Service<T> s, T proto, int ops) {
+    switch (slot) {
+    case 0:
+      return clone0(s, proto, ops);
+    case 1:
+      return clone1(s, proto, ops);
+    case 2:
+      return clone2(s, proto, ops);
+    case 3:
+      return clone3(s, proto, ops);
+    case 4:
+      return clone4(s, proto, ops);
+    case 5:
+      return clone5(s, proto, ops);
+    case 6:
+      return clone6(s, proto, ops);
+    case 7:
+      return clone7(s, proto, ops);
+    case 8:
+      return clone8(s, proto, ops);
+    case 9:
+      return clone9(s, proto, ops);
+    case 10:
+      return clone10(s, proto, ops);
+    case 11:
+      return clone11(s, proto, ops);
+    case 12:
+      return clone12(s, proto, ops);
+    case 13:
+      return clone13(s, proto, ops);
+    case 14:
+      return clone14(s, proto, ops);
+    case 15:
+      return clone15(s, proto, ops);
+    case 16:
+      return clone16(s, proto, ops);
+    case 17:
+      return clone17(s, proto, ops);
+    case 18:
+      return clone18(s, proto, ops);
+    case 19:
+      return clone19(s, proto, ops);
+    case 20:
+      return clone20(s, proto, ops);
+    case 21:
+      return clone21(s, proto, ops);
+    case 22:
+      return clone22(s, proto, ops);
+    case 23:
+      return clone23(s, proto, ops);
+    case 24:
+      return clone24(s, proto, ops);
+    case 25:
+      return clone25(s, proto, ops);
+    case 26:
+      return clone26(s, proto, ops);
+    case 27:
+      return clone27(s, proto, ops);
+    case 28:
+      return clone28(s, proto, ops);
+    case 29:
+      return clone29(s, proto, ops);
+    case 30:
+      return clone30(s, proto, ops);
+    case 31:
+      return clone31(s, proto, ops);
+    default:
+      throw new IllegalArgumentException("slot=" + slot);
+    }
+  }
+
+  static <T> long threadLocal(
+      int slot, FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    switch (slot) {
+    case 0:
+      return threadLocal0(s, tl, ops);
+    case 1:
+      return threadLocal1(s, tl, ops);
+    case 2:
+      return threadLocal2(s, tl, ops);
+    case 3:
+      return threadLocal3(s, tl, ops);
+    case 4:
+      return threadLocal4(s, tl, ops);
+    case 5:
+      return threadLocal5(s, tl, ops);
+    case 6:
+      return threadLocal6(s, tl, ops);
+    case 7:
+      return threadLocal7(s, tl, ops);
+    case 8:
+      return threadLocal8(s, tl, ops);
+    case 9:
+      return threadLocal9(s, tl, ops);
+    case 10:
+      return threadLocal10(s, tl, ops);
+    case 11:
+      return threadLocal11(s, tl, ops);
+    case 12:
+      return threadLocal12(s, tl, ops);
+    case 13:
+      return threadLocal13(s, tl, ops);
+    case 14:
+      return threadLocal14(s, tl, ops);
+    case 15:
+      return threadLocal15(s, tl, ops);
+    case 16:
+      return threadLocal16(s, tl, ops);
+    case 17:
+      return threadLocal17(s, tl, ops);
+    case 18:
+      return threadLocal18(s, tl, ops);
+    case 19:
+      return threadLocal19(s, tl, ops);
+    case 20:
+      return threadLocal20(s, tl, ops);
+    case 21:
+      return threadLocal21(s, tl, ops);
+    case 22:
+      return threadLocal22(s, tl, ops);
+    case 23:
+      return threadLocal23(s, tl, ops);
+    case 24:
+      return threadLocal24(s, tl, ops);
+    case 25:
+      return threadLocal25(s, tl, ops);
+    case 26:
+      return threadLocal26(s, tl, ops);
+    case 27:
+      return threadLocal27(s, tl, ops);
+    case 28:
+      return threadLocal28(s, tl, ops);
+    case 29:
+      return threadLocal29(s, tl, ops);
+    case 30:
+      return threadLocal30(s, tl, ops);
+    case 31:
+      return threadLocal31(s, tl, ops);
+    default:
+      throw new IllegalArgumentException("slot=" + slot);
+    }
+  }
+
+  static <T> long construct(int slot, FormatBench.Service<T> s, int ops) {
+    switch (slot) {
+    case 0:
+      return construct0(s, ops);
+    case 1:
+      return construct1(s, ops);
+    case 2:
+      return construct2(s, ops);
+    case 3:
+      return construct3(s, ops);
+    case 4:
+      return construct4(s, ops);
+    case 5:
+      return construct5(s, ops);
+    case 6:
+      return construct6(s, ops);
+    case 7:
+      return construct7(s, ops);
+    case 8:
+      return construct8(s, ops);
+    case 9:
+      return construct9(s, ops);
+    case 10:
+      return construct10(s, ops);
+    case 11:
+      return construct11(s, ops);
+    case 12:
+      return construct12(s, ops);
+    case 13:
+      return construct13(s, ops);
+    case 14:
+      return construct14(s, ops);
+    case 15:
+      return construct15(s, ops);
+    case 16:
+      return construct16(s, ops);
+    case 17:
+      return construct17(s, ops);
+    case 18:
+      return construct18(s, ops);
+    case 19:
+      return construct19(s, ops);
+    case 20:
+      return construct20(s, ops);
+    case 21:
+      return construct21(s, ops);
+    case 22:
+      return construct22(s, ops);
+    case 23:
+      return construct23(s, ops);
+    case 24:
+      return construct24(s, ops);
+    case 25:
+      return construct25(s, ops);
+    case 26:
+      return construct26(s, ops);
+    case 27:
+      return construct27(s, ops);
+    case 28:
+      return construct28(s, ops);
+    case 29:
+      return construct29(s, ops);
+    case 30:
+      return construct30(s, ops);
+    case 31:
+      return construct31(s, ops);
+    default:
+      throw new IllegalArgumentException("slot=" + slot);
+    }
+  }
+
+  static <T> long copy(int slot, FormatBench.Service<T> s, T proto, int ops) {
+    switch (slot) {
+    case 0:
+      return copy0(s, proto, ops);
+    case 1:
+      return copy1(s, proto, ops);
+    case 2:
+      return copy2(s, proto, ops);
+    case 3:
+      return copy3(s, proto, ops);
+    case 4:
+      return copy4(s, proto, ops);
+    case 5:
+      return copy5(s, proto, ops);
+    case 6:
+      return copy6(s, proto, ops);
+    case 7:
+      return copy7(s, proto, ops);
+    case 8:
+      return copy8(s, proto, ops);
+    case 9:
+      return copy9(s, proto, ops);
+    case 10:
+      return copy10(s, proto, ops);
+    case 11:
+      return copy11(s, proto, ops);
+    case 12:
+      return copy12(s, proto, ops);
+    case 13:
+      return copy13(s, proto, ops);
+    case 14:
+      return copy14(s, proto, ops);
+    case 15:
+      return copy15(s, proto, ops);
+    case 16:
+      return copy16(s, proto, ops);
+    case 17:
+      return copy17(s, proto, ops);
+    case 18:
+      return copy18(s, proto, ops);
+    case 19:
+      return copy19(s, proto, ops);
+    case 20:
+      return copy20(s, proto, ops);
+    case 21:
+      return copy21(s, proto, ops);
+    case 22:
+      return copy22(s, proto, ops);
+    case 23:
+      return copy23(s, proto, ops);
+    case 24:
+      return copy24(s, proto, ops);
+    case 25:
+      return copy25(s, proto, ops);
+    case 26:
+      return copy26(s, proto, ops);
+    case 27:
+      return copy27(s, proto, ops);
+    case 28:
+      return copy28(s, proto, ops);
+    case 29:
+      return copy29(s, proto, ops);
+    case 30:
+      return copy30(s, proto, ops);
+    case 31:
+      return copy31(s, proto, ops);
+    default:
+      throw new IllegalArgumentException("slot=" + slot);
+    }
+  }
+
+  private static <T> long shared0(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold0(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone0(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal0(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct0(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy0(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared1(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold1(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone1(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal1(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct1(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy1(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared2(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold2(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone2(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal2(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct2(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy2(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared3(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold3(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone3(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal3(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct3(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy3(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared4(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold4(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone4(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal4(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct4(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy4(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared5(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold5(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone5(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal5(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct5(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy5(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared6(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold6(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone6(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal6(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct6(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy6(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared7(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold7(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone7(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal7(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct7(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy7(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared8(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold8(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone8(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal8(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct8(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy8(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared9(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold9(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone9(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal9(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct9(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy9(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared10(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold10(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone10(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal10(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct10(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy10(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared11(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold11(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone11(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal11(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct11(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy11(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared12(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold12(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone12(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal12(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct12(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy12(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared13(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold13(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone13(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal13(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct13(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy13(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared14(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold14(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone14(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal14(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct14(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy14(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared15(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold15(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone15(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal15(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct15(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy15(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared16(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold16(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone16(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal16(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct16(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy16(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared17(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold17(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone17(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal17(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct17(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy17(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared18(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold18(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone18(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal18(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct18(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy18(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared19(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold19(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone19(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal19(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct19(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy19(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared20(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold20(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone20(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal20(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct20(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy20(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared21(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold21(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone21(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal21(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct21(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy21(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared22(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold22(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone22(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal22(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct22(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy22(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared23(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold23(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone23(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal23(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct23(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy23(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared24(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold24(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone24(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal24(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct24(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy24(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared25(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold25(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone25(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal25(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct25(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy25(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared26(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold26(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone26(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal26(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct26(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy26(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared27(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold27(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone27(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal27(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct27(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy27(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared28(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold28(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone28(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal28(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct28(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy28(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared29(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold29(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone29(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal29(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct29(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy29(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared30(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold30(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone30(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal30(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct30(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy30(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+
+  private static <T> long shared31(FormatBench.Service<T> s, T inst, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(inst, i);
+    return sum;
+  }
+
+  private static <T> long cold31(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.factory.create(), i);
+    return sum;
+  }
+
+  private static <T> long clone31(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(s.copier.copy(proto), i);
+    return sum;
+  }
+
+  private static <T> long threadLocal31(
+      FormatBench.Service<T> s, ThreadLocal<T> tl, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += s.use.apply(tl.get(), i);
+    return sum;
+  }
+
+  private static <T> long construct31(FormatBench.Service<T> s, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.factory.create());
+    return sum;
+  }
+
+  private static <T> long copy31(FormatBench.Service<T> s, T proto, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += System.identityHashCode(s.copier.copy(proto));
+    return sum;
+  }
+}
@@ -4,6 +4,7 @@ import java.lang.ref.*;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -157,7 +158,139 @@ public final class GcReferenceSuite {
         System.out.println("  interned literal equality: " + (s2 == s3));
     }
 
+    // --- 7) 引用处理延迟基准（--refBench[=maxCount]） ---
+    private enum RefKind { WEAK, SOFT, PHANTOM }
+
+    private static Reference<Object> newRef(RefKind kind, Object referent,
+                                            ReferenceQueue<Object> q) {
+        switch (kind) {
+            case WEAK: return new WeakReference<>(referent, q);
+            case SOFT: return new SoftReference<>(referent, q);
+            default: return new PhantomReference<>(referent, q);
+        }
+    }
+
+    private static void benchReferences(int maxCount, double dropRatio) {
+        System.out.println("[7] Reference processing benchmark (max=" + maxCount
+                + ", drop=" + dropRatio + ")");
+        for (RefKind kind : RefKind.values()) {
+            for (int n = 1000; n <= maxCount; n *= 10) {
+                benchOne(kind, n, dropRatio);
+            }
+        }
+    }
+
+    /**
+     * n 个引用各自指向一个 16B referent；丢弃前 drop 个 referent 的强引用后触发 GC，
+     * 测量 GC 停顿、丢弃→首个/全部入队的延迟以及 ReferenceQueue.remove 吞吐。
+     * Soft 在显式 GC 下可能不清理，此时追加分配压力直到清理或超时。
+     */
+    private static void benchOne(RefKind kind, int n, double dropRatio) {
+        ReferenceQueue<Object> q = new ReferenceQueue<>();
+        Object[] referents = new Object[n];
+        Reference<?>[] refs = new Reference<?>[n];
+        long c0 = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            referents[i] = new byte[16];
+            refs[i] = newRef(kind, referents[i], q);
+        }
+        long createNs = System.nanoTime() - c0;
+
+        long g0 = System.nanoTime();
+        System.gc();
+        long gcLiveNs = System.nanoTime() - g0;
+
+        int drop = (int) Math.min(n, Math.round(n * dropRatio));
+        for (int i = 0; i < drop; i++) referents[i] = null;
+        long t0 = System.nanoTime();
+        System.gc();
+        long gcDropNs = System.nanoTime() - t0;
+
+        long[] firstLast = {-1, -1};
+        int got = drain(q, drop, 0, firstLast, kind == RefKind.SOFT ? 200 : 2000);
+        long pressureNs = 0;
+        long pressureBytes = 0;
+        if (got < drop && kind == RefKind.SOFT) {
+            long p0 = System.nanoTime();
+            try {
+                List<byte[]> press = new ArrayList<>();
+                while (got < drop && System.nanoTime() - p0 < 10_000_000_000L) {
+                    press.add(new byte[1 << 20]);
+                    pressureBytes += 1 << 20;
+                    got = drain(q, drop, got, firstLast, 0);
+                }
+            } catch (OutOfMemoryError oom) {
+                // press 随 try 块失去作用域，下面的 drain 不再持有它
+            }
+            got = drain(q, drop, got, firstLast, 1000);
+            pressureNs = System.nanoTime() - p0;
+        }
+
+        int survivorsLost = 0;
+        if (kind != RefKind.PHANTOM) {
+            for (int i = drop; i < n; i++) {
+                if (refs[i].get() != referents[i]) survivorsLost++;
+            }
+        }
+        double drainSecs = (firstLast[1] - firstLast[0]) / 1e9;
+        System.out.printf(Locale.ROOT,
+                "  %-7s n=%-8d create=%.1fns/ref gc(live)=%.2fms gc(drop)=%.2fms"
+                        + " (%.1fns/dropped) enqueued=%d/%d first=%.2fms all=%.2fms"
+                        + " remove=%.0f refs/s%s%n",
+                kind, n, createNs / (double) n, gcLiveNs / 1e6, gcDropNs / 1e6,
+                drop == 0 ? 0.0 : gcDropNs / (double) drop, got, drop,
+                firstLast[0] < 0 ? -1.0 : (firstLast[0] - t0) / 1e6,
+                firstLast[1] < 0 ? -1.0 : (firstLast[1] - t0) / 1e6,
+                (got > 1 && drainSecs > 0) ? (got - 1) / drainSecs : 0.0,
+                pressureNs > 0
+                        ? String.format(Locale.ROOT, " pressure=%.0fms/%dMB",
+                                pressureNs / 1e6, pressureBytes >> 20)
+                        : "");
+        assertTrue(survivorsLost == 0, kind + " survivors must stay reachable");
+        for (int i = 0; i < n; i++) {
+            refs[i].clear();
+            refs[i] = null;
+        }
+    }
+
+    /** 从队列取出直到 want 个或 timeoutMs 内再无入队；timeoutMs=0 仅 poll */
+    private static int drain(ReferenceQueue<Object> q, int want, int got,
+                             long[] firstLast, long timeoutMs) {
+        while (got < want) {
+            Reference<?> r;
+            try {
+                r = timeoutMs > 0 ? q.remove(timeoutMs) : q.poll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (r == null) break;
+            long now = System.nanoTime();
+            if (firstLast[0] < 0) firstLast[0] = now;
+            firstLast[1] = now;
+            got++;
+        }
+        return got;
+    }
+
     public static void main(String[] args) throws Exception {
+        int refBenchMax = 0;
+        double refBenchDrop = 1.0;
+        for (String s : args) {
+            if ("--refBench".equals(s)) {
+                refBenchMax = 100_000;
+            } else if (s.startsWith("--refBench=")) {
+                refBenchMax = Integer.parseInt(s.substring(s.indexOf('=') + 1));
+            } else if (s.startsWith("--refBenchDrop=")) {
+                refBenchDrop = Double.parseDouble(s.substring(s.indexOf('=') + 1));
+            }
+        }
+        if (refBenchMax > 0) {
+            System.out.println("=== ART VM Reference Benchmark START ===");
+            benchReferences(refBenchMax, Math.max(0, Math.min(1, refBenchDrop)));
+            System.out.println("=== ART VM Reference Benchmark DONE ===");
+            return;
+        }
         System.out.println("=== ART VM Self-Test START ===");
         testAllocAndGC();
         testReferences();
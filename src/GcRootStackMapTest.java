@@ -1,6 +1,11 @@
 // GcRootStackMapTest.java
 // Stresses stack map / GC root liveness with local-only references.
  
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class GcRootStackMapTest {
   private static final TestSupport.Counter CTR = new TestSupport.Counter();
@@ -12,6 +17,14 @@ public final class GcRootStackMapTest {
   private static final int DEFAULT_ALLOC_SIZE = 1024;
   private static final int DEFAULT_GC_STRIDE = 256;
   private static final int DEFAULT_CHAIN_LEN = 16;
+  private static final int DEFAULT_MARK_BENCH_NODES = 1 << 16;
+  private static final int STACK_BENCH_GC_ROUNDS = 5;
+  private static final long DEEP_STACK_BYTES = 16L * 1024 * 1024;
+  private static final int DEFAULT_SWEEP_GC_MS = 5;
+  private static final int SWEEP_GCS = 20;
+
+  // Optional GraphShapes graph held only in hotRoot's locals (--graphShape=).
+  private static GraphShapes.Shape SHAPE;
 
   private static final class Marker {
     final int id;
@@ -77,18 +90,36 @@ public final class GcRootStackMapTest {
     final Marker primary;
     final Marker secondary;
     final Node head;
+    final GraphShapes.Graph shaped;
     final int checksum;
 
     RootResult(Object keep, Marker primary, Marker secondary, Node head,
-               int checksum) {
+               GraphShapes.Graph shaped, int checksum) {
       this.keep = keep;
       this.primary = primary;
       this.secondary = secondary;
       this.head = head;
+      this.shaped = shaped;
       this.checksum = checksum;
     }
   }
 
+  /**
+   * Object held in a frame-local vreg by the stack-root benchmark. tag is not
+   * final and every instance escapes through SINK, so the allocation cannot
+   * be scalar-replaced and tag must be re-read after the call, which keeps
+   * the reference live in the frame's stack map while the GC walks it.
+   */
+  private static final class StackRoot {
+    int tag;
+
+    StackRoot(int tag) { this.tag = tag; }
+  }
+
+  private interface Bottom {
+    int reached();
+  }
+
   private GcRootStackMapTest() {}
 
   public static void main(String[] args) {
@@ -101,6 +132,14 @@ public final class GcRootStackMapTest {
     int allocSize = DEFAULT_ALLOC_SIZE;
     int gcStride = DEFAULT_GC_STRIDE;
     int chainLen = DEFAULT_CHAIN_LEN;
+    int markBenchNodes = 0;
+    boolean stackBench = false;
+    int[] stackDepths = {16, 64, 256};
+    int[] stackRefs = {1, 4, 16};
+    int[] stackThreads = {0, 8, 32};
+    int threadSweep = 0;
+    int sweepGcMs = DEFAULT_SWEEP_GC_MS;
+    SHAPE = null;
 
     for (String s : args) {
       if (s.startsWith("--iters=")) {
@@ -113,6 +152,26 @@ public final class GcRootStackMapTest {
         gcStride = parseInt(s.substring(s.indexOf('=') + 1), gcStride);
       } else if (s.startsWith("--chainLen=")) {
         chainLen = parseInt(s.substring(s.indexOf('=') + 1), chainLen);
+      } else if (s.startsWith("--graphShape=")) {
+        SHAPE = GraphShapes.Shape.parse("root", s.substring(s.indexOf('=') + 1));
+      } else if ("--markBench".equals(s)) {
+        markBenchNodes = DEFAULT_MARK_BENCH_NODES;
+      } else if (s.startsWith("--markBench=")) {
+        markBenchNodes =
+            parseInt(s.substring(s.indexOf('=') + 1), DEFAULT_MARK_BENCH_NODES);
+      } else if (s.startsWith("--threadSweep=")) {
+        threadSweep = parseInt(s.substring(s.indexOf('=') + 1), threadSweep);
+      } else if (s.startsWith("--sweepGcMs=")) {
+        sweepGcMs = parseInt(s.substring(s.indexOf('=') + 1), sweepGcMs);
+      } else if ("--stackBench".equals(s)) {
+        stackBench = true;
+      } else if (s.startsWith("--stackDepths=")) {
+        stackDepths = parseIntList(s.substring(s.indexOf('=') + 1), stackDepths);
+      } else if (s.startsWith("--stackRefs=")) {
+        stackRefs = parseIntList(s.substring(s.indexOf('=') + 1), stackRefs);
+      } else if (s.startsWith("--stackThreads=")) {
+        stackThreads =
+            parseIntList(s.substring(s.indexOf('=') + 1), stackThreads);
       } else if ("--short".equals(s)) {
         iters = 5000;
         rounds = 2;
@@ -139,9 +198,38 @@ public final class GcRootStackMapTest {
     if (chainLen < 4)
       chainLen = 4;
 
+    if (stackBench) {
+      runStackRootBench(stackDepths, stackRefs, stackThreads);
+      TestSupport.summary("GcRootStackMapTest", CTR);
+      if (CTR.getFail() != 0)
+        System.exit(1);
+      return;
+    }
+    if (markBenchNodes > 0) {
+      int failed = GraphShapes.runMarkingSweep(
+          "GcRootStackMapTest", GraphShapes.sweep(markBenchNodes), 5,
+          new Random(0x5eed));
+      TestSupport.checkTrue("markBench.checksums", failed == 0, CTR);
+      TestSupport.summary("GcRootStackMapTest", CTR);
+      if (CTR.getFail() != 0)
+        System.exit(1);
+      return;
+    }
+    if (SHAPE != null)
+      System.out.println("graphShape=" + SHAPE);
+
     JitSupport.requestJitCompilation(GcRootStackMapTest.class);
     warmUp(Math.max(1, iters / 4), gcStride, allocSize, chainLen);
 
+    if (threadSweep > 0) {
+      runThreadSweep(threadSweep, iters, allocSize, chainLen,
+                     Math.max(0, sweepGcMs));
+      TestSupport.summary("GcRootStackMapTest", CTR);
+      if (CTR.getFail() != 0)
+        System.exit(1);
+      return;
+    }
+
     for (int r = 0; r < rounds; r++) {
       RootResult res = hotRoot(iters, gcStride, allocSize, chainLen);
       SINK = res;
@@ -171,6 +259,12 @@ public final class GcRootStackMapTest {
                             res != null && res.head != null &&
                                 res.head.alt != null,
                             CTR);
+      if (SHAPE != null) {
+        TestSupport.checkTrue("root.shape.checksum.r" + r,
+                              res != null && res.shaped != null &&
+                                  res.shaped.verify(),
+                              CTR);
+      }
     }
 
     TestSupport.summary("GcRootStackMapTest", CTR);
@@ -194,6 +288,8 @@ public final class GcRootStackMapTest {
     Marker secondary = new Marker(0x5678, secondarySize);
     Node head = buildRing(chainLen, primary, secondary);
     Object[] roots = new Object[] {keep, primary, secondary, head, head.next};
+    GraphShapes.Graph shaped =
+        (SHAPE == null) ? null : GraphShapes.build(SHAPE, new Random(iters));
     int sum = 0;
     for (int i = 0; i < iters; i++) {
       byte[] junk = new byte[allocSize];
@@ -215,7 +311,7 @@ public final class GcRootStackMapTest {
       }
     }
     BLACKHOLE ^= sum;
-    return new RootResult(keep, primary, secondary, head, sum);
+    return new RootResult(keep, primary, secondary, head, shaped, sum);
   }
 
   private static Node buildRing(int len, Marker primary, Marker secondary) {
@@ -276,6 +372,271 @@ public final class GcRootStackMapTest {
     return acc;
   }
 
+  /**
+   * For 1, 2, 4, ... up to {@code maxThreads} threads, every thread keeps
+   * calling hotRoot with its own ring and Marker pair (no GCs of its own)
+   * while the main thread requests SWEEP_GCS timed GCs {@code gcMs} apart,
+   * so each pause scans all their stacks. Each result is verified.
+   */
+  private static void runThreadSweep(int maxThreads, int iters, int allocSize,
+                                     int chainLen, int gcMs) {
+    for (int n = 1; n <= maxThreads; n = (n == maxThreads) ? n + 1
+                                                          : Math.min(n * 2, maxThreads)) {
+      final long[] calls = new long[n];
+      final int[] bad = new int[n];
+      final long[] nanos = new long[n];
+      final CountDownLatch start = new CountDownLatch(n);
+      final AtomicBoolean stop = new AtomicBoolean(false);
+      Thread[] workers = new Thread[n];
+      for (int t = 0; t < n; t++) {
+        final int me = t;
+        workers[t] = new Thread(() -> {
+          start.countDown();
+          long t0 = System.nanoTime();
+          do {
+            RootResult res = hotRoot(iters, 0, allocSize, chainLen);
+            if (!resultOk(res, chainLen))
+              bad[me]++;
+            calls[me]++;
+          } while (!stop.get());
+          nanos[me] = System.nanoTime() - t0;
+        }, "root-sweep-" + t);
+        workers[t].start();
+      }
+
+      long[] pauses = new long[SWEEP_GCS];
+      try {
+        start.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      for (int g = 0; g < pauses.length; g++) {
+        sleepMs(gcMs);
+        long t0 = System.nanoTime();
+        System.gc();
+        pauses[g] = System.nanoTime() - t0;
+      }
+      stop.set(true);
+      joinAll(workers);
+
+      double itersPerSec = 0;
+      for (int t = 0; t < n; t++) {
+        itersPerSec += calls[t] * iters / (Math.max(1, nanos[t]) / 1e9);
+        TestSupport.checkTrue("sweep.n" + n + ".t" + t,
+                              calls[t] > 0 && bad[t] == 0, CTR);
+      }
+      Arrays.sort(pauses);
+      System.out.printf(
+          Locale.ROOT,
+          "threadSweep threads=%d gcs=%d pause p50=%.2fms max=%.2fms " +
+              "per-thread=%.0f iters/s total=%.0f iters/s%n",
+          n, pauses.length, pauses[pauses.length / 2] / 1e6,
+          pauses[pauses.length - 1] / 1e6, itersPerSec / n, itersPerSec);
+    }
+  }
+
+  private static boolean resultOk(RootResult res, int chainLen) {
+    return res != null && res.keep != null && res.primary != null &&
+        res.primary.verify() && res.secondary != null &&
+        res.secondary.verify() && res.head != null && res.head.alt != null &&
+        res.head.walk(Math.min(chainLen, 8)) != Integer.MIN_VALUE;
+  }
+
+  private static void joinAll(Thread[] threads) {
+    for (Thread t : threads) {
+      try {
+        t.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static void sleepMs(long ms) {
+    if (ms <= 0)
+      return;
+    try {
+      Thread.sleep(ms);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Measures explicit GC pause with the main thread and {@code threads} parked
+   * threads each sitting {@code depth} frames deep, every frame holding
+   * {@code refs} StackRoot references in locals that stay live across the
+   * call. Pauses are reported per stack root against a one-frame baseline.
+   * Every stack's sum of StackRoot tags, read back after the GCs, must match
+   * {@link #expectedFrameSum}.
+   */
+  private static void runStackRootBench(int[] depths, int[] refCounts,
+                                        int[] threadCounts) {
+    JitSupport.requestJitCompilation(GcRootStackMapTest.class);
+    long base = pauseWithStacks("stackBench.baseline", 0, 1, 1);
+    System.out.printf(Locale.ROOT, "stackBench baseline gc=%.2fms%n", base / 1e6);
+    for (int threads : threadCounts) {
+      threads = Math.max(0, threads);
+      for (int depth : depths) {
+        depth = Math.max(1, depth);
+        for (int refs : refCounts) {
+          if (refs != 1 && refs != 4 && refs != 8 && refs != 16) {
+            System.out.println("stackBench refs/frame=" + refs +
+                               " skipped (supported: 1,4,8,16)");
+            continue;
+          }
+          long pause = pauseWithStacks("stackBench.t" + threads + ".d" + depth +
+                                           ".r" + refs,
+                                       threads, depth, refs);
+          long roots = (threads + 1L) * depth * refs;
+          System.out.printf(
+              Locale.ROOT,
+              "stackBench threads=%d depth=%d refs/frame=%d roots=%d " +
+                  "gc=%.2fms delta=%.1f ns/root%n",
+              threads, depth, refs, roots, pause / 1e6,
+              Math.max(0, pause - base) / (double)roots);
+        }
+      }
+    }
+    SINK = null;
+  }
+
+  private static long pauseWithStacks(String check, int threads, int depth,
+                                      int refs) {
+    final CountDownLatch ready = new CountDownLatch(threads);
+    final CountDownLatch release = new CountDownLatch(1);
+    // sums[t] for parked thread t, sums[threads] for the main thread.
+    final int[] sums = new int[threads + 1];
+    Thread[] parked = new Thread[threads];
+    for (int t = 0; t < threads; t++) {
+      final int me = t;
+      parked[t] = new Thread(null, () -> {
+        sums[me] = refFrames(refs, depth, () -> {
+          ready.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return 1;
+        });
+      }, "stack-root-" + t, DEEP_STACK_BYTES);
+      parked[t].start();
+    }
+    final long[] pause = new long[1];
+    try {
+      ready.await();
+      sums[threads] = refFrames(refs, depth, () -> {
+        pause[0] = GraphShapes.medianGcNanos(STACK_BENCH_GC_ROUNDS);
+        return 1;
+      });
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      release.countDown();
+      joinAll(parked);
+    }
+    int expected = expectedFrameSum(refs, depth);
+    int bad = 0;
+    for (int sum : sums) {
+      if (sum != expected)
+        bad++;
+    }
+    TestSupport.checkEq(check + ".badStacks", bad, 0, CTR);
+    return pause[0];
+  }
+
+  /**
+   * What refFrames returns: the bottom's 1 plus, for every frame d in
+   * 1..depth, the tags d, d+1, ..., d+refs-1. Wraps like the int sum does.
+   */
+  private static int expectedFrameSum(int refs, int depth) {
+    long r = refs;
+    long d = depth;
+    return (int)(1 + r * d * (d + 1) / 2 + d * r * (r - 1) / 2);
+  }
+
+  private static StackRoot escape(StackRoot r) {
+    SINK = r;
+    return r;
+  }
+
+  private static int refFrames(int refs, int depth, Bottom bottom) {
+    switch (refs) {
+    case 16:
+      return frame16(depth, bottom);
+    case 8:
+      return frame8(depth, bottom);
+    case 4:
+      return frame4(depth, bottom);
+    default:
+      return frame1(depth, bottom);
+    }
+  }
+
+  private static int frame1(int depth, Bottom bottom) {
+    StackRoot r0 = escape(new StackRoot(depth));
+    int v = depth > 1 ? frame1(depth - 1, bottom) : bottom.reached();
+    return v + r0.tag;
+  }
+
+  private static int frame4(int depth, Bottom bottom) {
+    StackRoot r0 = escape(new StackRoot(depth));
+    StackRoot r1 = escape(new StackRoot(depth + 1));
+    StackRoot r2 = escape(new StackRoot(depth + 2));
+    StackRoot r3 = escape(new StackRoot(depth + 3));
+    int v = depth > 1 ? frame4(depth - 1, bottom) : bottom.reached();
+    return v + r0.tag + r1.tag + r2.tag + r3.tag;
+  }
+
+  private static int frame8(int depth, Bottom bottom) {
+    StackRoot r0 = escape(new StackRoot(depth));
+    StackRoot r1 = escape(new StackRoot(depth + 1));
+    StackRoot r2 = escape(new StackRoot(depth + 2));
+    StackRoot r3 = escape(new StackRoot(depth + 3));
+    StackRoot r4 = escape(new StackRoot(depth + 4));
+    StackRoot r5 = escape(new StackRoot(depth + 5));
+    StackRoot r6 = escape(new StackRoot(depth + 6));
+    StackRoot r7 = escape(new StackRoot(depth + 7));
+    int v = depth > 1 ? frame8(depth - 1, bottom) : bottom.reached();
+    return v + r0.tag + r1.tag + r2.tag + r3.tag + r4.tag + r5.tag + r6.tag +
+        r7.tag;
+  }
+
+  private static int frame16(int depth, Bottom bottom) {
+    StackRoot r0 = escape(new StackRoot(depth));
+    StackRoot r1 = escape(new StackRoot(depth + 1));
+    StackRoot r2 = escape(new StackRoot(depth + 2));
+    StackRoot r3 = escape(new StackRoot(depth + 3));
+    StackRoot r4 = escape(new StackRoot(depth + 4));
+    StackRoot r5 = escape(new StackRoot(depth + 5));
+    StackRoot r6 = escape(new StackRoot(depth + 6));
+    StackRoot r7 = escape(new StackRoot(depth + 7));
+    StackRoot r8 = escape(new StackRoot(depth + 8));
+    StackRoot r9 = escape(new StackRoot(depth + 9));
+    StackRoot r10 = escape(new StackRoot(depth + 10));
+    StackRoot r11 = escape(new StackRoot(depth + 11));
+    StackRoot r12 = escape(new StackRoot(depth + 12));
+    StackRoot r13 = escape(new StackRoot(depth + 13));
+    StackRoot r14 = escape(new StackRoot(depth + 14));
+    StackRoot r15 = escape(new StackRoot(depth + 15));
+    int v = depth > 1 ? frame16(depth - 1, bottom) : bottom.reached();
+    return v + r0.tag + r1.tag + r2.tag + r3.tag + r4.tag + r5.tag + r6.tag +
+        r7.tag + r8.tag + r9.tag + r10.tag + r11.tag + r12.tag + r13.tag +
+        r14.tag + r15.tag;
+  }
+
+  private static int[] parseIntList(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      out[i] = parseInt(parts[i], Integer.MIN_VALUE);
+      if (out[i] == Integer.MIN_VALUE)
+        return fallback;
+    }
+    return out;
+  }
+
   private static int parseInt(String raw, int fallback) {
     try {
       return Integer.parseInt(raw.trim());
@@ -0,0 +1,368 @@
+// GraphShapes.java
+// Parameterised object-graph generator (depth, fan-out, cycles, old-to-young
+// edges, payload size distribution) with checksum verification and a GC
+// marking sweep shared by the GC stress modules.
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class GraphShapes {
+  public enum PayloadDist { FIXED, UNIFORM, SKEWED }
+
+  private static final AtomicInteger EPOCH = new AtomicInteger();
+
+  private GraphShapes() {}
+
+  public static final class Shape {
+    public final String name;
+    public final int depth;
+    public final int fanOut;
+    public final int maxNodes;
+    public final double cycleRatio;
+    public final double crossRatio;
+    public final int minPayload;
+    public final int maxPayload;
+    public final PayloadDist dist;
+
+    public Shape(String name, int depth, int fanOut, int maxNodes,
+                 double cycleRatio, double crossRatio, int minPayload,
+                 int maxPayload, PayloadDist dist) {
+      this.name = name;
+      this.depth = Math.max(0, depth);
+      this.fanOut = Math.max(1, fanOut);
+      this.maxNodes = Math.max(1, maxNodes);
+      this.cycleRatio = clamp01(cycleRatio);
+      this.crossRatio = clamp01(crossRatio);
+      this.minPayload = Math.max(0, minPayload);
+      this.maxPayload = Math.max(this.minPayload, maxPayload);
+      this.dist = dist;
+    }
+
+    public Shape withMaxNodes(int n) {
+      return new Shape(name, depth, fanOut, n, cycleRatio, crossRatio,
+                       minPayload, maxPayload, dist);
+    }
+
+    /**
+     * Parses {@code depth=6,fanOut=4,cycles=0.1,cross=0.2,payload=16..1024,
+     * dist=skewed,maxNodes=65536}; missing keys keep a binary-tree default.
+     */
+    public static Shape parse(String name, String spec) {
+      int depth = 8;
+      int fanOut = 2;
+      int maxNodes = 1 << 16;
+      double cycles = 0;
+      double cross = 0;
+      int minPayload = 16;
+      int maxPayload = 16;
+      PayloadDist dist = PayloadDist.FIXED;
+      for (String part : spec.split(",")) {
+        int eq = part.indexOf('=');
+        if (eq < 0)
+          continue;
+        String key = part.substring(0, eq).trim();
+        String val = part.substring(eq + 1).trim();
+        try {
+          if ("depth".equals(key)) {
+            depth = Integer.parseInt(val);
+          } else if ("fanOut".equals(key)) {
+            fanOut = Integer.parseInt(val);
+          } else if ("maxNodes".equals(key)) {
+            maxNodes = Integer.parseInt(val);
+          } else if ("cycles".equals(key)) {
+            cycles = Double.parseDouble(val);
+          } else if ("cross".equals(key)) {
+            cross = Double.parseDouble(val);
+          } else if ("payload".equals(key)) {
+            int dots = val.indexOf("..");
+            if (dots < 0) {
+              minPayload = maxPayload = Integer.parseInt(val);
+            } else {
+              minPayload = Integer.parseInt(val.substring(0, dots));
+              maxPayload = Integer.parseInt(val.substring(dots + 2));
+              if (dist == PayloadDist.FIXED)
+                dist = PayloadDist.UNIFORM;
+            }
+          } else if ("dist".equals(key)) {
+            dist = PayloadDist.valueOf(val.toUpperCase(Locale.ROOT));
+          }
+        } catch (RuntimeException e) {
+          System.out.println("GraphShapes: ignoring bad '" + part + "'");
+        }
+      }
+      return new Shape(name, depth, fanOut, maxNodes, cycles, cross,
+                       minPayload, maxPayload, dist);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT,
+          "%s(depth=%d,fanOut=%d,maxNodes=%d,cycles=%.2f,cross=%.2f," +
+              "payload=%d..%d/%s)",
+          name, depth, fanOut, maxNodes, cycleRatio, crossRatio, minPayload,
+          maxPayload, dist.name().toLowerCase(Locale.ROOT));
+    }
+  }
+
+  /** Same-budget shapes so marking differences come from shape, not size. */
+  public static Shape[] sweep(int nodes) {
+    int n = Math.max(16, nodes);
+    int binDepth = 31 - Integer.numberOfLeadingZeros(n);
+    int quadDepth = Math.max(1, binDepth / 2);
+    return new Shape[] {
+        new Shape("chain", n, 1, n, 0, 0, 16, 16, PayloadDist.FIXED),
+        new Shape("binary", binDepth, 2, n, 0, 0, 16, 16, PayloadDist.FIXED),
+        new Shape("wide", 1, n, n, 0, 0, 16, 16, PayloadDist.FIXED),
+        new Shape("cyclic", quadDepth + 1, 4, n, 0.5, 0, 16, 16,
+                  PayloadDist.FIXED),
+        new Shape("crossGen", quadDepth + 1, 4, n, 0, 0.25, 16, 16,
+                  PayloadDist.FIXED),
+        new Shape("skewedPayload", quadDepth + 1, 4, n, 0, 0, 16, 4096,
+                  PayloadDist.SKEWED),
+    };
+  }
+
+  public static final class Node {
+    final int id;
+    final byte[] payload;
+    Node[] kids;
+    Node cross;
+    int seen;
+
+    Node(int id, int payloadLen) {
+      this.id = id;
+      this.payload = new byte[payloadLen];
+      if (payloadLen > 0) {
+        payload[0] = (byte)id;
+        payload[payloadLen - 1] = (byte)(id >>> 8);
+      }
+    }
+
+    boolean intact() {
+      int len = payload.length;
+      return len == 0 ||
+          (payload[0] == (byte)id && payload[len - 1] == (byte)(id >>> 8));
+    }
+  }
+
+  public static final class Graph {
+    public final Shape shape;
+    public final Node root;
+    public final int nodes;
+    public final long edges;
+    public final long payloadBytes;
+    public final long checksum;
+
+    Graph(Shape shape, Node root, int nodes, long edges, long payloadBytes,
+          long checksum) {
+      this.shape = shape;
+      this.root = root;
+      this.nodes = nodes;
+      this.edges = edges;
+      this.payloadBytes = payloadBytes;
+      this.checksum = checksum;
+    }
+
+    /** Approximate heap footprint: node headers, edge arrays and payloads. */
+    public long approxBytes() {
+      return nodes * 40L + edges * 4L + payloadBytes;
+    }
+
+    /**
+     * Re-walks the graph from the root and compares against the build-time
+     * checksum. Old-to-young targets are checked for integrity but not
+     * followed. Not safe to call concurrently on the same graph.
+     */
+    public boolean verify() {
+      return walkChecksum() == checksum;
+    }
+
+    public long walkChecksum() {
+      int epoch = EPOCH.incrementAndGet();
+      Node[] stack = new Node[64];
+      int sp = 0;
+      stack[sp++] = root;
+      root.seen = epoch;
+      long sum = 0;
+      while (sp > 0) {
+        Node n = stack[--sp];
+        if (!n.intact())
+          return ~checksum;
+        if (n.cross != null && !n.cross.intact())
+          return ~checksum;
+        sum += mix(n);
+        Node[] kids = n.kids;
+        if (kids == null)
+          continue;
+        for (Node k : kids) {
+          if (k == null || k.seen == epoch)
+            continue;
+          k.seen = epoch;
+          if (sp == stack.length)
+            stack = Arrays.copyOf(stack, sp * 2);
+          stack[sp++] = k;
+        }
+      }
+      return sum;
+    }
+
+    List<Node> collect(int max) {
+      List<Node> out = new ArrayList<>(Math.min(max, nodes));
+      int epoch = EPOCH.incrementAndGet();
+      List<Node> queue = new ArrayList<>();
+      queue.add(root);
+      root.seen = epoch;
+      for (int head = 0; head < queue.size() && out.size() < max; head++) {
+        Node n = queue.get(head);
+        out.add(n);
+        if (n.kids == null)
+          continue;
+        for (Node k : n.kids) {
+          if (k != null && k.seen != epoch) {
+            k.seen = epoch;
+            queue.add(k);
+          }
+        }
+      }
+      return out;
+    }
+  }
+
+  public static Graph build(Shape shape, Random rand) {
+    return build(shape, rand, null);
+  }
+
+  /**
+   * Builds {@code shape} breadth-first up to {@code maxNodes}. Back edges to
+   * earlier nodes close cycles; when {@code old} is given, a
+   * {@code crossRatio} share of the new nodes is also referenced from a
+   * random node of {@code old} (an old-to-young edge).
+   */
+  public static Graph build(Shape shape, Random rand, Graph old) {
+    int idBase = rand.nextInt() & 0x3FFFFFFF;
+    List<Node> all = new ArrayList<>(Math.min(shape.maxNodes, 1 << 16));
+    List<Integer> levels = new ArrayList<>();
+    Node root = new Node(idBase, payloadSize(shape, rand));
+    all.add(root);
+    levels.add(0);
+    long edges = 0;
+    long payload = root.payload.length;
+    for (int head = 0; head < all.size(); head++) {
+      Node n = all.get(head);
+      int level = levels.get(head);
+      int kids = (level < shape.depth)
+          ? Math.min(shape.fanOut, shape.maxNodes - all.size())
+          : 0;
+      boolean back = head > 0 && rand.nextDouble() < shape.cycleRatio;
+      if (kids <= 0 && !back)
+        continue;
+      n.kids = new Node[Math.max(0, kids) + (back ? 1 : 0)];
+      for (int k = 0; k < kids; k++) {
+        Node child = new Node(idBase + all.size(), payloadSize(shape, rand));
+        n.kids[k] = child;
+        all.add(child);
+        levels.add(level + 1);
+        payload += child.payload.length;
+      }
+      if (back)
+        n.kids[n.kids.length - 1] = all.get(rand.nextInt(head));
+      edges += n.kids.length;
+    }
+    long sum = 0;
+    for (Node n : all)
+      sum += mix(n);
+    if (old != null && shape.crossRatio > 0) {
+      List<Node> olds = old.collect(4096);
+      for (Node n : all) {
+        if (rand.nextDouble() < shape.crossRatio) {
+          olds.get(rand.nextInt(olds.size())).cross = n;
+          edges++;
+        }
+      }
+    }
+    return new Graph(shape, root, all.size(), edges, payload, sum);
+  }
+
+  private static int payloadSize(Shape s, Random rand) {
+    int span = s.maxPayload - s.minPayload;
+    switch (s.dist) {
+    case UNIFORM:
+      return s.minPayload + (span == 0 ? 0 : rand.nextInt(span + 1));
+    case SKEWED: {
+      double r = rand.nextDouble();
+      return s.minPayload + (int)(span * r * r * r * r);
+    }
+    default:
+      return s.minPayload;
+    }
+  }
+
+  private static long mix(Node n) {
+    long h = n.id * 0x9E3779B97F4A7C15L;
+    h ^= (long)n.payload.length << 32;
+    h ^= (n.kids == null ? 0L : (long)n.kids.length) << 48;
+    h ^= h >>> 29;
+    return h * 0xBF58476D1CE4E5B9L;
+  }
+
+  private static double clamp01(double v) {
+    return v < 0 ? 0 : (v > 1 ? 1 : v);
+  }
+
+  /** Median wall time of {@code rounds} explicit GCs. */
+  public static long medianGcNanos(int rounds) {
+    long[] t = new long[Math.max(1, rounds)];
+    for (int i = 0; i < t.length; i++) {
+      long t0 = System.nanoTime();
+      System.gc();
+      t[i] = System.nanoTime() - t0;
+    }
+    Arrays.sort(t);
+    return t[t.length / 2];
+  }
+
+  /**
+   * For each shape: times explicit GCs with and without the graph live and
+   * reports the difference per node, i.e. roughly the marking cost the shape
+   * adds. Graphs are rooted only by locals that stay live until the
+   * post-GC checksum. Returns the number of shapes that failed it.
+   */
+  public static int runMarkingSweep(String label, Shape[] shapes, int gcRounds,
+                                    Random rand) {
+    int failures = 0;
+    System.out.println("[" + label + "] marking sweep, gcRounds=" + gcRounds);
+    for (Shape shape : shapes) {
+      Graph old = null;
+      if (shape.crossRatio > 0) {
+        old = build(new Shape("old", shape.depth, shape.fanOut, shape.maxNodes,
+                              0, 0, shape.minPayload, shape.minPayload,
+                              PayloadDist.FIXED),
+                    rand);
+        medianGcNanos(2);
+      }
+      long base = medianGcNanos(gcRounds);
+      long b0 = System.nanoTime();
+      Graph g = build(shape, rand, old);
+      long buildNs = System.nanoTime() - b0;
+      long withGraph = medianGcNanos(gcRounds);
+      boolean ok = g.verify() && (old == null || old.verify());
+      if (!ok)
+        failures++;
+      double deltaNs = Math.max(0, withGraph - base);
+      System.out.printf(
+          Locale.ROOT,
+          "[%s] %-14s nodes=%d edges=%d payload=%.1fMB build=%.1fms " +
+              "gc=%.2fms base=%.2fms mark≈%.1f ns/node (%.0f nodes/ms) %s%n",
+          label, shape.name, g.nodes, g.edges, g.payloadBytes / (1024.0 * 1024.0),
+          buildNs / 1e6, withGraph / 1e6, base / 1e6, deltaNs / g.nodes,
+          deltaNs > 0 ? g.nodes / (deltaNs / 1e6) : 0.0,
+          ok ? "OK" : "CHECKSUM-FAIL");
+    }
+    return failures;
+  }
+}
@@ -38,14 +38,12 @@ public class HashCodeStabilityTest {
   }
   private static long encBox(Box b) { return (b == null) ? 0L : 97L * b.value; }
 
+  private static final TestSupport.Counter CTR = new TestSupport.Counter();
+
   private static void assertEquals(String name, long expect, long actual) {
-    if (expect != actual) {
-      System.out.println("FAIL: " + name + " expect=" + expect +
-                         " actual=" + actual);
+    TestSupport.checkEq(name, actual, expect, CTR);
+    if (expect != actual)
       throw new AssertionError(name + " failed");
-    } else {
-      System.out.println("OK  : " + name + " = " + actual);
-    }
   }
 
   // =========================================================
@@ -339,6 +337,7 @@ public class HashCodeStabilityTest {
     System.out.println("=== HashCodeStabilityTest start (" + runSeconds +
                        "s) ===");
     run(runSeconds);
+    TestSupport.summary("HashCodeStabilityTest", CTR);
     System.out.println("=== HashCodeStabilityTest end ===");
   }
 
@@ -1,10 +1,16 @@
  
 
+import java.io.*;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.ref.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.LockSupport;
 
 public class HeapStressSuite {
 
@@ -26,6 +32,30 @@ public class HeapStressSuite {
   private static final AtomicLong weakCleared = new AtomicLong();
   private static final AtomicLong phantomEnq = new AtomicLong();
 
+  // 堆外统计（DirectByteBuffer / MappedByteBuffer）
+  private static final AtomicLong offHeapAllocated = new AtomicLong();
+  private static final AtomicLong offHeapFreedExplicit = new AtomicLong();
+  private static final AtomicLong offHeapCleaned = new AtomicLong();
+
+  // 堆外场景参数（--offheapMB/--directKB/--mapKB/--offheapWindow/--offheapRate）
+  private static int offHeapMB = 256;
+  private static int directKB = 256;
+  private static int mapKB = 1024;
+  private static int offHeapWindow = 32;
+  private static int offHeapRate = 0; // 每秒分配次数，0 = 不限速
+
+  // 驻留场景参数（--internKeys/--internMtKeys/--internDupes/--internThreads）
+  private static int internKeys = 1_000_000;
+  private static int internMtKeys = 200_000;
+  private static int internDupes = 4;
+  private static int[] internThreads = {1, 2, 4, 8};
+  private static int internRun; // 每轮换键前缀，不命中上一轮残留的驻留项
+  private static long internBad;
+  private static final int INTERN_BATCHES = 10;
+  private static final int INTERN_LOOKUP_SAMPLE = 50_000;
+  private static final String[] INTERN_KINDS = {"none", "intern", "chm",
+                                                "weak"};
+
   private static void testVarietyWarmup() {
     System.out.println("\n========== 预热: 多类型短命对象 ==========");
     printMemory("开始前");
@@ -83,23 +113,71 @@ public class HeapStressSuite {
     resetForRepeat();
     System.out.println("========== Heap Allocation Test ==========");
     boolean shortMode = false;
+    boolean offHeapOnly = false;
+    boolean internOnly = false;
     for (String s : args) {
       if ("--short".equals(s)) {
         shortMode = true;
+      } else if ("--offheap".equals(s)) {
+        offHeapOnly = true;
+      } else if (s.startsWith("--offheapMB=")) {
+        offHeapMB = parseInt(s.substring(s.indexOf('=') + 1), offHeapMB);
+      } else if (s.startsWith("--directKB=")) {
+        directKB = parseInt(s.substring(s.indexOf('=') + 1), directKB);
+      } else if (s.startsWith("--mapKB=")) {
+        mapKB = parseInt(s.substring(s.indexOf('=') + 1), mapKB);
+      } else if (s.startsWith("--offheapWindow=")) {
+        offHeapWindow =
+            parseInt(s.substring(s.indexOf('=') + 1), offHeapWindow);
+      } else if (s.startsWith("--offheapRate=")) {
+        offHeapRate = parseInt(s.substring(s.indexOf('=') + 1), offHeapRate);
+      } else if ("--intern".equals(s)) {
+        internOnly = true;
+      } else if (s.startsWith("--internKeys=")) {
+        internKeys = parseInt(s.substring(s.indexOf('=') + 1), internKeys);
+      } else if (s.startsWith("--internMtKeys=")) {
+        internMtKeys = parseInt(s.substring(s.indexOf('=') + 1), internMtKeys);
+      } else if (s.startsWith("--internDupes=")) {
+        internDupes = parseInt(s.substring(s.indexOf('=') + 1), internDupes);
+      } else if (s.startsWith("--internThreads=")) {
+        internThreads =
+            parseIntList(s.substring(s.indexOf('=') + 1), internThreads);
       }
     }
+    offHeapMB = Math.max(1, offHeapMB);
+    directKB = Math.max(4, directKB);
+    mapKB = Math.max(4, mapKB);
+    offHeapWindow = Math.max(1, offHeapWindow);
+    offHeapRate = Math.max(0, offHeapRate);
+    internKeys = Math.max(INTERN_BATCHES, internKeys);
+    internMtKeys = Math.max(1, internMtKeys);
+    internDupes = Math.max(1, internDupes);
+    if ((long)internMtKeys * internDupes > Integer.MAX_VALUE - 8)
+      internMtKeys = (Integer.MAX_VALUE - 8) / internDupes;
     runGcStatus();
+    if (internOnly) {
+      System.out.println("========== Intern mode ==========");
+      if (shortMode) {
+        internKeys = Math.min(internKeys, 100_000);
+        internMtKeys = Math.min(internMtKeys, 20_000);
+        internThreads = new int[] {1, 2};
+      }
+      runInternScenario();
+      printSummary("\n========== 汇总 (intern) ==========");
+      return;
+    }
+    if (offHeapOnly) {
+      System.out.println("========== Off-heap mode ==========");
+      runOffHeapScenarios();
+      printSummary("\n========== 汇总 (offheap) ==========");
+      return;
+    }
     if (shortMode) {
       System.out.println("========== Short mode ==========");
       testVarietyWarmup();
       testJavaReferences();
       testPlainObjectReferences();
-      System.out.println("\n========== 汇总 (short) ==========");
-      System.out.printf(
-          Locale.ROOT,
-          "bytesAllocated≈%.1f MB, weakCleared=%d, phantomEnqueued=%d%n",
-          bytesAllocated.get() / (1024.0 * 1024.0), weakCleared.get(),
-          phantomEnq.get());
+      printSummary("\n========== 汇总 (short) ==========");
       return;
     }
     testVarietyWarmup();
@@ -152,13 +230,37 @@ public class HeapStressSuite {
         "\n========== 测试场景12: 基础 Object 引用可用性检查 ==========");
     testPlainObjectReferences();
 
+    runOffHeapScenarios();
+
     // 汇总
-    System.out.println("\n========== 汇总 ==========");
+    printSummary("\n========== 汇总 ==========");
+  }
+
+  private static void runOffHeapScenarios() {
+    System.out.println(
+        "\n========== 测试场景13: 堆外直接缓冲区冲刷（allocateDirect） ==========");
+    testDirectBufferChurn();
+
+    System.out.println(
+        "\n========== 测试场景14: 文件映射区冲刷（FileChannel.map） ==========");
+    testMappedRegionChurn();
+  }
+
+  private static void printSummary(String title) {
+    System.out.println(title);
     System.out.printf(
         Locale.ROOT,
         "bytesAllocated≈%.1f MB, weakCleared=%d, phantomEnqueued=%d%n",
         bytesAllocated.get() / (1024.0 * 1024.0), weakCleared.get(),
         phantomEnq.get());
+    if (offHeapAllocated.get() > 0) {
+      System.out.printf(
+          Locale.ROOT,
+          "offHeapAllocated≈%.1f MB, freedExplicit≈%.1f MB, cleaned≈%.1f MB%n",
+          bytesToMB(offHeapAllocated.get()),
+          bytesToMB(offHeapFreedExplicit.get()),
+          bytesToMB(offHeapCleaned.get()));
+    }
   }
 
   private static void resetForRepeat() {
@@ -166,6 +268,9 @@ public class HeapStressSuite {
     bytesAllocated.set(0L);
     weakCleared.set(0L);
     phantomEnq.set(0L);
+    offHeapAllocated.set(0L);
+    offHeapFreedExplicit.set(0L);
+    offHeapCleaned.set(0L);
     WEAKS.clear();
     SOFTS.clear();
     PHANTOMS.clear();
@@ -475,6 +580,367 @@ public class HeapStressSuite {
     }
   }
 
+  /**
+   * 场景13：按固定窗口循环 allocateDirect，偶数槽显式释放、奇数槽交给 GC/Cleaner，
+   * 统计分配/释放延迟、丢弃到 Cleaner 入队的延迟，以及 native 堆增长。
+   * 注：ART 的 allocateDirect 由不可移动的 byte[] 支撑，主要体现在 Java 堆上。
+   */
+  private static void testDirectBufferChurn() {
+    printMemory("开始前");
+    final int size = directKB * 1024;
+    final long count = Math.max(offHeapWindow, (offHeapMB * 1024L) / directKB);
+    OffHeapTracker tracker = new OffHeapTracker((int)Math.min(count, 1 << 20));
+    ByteBuffer[] ring = new ByteBuffer[offHeapWindow];
+    long nativeBefore = nativeHeapBytes();
+    long rssBefore = readVmRssBytes();
+    long start = System.nanoTime();
+    try {
+      for (long i = 0; i < count; i++) {
+        throttle(start, i, offHeapRate);
+        long t0 = System.nanoTime();
+        ByteBuffer b = ByteBuffer.allocateDirect(size);
+        tracker.alloc.add(System.nanoTime() - t0);
+        touchPages(b, (byte)i);
+        offHeapAllocated.addAndGet(size);
+
+        int slot = (int)(i % ring.length);
+        ByteBuffer old = ring[slot];
+        ring[slot] = b;
+        if (old != null)
+          tracker.release(old, size, (slot & 1) == 0);
+        tracker.drain();
+        if ((i % 256) == 0)
+          printMemory("直接缓冲区 i=" + i);
+      }
+    } catch (OutOfMemoryError oom) {
+      System.out.println("（提示）allocateDirect 发生 OOME，堆外上限已达");
+    }
+    long churnNs = System.nanoTime() - start;
+    long nativePeak = nativeHeapBytes();
+    long rssPeak = readVmRssBytes();
+    for (int i = 0; i < ring.length; i++) {
+      if (ring[i] != null)
+        tracker.release(ring[i], size, false);
+      ring[i] = null;
+    }
+    tracker.awaitCleaners(5000);
+    printMemory("释放后");
+    tracker.report("direct", churnNs);
+    printNativeGrowth(nativeBefore, nativePeak, rssBefore, rssPeak);
+  }
+
+  /** 场景14：在临时文件上循环 map 区域，统计映射/解除映射/Cleaner 延迟 */
+  private static void testMappedRegionChurn() {
+    printMemory("开始前");
+    final int size = mapKB * 1024;
+    final long count = Math.max(offHeapWindow, (offHeapMB * 1024L) / mapKB);
+    OffHeapTracker tracker = new OffHeapTracker((int)Math.min(count, 1 << 20));
+    MappedByteBuffer[] ring = new MappedByteBuffer[offHeapWindow];
+    long nativeBefore = nativeHeapBytes();
+    long rssBefore = readVmRssBytes();
+    long nativePeak = nativeBefore;
+    long rssPeak = rssBefore;
+    long churnNs = 0;
+    File f = null;
+    try {
+      f = createTempFile("heapstress-mmap", ".bin");
+      try (RandomAccessFile raf = new RandomAccessFile(f, "rw");
+           FileChannel ch = raf.getChannel()) {
+        raf.setLength((long)size * ring.length);
+        long start = System.nanoTime();
+        for (long i = 0; i < count; i++) {
+          throttle(start, i, offHeapRate);
+          int slot = (int)(i % ring.length);
+          MappedByteBuffer old = ring[slot];
+          ring[slot] = null;
+          if (old != null)
+            tracker.release(old, size, (slot & 1) == 0);
+
+          long t0 = System.nanoTime();
+          MappedByteBuffer m =
+              ch.map(FileChannel.MapMode.READ_WRITE, (long)slot * size, size);
+          tracker.alloc.add(System.nanoTime() - t0);
+          touchPages(m, (byte)i);
+          offHeapAllocated.addAndGet(size);
+          ring[slot] = m;
+          tracker.drain();
+          if ((i % 64) == 0)
+            printMemory("映射区 i=" + i);
+        }
+        churnNs = System.nanoTime() - start;
+        nativePeak = nativeHeapBytes();
+        rssPeak = readVmRssBytes();
+      }
+    } catch (IOException e) {
+      System.out.println("（提示）mmap 场景失败: " + e);
+    } catch (OutOfMemoryError oom) {
+      System.out.println("（提示）map 发生 OOME，地址空间/堆外上限已达");
+    } finally {
+      for (int i = 0; i < ring.length; i++) {
+        if (ring[i] != null)
+          tracker.release(ring[i], size, false);
+        ring[i] = null;
+      }
+      tracker.awaitCleaners(5000);
+      if (f != null && !f.delete())
+        f.deleteOnExit();
+    }
+    printMemory("释放后");
+    tracker.report("mmap", churnNs);
+    printNativeGrowth(nativeBefore, nativePeak, rssBefore, rssPeak);
+  }
+
+  /**
+   * 场景15：字符串驻留成本。对比 String.intern（运行时驻留表）、
+   * ConcurrentHashMap 驻留器与弱引用驻留器（synchronized WeakHashMap），
+   * none 为不去重基线。
+   * 1) 增长：单线程把 internKeys 个新键逐批插入，每批后对已有键构造等值新实例
+   *    再查找，输出表大小 -> 插入/查找 ns/op（键在计时外预先构造）。
+   * 2) 并发：internMtKeys 个键各出现 internDupes 次，按 op % threads 分给各线程，
+   *    结果全部留在 holder 中（模拟解析器保留 token）。输出墙钟、各线程忙碌时间
+   *    之和（近似 CPU）、GC 后堆增量，以及相对 none 的省堆量 / 额外 CPU。
+   * 注意：ART 的驻留表在原生内存中，intern 的“省堆”不含表本身的开销。
+   */
+  private static void runInternScenario() {
+    System.out.println(
+        "\n========== 测试场景15: 字符串驻留成本（intern/CHM/weak） ==========");
+    System.out.printf(Locale.ROOT,
+                      "intern: keys=%d mtKeys=%d dupes=%d threads=%s%n",
+                      internKeys, internMtKeys, internDupes,
+                      Arrays.toString(internThreads));
+    for (String kind : INTERN_KINDS) {
+      if (!"none".equals(kind))
+        internGrowth(kind, internKeys);
+    }
+    // 预热：每种驻留器先小规模跑一遍，免得首个 none 基线吃到解释执行
+    for (String kind : INTERN_KINDS)
+      internContention(kind, Math.min(internMtKeys, 10_000), internDupes, 1);
+    for (int threads : internThreads) {
+      long[] none = null;
+      for (String kind : INTERN_KINDS) {
+        long[] r = internContention(kind, internMtKeys, internDupes, threads);
+        long wallNs = r[0];
+        long cpuNs = r[1];
+        long heap = r[2];
+        long ops = (long)internMtKeys * internDupes;
+        System.out.printf(Locale.ROOT,
+                          "intern.mt threads=%d %-6s wall=%.1fms " +
+                              "cpu=%.1fms %.1fns/op heap=%.1fMB",
+                          threads, kind, wallNs / 1e6, cpuNs / 1e6,
+                          cpuNs / (double)ops, bytesToMB(heap));
+        if (none == null) {
+          none = r;
+          System.out.println();
+          continue;
+        }
+        long saved = none[2] - heap;
+        long extraCpu = cpuNs - none[1];
+        System.out.printf(Locale.ROOT,
+                          " saved=%.1fMB extraCpu=%.1fms saved/cpu=%s%n",
+                          bytesToMB(saved), extraCpu / 1e6,
+                          extraCpu > 0
+                              ? String.format(Locale.ROOT, "%.1fMB/s",
+                                              bytesToMB(saved) /
+                                                  (extraCpu / 1e9))
+                              : "n/a");
+      }
+    }
+    System.out.println("intern checks: bad=" + internBad +
+                       (internBad == 0 ? " (ok)" : " FAIL"));
+  }
+
+  private static void internGrowth(String kind, int keys) {
+    Interner in = newInterner(kind);
+    int run = ++internRun;
+    String[] hold = new String[keys];
+    int batch = Math.max(1, keys / INTERN_BATCHES);
+    String[] buf = new String[batch];
+    int[] idx = new int[Math.min(batch, INTERN_LOOKUP_SAMPLE)];
+    int size = 0;
+    while (size < keys) {
+      int n = Math.min(batch, keys - size);
+      for (int i = 0; i < n; i++)
+        buf[i] = internKey(run, size + i);
+      long t0 = System.nanoTime();
+      for (int i = 0; i < n; i++)
+        hold[size + i] = in.intern(buf[i]);
+      long insertNs = System.nanoTime() - t0;
+      size += n;
+
+      // 查找：等值的新实例应返回表中原实例
+      int m = Math.min(n, idx.length);
+      for (int j = 0; j < m; j++) {
+        idx[j] = (int)(((j + 1) * 2654435761L & Long.MAX_VALUE) % size);
+        buf[j] = internKey(run, idx[j]);
+      }
+      long bad = 0;
+      t0 = System.nanoTime();
+      for (int j = 0; j < m; j++) {
+        if (in.intern(buf[j]) != hold[idx[j]])
+          bad++;
+      }
+      long lookupNs = System.nanoTime() - t0;
+      internBad += bad;
+      System.out.printf(Locale.ROOT,
+                        "intern.grow %-6s size=%8d insert=%7.1fns/op " +
+                            "lookup=%7.1fns/op%s%n",
+                        kind, size, insertNs / (double)n,
+                        lookupNs / (double)m, bad == 0 ? "" : " bad=" + bad);
+    }
+    Arrays.fill(hold, null);
+  }
+
+  /** 返回 {墙钟 ns, 各线程忙碌 ns 之和, GC 后堆增量字节} */
+  private static long[] internContention(String kind, final int keys,
+                                         int dupes, final int threads) {
+    final Interner in = newInterner(kind);
+    final int run = ++internRun;
+    final int ops = keys * dupes;
+    final String[] hold = new String[ops];
+    final long[] busyNs = new long[threads];
+    final CountDownLatch start = new CountDownLatch(1);
+    long before = usedHeapAfterGc();
+    // 与增长阶段一样，在计时区外先造好等值不同实例的键；按线程分片，
+    // 结束后整片置空，堆增量里只剩 hold 留住的部分
+    final String[][] keyCopies = new String[threads][];
+    for (int t = 0; t < threads; t++)
+      keyCopies[t] = new String[(ops - t + threads - 1) / threads];
+    for (int op = 0; op < ops; op++)
+      keyCopies[op % threads][op / threads] = internKey(run, op % keys);
+    Thread[] ts = new Thread[threads];
+    for (int t = 0; t < threads; t++) {
+      final int id = t;
+      ts[t] = new Thread(() -> {
+        String[] mine = keyCopies[id];
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        long t0 = System.nanoTime();
+        for (int j = 0, op = id; op < ops; j++, op += threads)
+          hold[op] = in.intern(mine[j]);
+        busyNs[id] = System.nanoTime() - t0;
+      }, "intern-" + t);
+      ts[t].start();
+    }
+    long w0 = System.nanoTime();
+    start.countDown();
+    for (Thread t : ts) {
+      try {
+        t.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    long wallNs = System.nanoTime() - w0;
+    Arrays.fill(keyCopies, null);
+    long heap = usedHeapAfterGc() - before;
+    // 查一次已有键：既是校验，也让驻留器活到堆测量之后
+    if (in.intern(hold[0]) != hold[0])
+      internBad++;
+
+    if (!"none".equals(kind)) {
+      // 同一键的所有副本必须是同一实例
+      for (int op = keys; op < ops; op++) {
+        if (hold[op] != hold[op % keys])
+          internBad++;
+      }
+    }
+    for (int op = 0; op < ops; op += 97) {
+      if (!hold[op].equals(internKey(run, op % keys)))
+        internBad++;
+    }
+    long cpuNs = 0;
+    for (long b : busyNs)
+      cpuNs += b;
+    return new long[] {wallNs, cpuNs, heap};
+  }
+
+  private static String internKey(int run, int i) {
+    return new StringBuilder(32)
+        .append('K')
+        .append(run)
+        .append(':')
+        .append(i)
+        .append(':')
+        .append(i * 2654435761L)
+        .toString();
+  }
+
+  private static long usedHeapAfterGc() {
+    Runtime rt = Runtime.getRuntime();
+    for (int i = 0; i < 2; i++) {
+      System.gc();
+      System.runFinalization();
+      sleepMs(100);
+    }
+    return rt.totalMemory() - rt.freeMemory();
+  }
+
+  private static Interner newInterner(String kind) {
+    switch (kind) {
+    case "intern":
+      return new RuntimeInterner();
+    case "chm":
+      return new MapInterner();
+    case "weak":
+      return new WeakInterner();
+    default:
+      return new NoInterner();
+    }
+  }
+
+  /** 驻留器：none 以外的实现对等值字符串都返回同一实例 */
+  interface Interner {
+    String intern(String s);
+  }
+
+  static final class NoInterner implements Interner {
+    @Override
+    public String intern(String s) {
+      return s;
+    }
+  }
+
+  static final class RuntimeInterner implements Interner {
+    @Override
+    public String intern(String s) {
+      return s.intern();
+    }
+  }
+
+  /** 先无锁 get，未命中再 putIfAbsent */
+  static final class MapInterner implements Interner {
+    private final ConcurrentHashMap<String, String> map =
+        new ConcurrentHashMap<>();
+
+    @Override
+    public String intern(String s) {
+      String e = map.get(s);
+      if (e != null)
+        return e;
+      String prev = map.putIfAbsent(s, s);
+      return prev != null ? prev : s;
+    }
+  }
+
+  /** 键无人引用时随 GC 清除；单把锁，竞争下即为全局串行点 */
+  static final class WeakInterner implements Interner {
+    private final WeakHashMap<String, WeakReference<String>> map =
+        new WeakHashMap<>();
+
+    @Override
+    public synchronized String intern(String s) {
+      WeakReference<String> ref = map.get(s);
+      String e = ref != null ? ref.get() : null;
+      if (e != null)
+        return e;
+      map.put(s, new WeakReference<>(s));
+      return s;
+    }
+  }
+
   // ========== 分配/工作线程/工具函数 ==========
 
   private static void workerLoop(CountDownLatch stop, int ringSize) {
@@ -736,6 +1202,221 @@ public class HeapStressSuite {
     printMemory("初始");
   }
 
+  // ========== 堆外场景工具 ==========
+
+  /** 延迟采样（纳秒），输出 avg/p50/p99/max */
+  private static final class LatencyStats {
+    private long[] samples;
+    private int n;
+
+    LatencyStats(int capacity) { samples = new long[Math.max(16, capacity)]; }
+
+    void add(long ns) {
+      if (n == samples.length)
+        samples = Arrays.copyOf(samples, n * 2);
+      samples[n++] = ns;
+    }
+
+    String describe() {
+      if (n == 0)
+        return "n=0";
+      long[] sorted = Arrays.copyOf(samples, n);
+      Arrays.sort(sorted);
+      long sum = 0;
+      for (long v : sorted)
+        sum += v;
+      return String.format(
+          Locale.ROOT, "n=%d avg=%.1fus p50=%.1fus p99=%.1fus max=%.1fus", n,
+          sum / (n * 1000.0), sorted[n / 2] / 1000.0,
+          sorted[Math.min(n - 1, (int)(n * 0.99))] / 1000.0,
+          sorted[n - 1] / 1000.0);
+    }
+  }
+
+  /** 记录丢弃时刻的幻引用，入队即视为 Cleaner 已处理该缓冲区 */
+  private static final class DroppedBuffer extends PhantomReference<ByteBuffer> {
+    final long droppedAtNs;
+    final int bytes;
+
+    DroppedBuffer(ByteBuffer buf, ReferenceQueue<ByteBuffer> q, int bytes) {
+      super(buf, q);
+      this.droppedAtNs = System.nanoTime();
+      this.bytes = bytes;
+    }
+  }
+
+  private static final class OffHeapTracker {
+    final LatencyStats alloc;
+    final LatencyStats release;
+    final LatencyStats cleaner;
+    final ReferenceQueue<ByteBuffer> queue = new ReferenceQueue<>();
+    final Set<DroppedBuffer> pending = new HashSet<>();
+
+    OffHeapTracker(int expected) {
+      alloc = new LatencyStats(expected);
+      release = new LatencyStats(expected / 2);
+      cleaner = new LatencyStats(expected / 2);
+    }
+
+    /** explicit=true 时尽力立即释放；否则只断开引用，等待 GC 触发 Cleaner */
+    void release(ByteBuffer buf, int bytes, boolean explicit) {
+      if (explicit) {
+        long t0 = System.nanoTime();
+        if (tryFreeDirect(buf)) {
+          release.add(System.nanoTime() - t0);
+          offHeapFreedExplicit.addAndGet(bytes);
+          return;
+        }
+      }
+      pending.add(new DroppedBuffer(buf, queue, bytes));
+    }
+
+    void drain() {
+      Reference<? extends ByteBuffer> r;
+      while ((r = queue.poll()) != null) {
+        DroppedBuffer d = (DroppedBuffer)r;
+        cleaner.add(System.nanoTime() - d.droppedAtNs);
+        offHeapCleaned.addAndGet(d.bytes);
+        pending.remove(d);
+        d.clear();
+      }
+    }
+
+    void awaitCleaners(long timeoutMs) {
+      long deadline = System.currentTimeMillis() + timeoutMs;
+      while (!pending.isEmpty() && System.currentTimeMillis() < deadline) {
+        System.gc();
+        sleepMs(20);
+        drain();
+      }
+    }
+
+    void report(String label, long churnNs) {
+      System.out.printf(Locale.ROOT, "[%s] churn=%.1fms, 未回收=%d%n", label,
+                        churnNs / 1e6, pending.size());
+      System.out.println("  分配延迟: " + alloc.describe());
+      System.out.println("  显式释放延迟: " + release.describe());
+      System.out.println("  丢弃→Cleaner 入队: " + cleaner.describe());
+      pending.clear();
+    }
+  }
+
+  private static Method freeDirectMethod;
+  private static Object freeDirectTarget;
+  private static boolean freeDirectProbed;
+
+  /** 显式释放：ART 走 NioUtils.freeDirectBuffer，JDK9+ 走 Unsafe.invokeCleaner */
+  private static boolean tryFreeDirect(ByteBuffer buf) {
+    if (!freeDirectProbed) {
+      freeDirectProbed = true;
+      try {
+        Class<?> nio = tryLoadClass("java.nio.NioUtils");
+        if (nio != null) {
+          freeDirectMethod = nio.getMethod("freeDirectBuffer", ByteBuffer.class);
+        } else {
+          Class<?> unsafe = Class.forName("sun.misc.Unsafe");
+          Field f = unsafe.getDeclaredField("theUnsafe");
+          f.setAccessible(true);
+          freeDirectTarget = f.get(null);
+          freeDirectMethod = unsafe.getMethod("invokeCleaner", ByteBuffer.class);
+        }
+      } catch (Throwable t) {
+        System.out.println("（提示）显式释放不可用: " + t);
+        freeDirectMethod = null;
+      }
+    }
+    if (freeDirectMethod == null)
+      return false;
+    try {
+      freeDirectMethod.invoke(freeDirectTarget, buf);
+      return true;
+    } catch (Throwable t) {
+      return false;
+    }
+  }
+
+  /** 每页写一个字节，确保物理页真正提交 */
+  private static void touchPages(ByteBuffer b, byte v) {
+    for (int p = 0; p < b.capacity(); p += 4096)
+      b.put(p, v);
+  }
+
+  /** 按 perSec 限速：第 done 次分配不早于 start + done/perSec 秒 */
+  private static void throttle(long startNs, long done, int perSec) {
+    if (perSec <= 0)
+      return;
+    long wait = startNs + done * 1_000_000_000L / perSec - System.nanoTime();
+    if (wait > 0)
+      LockSupport.parkNanos(wait);
+  }
+
+  private static long nativeHeapBytes() {
+    Long v = tryGetNativeHeapSize().size;
+    return v != null ? v : -1L;
+  }
+
+  /** 读取 /proc/self/status 的 VmRSS（Linux/Android），不可用返回 -1 */
+  private static long readVmRssBytes() {
+    try (BufferedReader br =
+             new BufferedReader(new FileReader("/proc/self/status"))) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        if (line.startsWith("VmRSS:")) {
+          String kb = line.substring(6).trim().split("\\s+")[0];
+          return Long.parseLong(kb) * 1024L;
+        }
+      }
+    } catch (Throwable ignored) {
+    }
+    return -1L;
+  }
+
+  private static void printNativeGrowth(long nativeBefore, long nativePeak,
+                                        long rssBefore, long rssPeak) {
+    System.out.println("  native 堆: " + formatGrowth(nativeBefore, nativePeak));
+    System.out.println("  VmRSS: " + formatGrowth(rssBefore, rssPeak));
+  }
+
+  private static String formatGrowth(long before, long peak) {
+    if (before < 0 || peak < 0)
+      return "unavailable";
+    return String.format(Locale.ROOT, "%.1fMB -> %.1fMB (Δ%+.1fMB)",
+                         bytesToMB(before), bytesToMB(peak),
+                         bytesToMB(peak - before));
+  }
+
+  private static File createTempFile(String prefix, String suffix)
+      throws IOException {
+    // 先用系统 tmpdir，失败再退到 /data/local/tmp（adb shell 可写）
+    try {
+      return File.createTempFile(prefix, suffix);
+    } catch (IOException ignored) {
+      File f = new File("/data/local/tmp", prefix + "-" + System.nanoTime() + suffix);
+      if (!f.exists() && !f.createNewFile())
+        throw new IOException("cannot create " + f);
+      return f;
+    }
+  }
+
+  private static int[] parseIntList(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      out[i] = parseInt(parts[i], 0);
+      if (out[i] <= 0)
+        return fallback;
+    }
+    return out;
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+
   /** 打印内存状态（free/total/max） */
   private static void printMemory(String phase) {
     Runtime runtime = Runtime.getRuntime();
@@ -2,6 +2,7 @@
 
 import android.icu.lang.UCharacter;
 import android.icu.text.BreakIterator;
+import android.icu.text.CollationKey;
 import android.icu.text.Collator;
 import android.icu.text.CompactDecimalFormat;
 import android.icu.text.DateFormat;
@@ -50,6 +51,27 @@ public final class ICUTestSuite {
       new TestCase("Calendar add/roll", ICUTestSuite::testCalendarArithmetic));
 
   public static void main(String[] args) {
+    boolean bench = false;
+    boolean collSort = false;
+    boolean textPipe = false;
+    for (String arg : args) {
+      if ("--bench".equals(arg)) {
+        bench = true;
+      } else if ("--collSort".equals(arg)) {
+        collSort = true;
+      } else if ("--textPipe".equals(arg)) {
+        textPipe = true;
+      }
+    }
+    List<FormatBench.Service<?>> icuBench = null;
+    List<FormatBench.Service<?>> javaBench = null;
+    if (bench) {
+      // Before the tests load these classes, so first= is the process's first construction.
+      icuBench = benchServices();
+      javaBench = FormatBench.javaTextServices();
+      FormatBench.measureFirst(icuBench);
+      FormatBench.measureFirst(javaBench);
+    }
     int passed = 0;
     long suiteStart = System.nanoTime();
     for (TestCase test : TESTS) {
@@ -68,6 +90,197 @@ public final class ICUTestSuite {
     }
     long totalMs = (System.nanoTime() - suiteStart) / 1_000_000L;
     System.out.println("SUCCESS: " + passed + " ICU test cases passed in " + totalMs + " ms");
+    if (bench) {
+      runBench(icuBench, javaBench, args);
+    }
+    if (collSort) {
+      runCollationSort(args);
+    }
+    if (textPipe) {
+      runTextPipeline(args);
+    }
+  }
+
+  /** --textPipe: TextPipelineBench with android.icu Normalizer2/BreakIterator, then java.text. */
+  private static void runTextPipeline(String[] args) {
+    boolean ok = TextPipelineBench.run("android.icu", new IcuText(), args);
+    ok &= TextPipelineBench.run("java.text", new TextPipelineBench.JavaText(), args);
+    if (!ok) {
+      System.err.println("FAIL: streamed text differs from the whole-String pipeline");
+      System.exit(1);
+    }
+  }
+
+  /** --collSort: CollationSortBench with the sv_SE android.icu Collator, then java.text. */
+  private static void runCollationSort(String[] args) {
+    Collator collator = Collator.getInstance(new ULocale("sv_SE"));
+    boolean ok = CollationSortBench.run("android.icu", new IcuColl(collator), args);
+    ok &= CollationSortBench.run("java.text",
+        new CollationSortBench.JavaTextColl(new Locale("sv", "SE")), args);
+    if (!ok) {
+      System.err.println("FAIL: collation sort orders disagree");
+      System.exit(1);
+    }
+  }
+
+  /**
+   * --bench: construction vs per-operation cost for the services above, with cold, cloned
+   * and ThreadLocal-cached instances (see FormatBench), then the same for java.text.
+   */
+  private static void runBench(List<FormatBench.Service<?>> icu,
+      List<FormatBench.Service<?>> javaText, String[] args) {
+    boolean ok = FormatBench.run("android.icu", icu, args);
+    ok &= FormatBench.run("java.text", javaText, args);
+    if (!ok) {
+      System.err.println("FAIL: formatter strategies disagree");
+      System.exit(1);
+    }
+  }
+
+  /** android.icu services for FormatBench; null copier = no public clone. */
+  public static List<FormatBench.Service<?>> benchServices() {
+    List<FormatBench.Service<?>> list = new ArrayList<>();
+    list.add(FormatBench.Service.of("NumberFormat",
+        () -> NumberFormat.getInstance(ULocale.GERMANY),
+        nf -> (NumberFormat) nf.clone(),
+        (nf, i) -> FormatBench.digest(nf.format(12345.678 + i))));
+    list.add(FormatBench.Service.of("CurrencyFormat",
+        () -> {
+          NumberFormat nf = NumberFormat.getCurrencyInstance(ULocale.CANADA_FRENCH);
+          nf.setCurrency(Currency.getInstance("EUR"));
+          return nf;
+        },
+        nf -> (NumberFormat) nf.clone(),
+        (nf, i) -> FormatBench.digest(nf.format(42.5 + i))));
+    list.add(FormatBench.Service.of("CompactDecimal",
+        () -> CompactDecimalFormat.getInstance(ULocale.US,
+            CompactDecimalFormat.CompactStyle.SHORT),
+        cdf -> (CompactDecimalFormat) cdf.clone(),
+        (cdf, i) -> FormatBench.digest(cdf.format(1_200L + 1_000L * i))));
+    list.add(FormatBench.Service.of("SimpleDateFormat",
+        () -> {
+          DateFormat df = new SimpleDateFormat("yyyy-MM-dd HH:mm z", ULocale.US);
+          df.setTimeZone(TimeZone.getTimeZone("UTC"));
+          return df;
+        },
+        df -> (DateFormat) df.clone(),
+        (df, i) -> FormatBench.digest(
+            df.format(new java.util.Date(FormatBench.BASE_MILLIS + i * 60_000L)))));
+    list.add(FormatBench.Service.of("Collator",
+        () -> {
+          Collator c = Collator.getInstance(new ULocale("sv_SE"));
+          c.setStrength(Collator.SECONDARY);
+          return c;
+        },
+        ICUTestSuite::cloneCollator,
+        (c, i) -> c.compare(FormatBench.WORDS[i % FormatBench.WORDS.length],
+            FormatBench.WORDS[(i + 1) % FormatBench.WORDS.length])));
+    list.add(FormatBench.Service.of("BreakIterator",
+        () -> BreakIterator.getWordInstance(ULocale.US),
+        bi -> (BreakIterator) bi.clone(),
+        (bi, i) -> countBreaks(bi, FormatBench.BREAK_TEXT)));
+    list.add(FormatBench.Service.<Transliterator>of("Transliterator",
+        () -> Transliterator.getInstance("Any-Latin; Latin-ASCII"),
+        null,
+        (t, i) -> FormatBench.digest(t.transliterate(i % 2 == 0 ? "Ελλάδα" : "Москва"))));
+    list.add(FormatBench.Service.of("MessageFormat",
+        () -> new MessageFormat("{0, plural, one{# file was} other{# files were}} "
+            + "{1, select, female{uploaded by her.} other{uploaded by them.}}", ULocale.US),
+        mf -> (MessageFormat) mf.clone(),
+        (mf, i) -> FormatBench.digest(mf.format(new Object[] {i % 7, "other"}))));
+    list.add(FormatBench.Service.<MeasureFormat>of("MeasureFormat",
+        () -> MeasureFormat.getInstance(ULocale.US, MeasureFormat.FormatWidth.SHORT),
+        null,
+        (mf, i) -> FormatBench.digest(mf.formatMeasures(
+            new Measure(i % 120, MeasureUnit.MINUTE), new Measure(15, MeasureUnit.SECOND)))));
+    list.add(FormatBench.Service.<RelativeDateTimeFormatter>of("RelativeDateTime",
+        () -> RelativeDateTimeFormatter.getInstance(ULocale.US),
+        null,
+        (f, i) -> FormatBench.digest(f.format(i % 48, RelativeDateTimeFormatter.Direction.NEXT,
+            RelativeDateTimeFormatter.RelativeUnit.HOURS))));
+    return list;
+  }
+
+  private static Collator cloneCollator(Collator c) {
+    try {
+      return (Collator) c.clone();
+    } catch (CloneNotSupportedException e) {
+      throw new AssertionError("Collator clone failed", e);
+    }
+  }
+
+  /** android.icu Collator for CollationSortBench; copies are clones, one per worker. */
+  private static final class IcuColl implements CollationSortBench.Coll<CollationKey> {
+    private final Collator collator;
+
+    IcuColl(Collator collator) {
+      this.collator = collator;
+    }
+
+    @Override
+    public int compare(String a, String b) {
+      return collator.compare(a, b);
+    }
+
+    @Override
+    public CollationKey key(String s) {
+      return collator.getCollationKey(s);
+    }
+
+    @Override
+    public int compareKeys(CollationKey a, CollationKey b) {
+      return a.compareTo(b);
+    }
+
+    @Override
+    public int keyBytes(CollationKey key) {
+      return key.toByteArray().length;
+    }
+
+    @Override
+    public CollationSortBench.Coll<CollationKey> copy() {
+      return new IcuColl(cloneCollator(collator));
+    }
+  }
+
+  /** android.icu for TextPipelineBench; Normalizer2 knows its own NFC boundaries. */
+  private static final class IcuText implements TextPipelineBench.Text {
+    private final Normalizer2 nfc = Normalizer2.getNFCInstance();
+    private final BreakIterator words = BreakIterator.getWordInstance(ULocale.ROOT);
+
+    @Override
+    public boolean hasBoundaryBefore(int cp) {
+      return nfc.hasBoundaryBefore(cp);
+    }
+
+    @Override
+    public String normalize(CharSequence s) {
+      return nfc.normalize(s);
+    }
+
+    @Override
+    public void setText(String s) {
+      words.setText(s);
+    }
+
+    @Override
+    public int first() {
+      return words.first();
+    }
+
+    @Override
+    public int next() {
+      return words.next();
+    }
+  }
+
+  private static long countBreaks(BreakIterator bi, String text) {
+    bi.setText(text);
+    long n = 0;
+    for (int end = bi.next(); end != BreakIterator.DONE; end = bi.next()) {
+      n++;
+    }
+    return n;
   }
 
   private static void testLocaleBasics() {
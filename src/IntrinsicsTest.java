@@ -17,9 +17,12 @@ public final class IntrinsicsTest {
 
   private static final int DEFAULT_ITERS = 20000;
   private static final int QUIET_ITERS_THRESHOLD = 50000;
+  private static final int WARM_UP_ITERS = 2000;
+  private static final int DEFAULT_WARMUP_BATCH = 500;
+  private static final int DEFAULT_WARMUP_BATCHES = 400;
+  private static final long WARMUP_BUDGET_MS = 5000;
   private static final double EPS_D = 1e-9;
   private static final float EPS_F = 1e-5f;
-  private static boolean QUIET = false;
 
   private IntrinsicsTest() {}
 
@@ -29,6 +32,9 @@ public final class IntrinsicsTest {
     int iters = DEFAULT_ITERS;
     boolean forceQuiet = false;
     boolean forceVerbose = false;
+    boolean warmupCurve = false;
+    int warmupBatch = DEFAULT_WARMUP_BATCH;
+    int warmupBatches = DEFAULT_WARMUP_BATCHES;
     for (String s : args) {
       if ("--short".equals(s)) {
         iters = 4000;
@@ -41,15 +47,43 @@ public final class IntrinsicsTest {
         forceQuiet = true;
       } else if ("--verbose".equals(s)) {
         forceVerbose = true;
+      } else if ("--warmupCurve".equals(s)) {
+        warmupCurve = true;
+      } else if (s.startsWith("--warmupBatch=")) {
+        warmupBatch = parseInt(s.substring(s.indexOf('=') + 1), warmupBatch);
+      } else if (s.startsWith("--warmupBatches=")) {
+        warmupBatches =
+            parseInt(s.substring(s.indexOf('=') + 1), warmupBatches);
       }
     }
     if (iters < 1)
       iters = 1;
 
-    QUIET = forceVerbose ? false : (forceQuiet || iters >= QUIET_ITERS_THRESHOLD);
+    // The mode is process-wide (AllTests runs every suite in one VM), so it
+    // is restored on the way out; -Dtestsupport.log always wins.
+    TestSupport.LogMode savedMode = TestSupport.getLogMode();
+    if (!TestSupport.hasExplicitLogMode()) {
+      if (forceVerbose) {
+        TestSupport.setLogMode(TestSupport.LogMode.ALL);
+      } else if (forceQuiet || iters >= QUIET_ITERS_THRESHOLD) {
+        TestSupport.setLogMode(TestSupport.LogMode.FAILURES);
+      }
+    }
+    try {
+      run(iters, warmupCurve, warmupBatch, warmupBatches);
+    } finally {
+      TestSupport.setLogMode(savedMode);
+    }
+    if (CTR.getFail() != 0)
+      System.exit(1);
+  }
 
+  private static void run(int iters, boolean warmupCurve, int warmupBatch,
+                          int warmupBatches) {
     JitSupport.requestJitCompilation(IntrinsicsTest.class);
-    warmUp(2000);
+    if (warmupCurve)
+      runWarmupCurves(warmupBatch, warmupBatches);
+    warmUp(WARM_UP_ITERS);
 
     testIntegerIntrinsics(iters);
     testLongIntrinsics(iters);
@@ -73,8 +107,6 @@ public final class IntrinsicsTest {
     testReachabilityFenceOptional();
 
     TestSupport.summary("IntrinsicsTest", CTR);
-    if (CTR.getFail() != 0)
-      System.exit(1);
   }
 
   private static void warmUp(int iters) {
@@ -88,6 +120,47 @@ public final class IntrinsicsTest {
       System.out.println("warmup: " + h);
   }
 
+  // Records warm-up curves for warmUp() and two intrinsic-heavy kernels,
+  // before anything else has run them, and compares with WARM_UP_ITERS.
+  private static void runWarmupCurves(int batch, int batches) {
+    final byte[] crcBuf = new byte[256];
+    JitSupport.WarmupCurve warm = JitSupport.recordWarmup(
+        "warmUp", n -> {
+          warmUp(n);
+          return n;
+        }, batch, batches, WARMUP_BUDGET_MS);
+    warm.print();
+    System.out.printf(Locale.ROOT,
+                      "warmup warmUp: fixed budget %d iters, measured %d " +
+                          "iters to peak%n",
+                      WARM_UP_ITERS, warm.itersToPeak());
+    JitSupport.recordWarmup("bitOps", IntrinsicsTest::bitOpsKernel, batch,
+                            batches, WARMUP_BUDGET_MS)
+        .print();
+    JitSupport.recordWarmup("crc32", n -> crc32Kernel(crcBuf, n), batch,
+                            batches, WARMUP_BUDGET_MS)
+        .print();
+  }
+
+  private static long bitOpsKernel(int iters) {
+    long h = 0;
+    for (int i = 0; i < iters; i++) {
+      int x = mix32(i);
+      h += Integer.bitCount(x) + Integer.numberOfLeadingZeros(x) +
+           Integer.rotateLeft(x, i & 31) + Long.numberOfTrailingZeros(h | 1);
+    }
+    return h;
+  }
+
+  private static long crc32Kernel(byte[] buf, int iters) {
+    CRC32 crc = new CRC32();
+    for (int i = 0; i < iters; i++) {
+      buf[i & (buf.length - 1)] = (byte)i;
+      crc.update(buf, 0, buf.length);
+    }
+    return crc.getValue();
+  }
+
   private static void testIntegerIntrinsics(int iters) {
     for (int i = 0; i < iters; i++) {
       int x = mix32(i);
@@ -667,8 +740,7 @@ public final class IntrinsicsTest {
     try {
       Method m = Class.forName("java.lang.invoke.VarHandle").getDeclaredMethod("fullFence");
       m.invoke(null);
-      System.out.println("OK   VarHandle.fullFence");
-      CTR.incPass();
+      checkTrue("VarHandle.fullFence", true);
     } catch (Throwable t) {
       System.out.println("SKIP VarHandle.fullFence: " + t.getClass().getSimpleName());
     }
@@ -821,8 +893,7 @@ public final class IntrinsicsTest {
       Method m = Class.forName("java.lang.ref.Reference")
                       .getDeclaredMethod("reachabilityFence", Object.class);
       m.invoke(null, new Object());
-      System.out.println("OK   Reference.reachabilityFence");
-      CTR.incPass();
+      checkTrue("Reference.reachabilityFence", true);
     } catch (Throwable t) {
       System.out.println("SKIP Reference.reachabilityFence: " + t.getClass().getSimpleName());
     }
@@ -858,55 +929,19 @@ public final class IntrinsicsTest {
   }
 
   private static void checkEq(String name, int got, int exp) {
-    if (QUIET) {
-      if (got != exp) {
-        System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
-        CTR.incFail();
-      } else {
-        CTR.incPass();
-      }
-    } else {
-      TestSupport.checkEq(name, got, exp, CTR);
-    }
+    TestSupport.checkEq(name, got, exp, CTR);
   }
 
   private static void checkEq(String name, long got, long exp) {
-    if (QUIET) {
-      if (got != exp) {
-        System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
-        CTR.incFail();
-      } else {
-        CTR.incPass();
-      }
-    } else {
-      TestSupport.checkEq(name, got, exp, CTR);
-    }
+    TestSupport.checkEq(name, got, exp, CTR);
   }
 
   private static void checkTrue(String name, boolean ok) {
-    if (QUIET) {
-      if (!ok) {
-        System.out.println("FAIL " + name);
-        CTR.incFail();
-      } else {
-        CTR.incPass();
-      }
-    } else {
-      TestSupport.checkTrue(name, ok, CTR);
-    }
+    TestSupport.checkTrue(name, ok, CTR);
   }
 
   private static void checkApprox(String name, double got, double exp, double eps) {
-    if (QUIET) {
-      if (Math.abs(got - exp) > eps) {
-        System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
-        CTR.incFail();
-      } else {
-        CTR.incPass();
-      }
-    } else {
-      TestSupport.checkApprox(name, got, exp, eps, CTR);
-    }
+    TestSupport.checkApprox(name, got, exp, eps, CTR);
   }
 
   private static int mix32(int x) {
@@ -3,6 +3,9 @@
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.function.LongSupplier;
 
 public class InvokeShapeTest {
@@ -23,14 +26,12 @@ public class InvokeShapeTest {
   }
   private static long encBox(Box b) { return (b == null) ? 0L : 97L * b.value; }
 
+  private static final TestSupport.Counter CTR = new TestSupport.Counter();
+
   private static void assertEquals(String name, long expect, long actual) {
-    if (expect != actual) {
-      System.out.println("FAIL: " + name + " expect=" + expect +
-                         " actual=" + actual);
+    TestSupport.checkEq(name, actual, expect, CTR);
+    if (expect != actual)
       throw new AssertionError(name + " failed");
-    } else {
-      System.out.println("OK  : " + name + " = " + actual);
-    }
   }
 
   // =========================================================
@@ -293,11 +294,380 @@ public class InvokeShapeTest {
     }
   }
 
+  // =========================================================
+  // 7. 调用开销基准（--bench）：每种 invoke 的 ns/call
+  //    调用点状态：mono / bi / mega（8 个接收者类，超过 ART 4 项 inline cache）
+  //    阶段：cold（首批调用，JIT 阈值前在解释器里跑）/ jit / warm
+  //    真正的纯解释器数据请用 -Xint 运行。
+  // =========================================================
+
+  // 基准专用接收者：只覆写 ifaceNonRange，让 virtual/interface/MethodHandle
+  // 调用点看到不同数量的接收者类。
+  static final class InterfaceImpl1 extends InterfaceImpl {
+    InterfaceImpl1(int id) { super(id); }
+
+    @Override
+    public long ifaceNonRange(int a, long b, float c, double d, Box box) {
+      return 51L ^ encInt(id) ^ encInt(a) ^ encLong(b) ^ encFloat(c) ^
+          encDouble(d) ^ encBox(box);
+    }
+  }
+
+  static final class InterfaceImpl2 extends InterfaceImpl {
+    InterfaceImpl2(int id) { super(id); }
+
+    @Override
+    public long ifaceNonRange(int a, long b, float c, double d, Box box) {
+      return 52L ^ encInt(id) ^ encInt(a) ^ encLong(b) ^ encFloat(c) ^
+          encDouble(d) ^ encBox(box);
+    }
+  }
+
+  static final class InterfaceImpl3 extends InterfaceImpl {
+    InterfaceImpl3(int id) { super(id); }
+
+    @Override
+    public long ifaceNonRange(int a, long b, float c, double d, Box box) {
+      return 53L ^ encInt(id) ^ encInt(a) ^ encLong(b) ^ encFloat(c) ^
+          encDouble(d) ^ encBox(box);
+    }
+  }
+
+  static final class InterfaceImpl4 extends InterfaceImpl {
+    InterfaceImpl4(int id) { super(id); }
+
+    @Override
+    public long ifaceNonRange(int a, long b, float c, double d, Box box) {
+      return 54L ^ encInt(id) ^ encInt(a) ^ encLong(b) ^ encFloat(c) ^
+          encDouble(d) ^ encBox(box);
+    }
+  }
+
+  static final class InterfaceImpl5 extends InterfaceImpl {
+    InterfaceImpl5(int id) { super(id); }
+
+    @Override
+    public long ifaceNonRange(int a, long b, float c, double d, Box box) {
+      return 55L ^ encInt(id) ^ encInt(a) ^ encLong(b) ^ encFloat(c) ^
+          encDouble(d) ^ encBox(box);
+    }
+  }
+
+  static final class InterfaceImpl6 extends InterfaceImpl {
+    InterfaceImpl6(int id) { super(id); }
+
+    @Override
+    public long ifaceNonRange(int a, long b, float c, double d, Box box) {
+      return 56L ^ encInt(id) ^ encInt(a) ^ encLong(b) ^ encFloat(c) ^
+          encDouble(d) ^ encBox(box);
+    }
+  }
+
+  static final class InterfaceImpl7 extends InterfaceImpl {
+    InterfaceImpl7(int id) { super(id); }
+
+    @Override
+    public long ifaceNonRange(int a, long b, float c, double d, Box box) {
+      return 57L ^ encInt(id) ^ encInt(a) ^ encLong(b) ^ encFloat(c) ^
+          encDouble(d) ^ encBox(box);
+    }
+  }
+
+  private static final int BENCH_SLOTS = 8; // 下标 i & 7
+  private static final int SITE_MONO = 0;
+  private static final int SITE_BI = 1;
+  private static final int SITE_MEGA = 2;
+  private static final int SITE_RANGE = 3; // range 形式，只测 mono
+  private static final String[] SITE_NAMES = {"mono", "bi", "mega", "range"};
+
+  private static final int DEFAULT_BENCH_ITERS = 1000000;
+  private static final int DEFAULT_BENCH_REPS = 3;
+  private static final int DEFAULT_BENCH_COLD = 2000;
+  private static final Box BENCH_BOX = new Box(5);
+  private static volatile long BENCH_SINK;
+
+  interface BenchLoop {
+    long run(int n) throws Throwable;
+  }
+
+  static final class BenchRow {
+    final String kind;
+    final int site;
+    final BenchLoop loop;
+    double coldNs;
+    double jitNs;
+    double warmNs;
+
+    BenchRow(String kind, int site, BenchLoop loop) {
+      this.kind = kind;
+      this.site = site;
+      this.loop = loop;
+    }
+  }
+
+  private static InterfaceImpl newImpl(int cls) {
+    switch (cls) {
+    case 1:
+      return new InterfaceImpl1(13);
+    case 2:
+      return new InterfaceImpl2(13);
+    case 3:
+      return new InterfaceImpl3(13);
+    case 4:
+      return new InterfaceImpl4(13);
+    case 5:
+      return new InterfaceImpl5(13);
+    case 6:
+      return new InterfaceImpl6(13);
+    case 7:
+      return new InterfaceImpl7(13);
+    default:
+      return new InterfaceImpl(13);
+    }
+  }
+
+  // mono：1 个类；bi：2 个类交替；mega：8 个类。
+  private static InterfaceImpl[] receivers(int site) {
+    int classes = site == SITE_MEGA ? BENCH_SLOTS : site == SITE_BI ? 2 : 1;
+    InterfaceImpl[] rs = new InterfaceImpl[BENCH_SLOTS];
+    for (int i = 0; i < rs.length; i++)
+      rs[i] = newImpl(i % classes);
+    return rs;
+  }
+
+  private static MethodHandle[] boundHandles(InterfaceImpl[] rs, String name,
+                                             MethodType mt) throws Throwable {
+    MethodHandle mh =
+        MethodHandles.lookup().findVirtual(InterfaceImpl.class, name, mt);
+    MethodHandle[] mhs = new MethodHandle[rs.length];
+    for (int i = 0; i < rs.length; i++) {
+      // mono 时所有槽位共用同一个句柄对象
+      mhs[i] = (i > 0 && rs[i] == rs[0]) ? mhs[0] : mh.bindTo(rs[i]);
+    }
+    return mhs;
+  }
+
+  // 每个 case 是独立的调用点（各自的 inline cache / profile）。
+  private static long benchStatic(int site, int n) {
+    Box box = BENCH_BOX;
+    long acc = 0;
+    if (site == SITE_RANGE) {
+      for (int i = 0; i < n; i++)
+        acc += staticTargetRange(i, 2L, 3.5f, 4.5, box, 42);
+    } else {
+      for (int i = 0; i < n; i++)
+        acc += staticTargetNonRange(i, 2L, 3.5f, 4.5, box);
+    }
+    return acc;
+  }
+
+  private static long benchVirtual(int site, InterfaceImpl[] rs, int n) {
+    Box box = BENCH_BOX;
+    long acc = 0;
+    switch (site) {
+    case SITE_MONO:
+      for (int i = 0; i < n; i++)
+        acc += rs[i & 7].ifaceNonRange(i, 2L, 3.5f, 4.5, box);
+      break;
+    case SITE_BI:
+      for (int i = 0; i < n; i++)
+        acc += rs[i & 7].ifaceNonRange(i, 2L, 3.5f, 4.5, box);
+      break;
+    case SITE_MEGA:
+      for (int i = 0; i < n; i++)
+        acc += rs[i & 7].ifaceNonRange(i, 2L, 3.5f, 4.5, box);
+      break;
+    default:
+      for (int i = 0; i < n; i++)
+        acc += rs[i & 7].ifaceRange(i, 2L, 3.5f, 4.5, box, 42);
+      break;
+    }
+    return acc;
+  }
+
+  private static long benchInterface(int site, MyInterface[] rs, int n) {
+    Box box = BENCH_BOX;
+    long acc = 0;
+    switch (site) {
+    case SITE_MONO:
+      for (int i = 0; i < n; i++)
+        acc += rs[i & 7].ifaceNonRange(i, 2L, 3.5f, 4.5, box);
+      break;
+    case SITE_BI:
+      for (int i = 0; i < n; i++)
+        acc += rs[i & 7].ifaceNonRange(i, 2L, 3.5f, 4.5, box);
+      break;
+    case SITE_MEGA:
+      for (int i = 0; i < n; i++)
+        acc += rs[i & 7].ifaceNonRange(i, 2L, 3.5f, 4.5, box);
+      break;
+    default:
+      for (int i = 0; i < n; i++)
+        acc += rs[i & 7].ifaceRange(i, 2L, 3.5f, 4.5, box, 42);
+      break;
+    }
+    return acc;
+  }
+
+  private static long benchPolymorphic(int site, MethodHandle[] mhs, int n)
+      throws Throwable {
+    Box box = BENCH_BOX;
+    long acc = 0;
+    switch (site) {
+    case SITE_MONO:
+      for (int i = 0; i < n; i++)
+        acc += (long)mhs[i & 7].invokeExact(i, 2L, 3.5f, 4.5, box);
+      break;
+    case SITE_BI:
+      for (int i = 0; i < n; i++)
+        acc += (long)mhs[i & 7].invokeExact(i, 2L, 3.5f, 4.5, box);
+      break;
+    case SITE_MEGA:
+      for (int i = 0; i < n; i++)
+        acc += (long)mhs[i & 7].invokeExact(i, 2L, 3.5f, 4.5, box);
+      break;
+    default:
+      for (int i = 0; i < n; i++)
+        acc += (long)mhs[i & 7].invokeExact(i, 2L, 3.5f, 4.5, box, 42);
+      break;
+    }
+    return acc;
+  }
+
+  // invoke-custom 每次迭代都执行（捕获 lambda）再经 getAsLong 调到目标；
+  // 它没有接收者状态，所以只有 mono / range。
+  private static long benchCustom(int site, int n) {
+    final Box box = BENCH_BOX;
+    long acc = 0;
+    if (site == SITE_RANGE) {
+      for (int i = 0; i < n; i++) {
+        final int a = i;
+        LongSupplier sup = () -> customSinkRange(a, 2L, 3.5f, 4.5, box, 33, 44);
+        acc += sup.getAsLong();
+      }
+    } else {
+      for (int i = 0; i < n; i++) {
+        final int a = i;
+        LongSupplier sup = () -> customSinkNonRange(a, 2L, 3.5f, 4.5, box);
+        acc += sup.getAsLong();
+      }
+    }
+    return acc;
+  }
+
+  private static double timeLoop(BenchLoop loop, int n) throws Throwable {
+    long t0 = System.nanoTime();
+    BENCH_SINK ^= loop.run(n);
+    return (System.nanoTime() - t0) / (double)n;
+  }
+
+  private static void runBench(int iters, int reps, int cold) throws Throwable {
+    System.out.println("== invoke bench: iters=" + iters + " reps=" + reps +
+                       " cold=" + cold + " vm=" +
+                       System.getProperty("java.vm.name") + " ==");
+    final InterfaceImpl[][] rs = new InterfaceImpl[SITE_NAMES.length][];
+    final MethodHandle[][] mhs = new MethodHandle[SITE_NAMES.length][];
+    MethodType mt1 = MethodType.methodType(long.class, int.class, long.class,
+                                           float.class, double.class,
+                                           Box.class);
+    MethodType mt2 = mt1.appendParameterTypes(int.class);
+    for (int site = 0; site < SITE_NAMES.length; site++) {
+      rs[site] = receivers(site == SITE_RANGE ? SITE_MONO : site);
+      mhs[site] = boundHandles(rs[site],
+                               site == SITE_RANGE ? "ifaceRange"
+                                                  : "ifaceNonRange",
+                               site == SITE_RANGE ? mt2 : mt1);
+    }
+
+    List<BenchRow> rows = new ArrayList<>();
+    for (final int site : new int[] {SITE_MONO, SITE_RANGE})
+      rows.add(new BenchRow("static", site, n -> benchStatic(site, n)));
+    for (int s = 0; s < SITE_NAMES.length; s++) {
+      final int site = s;
+      rows.add(new BenchRow("virtual", site,
+                            n -> benchVirtual(site, rs[site], n)));
+    }
+    for (int s = 0; s < SITE_NAMES.length; s++) {
+      final int site = s;
+      rows.add(new BenchRow("interface", site,
+                            n -> benchInterface(site, rs[site], n)));
+    }
+    for (int s = 0; s < SITE_NAMES.length; s++) {
+      final int site = s;
+      rows.add(new BenchRow("polymorphic", site,
+                            n -> benchPolymorphic(site, mhs[site], n)));
+    }
+    for (final int site : new int[] {SITE_MONO, SITE_RANGE})
+      rows.add(new BenchRow("custom", site, n -> benchCustom(site, n)));
+
+    // cold：所有调用点的第一批调用，尽量赶在 JIT 之前
+    for (BenchRow row : rows)
+      row.coldNs = timeLoop(row.loop, cold);
+
+    // 同一组接收者，virtual / interface / MethodHandle 的结果必须一致
+    for (int site = 0; site < SITE_NAMES.length; site++) {
+      long v = benchVirtual(site, rs[site], cold);
+      assertEquals("bench.interface==virtual." + SITE_NAMES[site], v,
+                   benchInterface(site, rs[site], cold));
+      assertEquals("bench.polymorphic==virtual." + SITE_NAMES[site], v,
+                   benchPolymorphic(site, mhs[site], cold));
+    }
+
+    // jit：请求编译并跑过一轮 iters 之后的第一次计时
+    JitSupport.requestJitCompilation(InvokeShapeTest.class);
+    for (BenchRow row : rows) {
+      BENCH_SINK ^= row.loop.run(iters);
+      row.jitNs = timeLoop(row.loop, iters);
+    }
+
+    // warm：再热身后取 reps 次里的最好成绩
+    for (BenchRow row : rows) {
+      row.warmNs = Double.MAX_VALUE;
+      for (int r = 0; r < reps; r++)
+        row.warmNs = Math.min(row.warmNs, timeLoop(row.loop, iters));
+    }
+
+    for (BenchRow row : rows) {
+      System.out.printf(Locale.ROOT,
+                        "bench %-11s %-5s cold=%8.2fns jit=%7.2fns " +
+                            "warm=%7.2fns%n",
+                        row.kind, SITE_NAMES[row.site], row.coldNs, row.jitNs,
+                        row.warmNs);
+    }
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+
   // =========================================================
   // 入口：把所有测试跑一遍
   // =========================================================
 
   public static void main(String[] args) throws Throwable {
+    boolean bench = false;
+    int benchIters = DEFAULT_BENCH_ITERS;
+    int benchReps = DEFAULT_BENCH_REPS;
+    int benchCold = DEFAULT_BENCH_COLD;
+    for (String s : args) {
+      if ("--bench".equals(s)) {
+        bench = true;
+      } else if (s.startsWith("--benchIters=")) {
+        benchIters = parseInt(s.substring(s.indexOf('=') + 1), benchIters);
+      } else if (s.startsWith("--benchReps=")) {
+        benchReps = parseInt(s.substring(s.indexOf('=') + 1), benchReps);
+      } else if (s.startsWith("--benchCold=")) {
+        benchCold = parseInt(s.substring(s.indexOf('=') + 1), benchCold);
+      } else if ("--short".equals(s)) {
+        benchIters = 100000;
+        benchReps = 2;
+      }
+    }
+
     testInvokeStatic();
     testInvokeInstance();
     testInvokeInterface();
@@ -306,5 +676,11 @@ public class InvokeShapeTest {
     testStringInitNonRange();
     testStringInitRange();
     System.out.println("All nterp invoke tests passed (Java side).");
+
+    if (bench) {
+      runBench(Math.max(1, benchIters), Math.max(1, benchReps),
+               Math.max(1, benchCold));
+    }
+    TestSupport.summary("InvokeShapeTest", CTR);
   }
 }
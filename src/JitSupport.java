@@ -3,10 +3,79 @@
  
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 public final class JitSupport {
+  // Warm-up recorder: a batch at least this much faster than the current
+  // level starts a new phase; the peak is reached within PEAK_SLACK of best.
+  private static final double PHASE_DROP = 0.7;
+  private static final double PEAK_SLACK = 1.10;
+  private static final int MIN_BATCHES = 16;
+  private static final int STABLE_WINDOW = 8;
+
+  private static volatile long SINK;
+
   private JitSupport() {}
 
+  /** Runs {@code iters} iterations of a workload; the result is sunk. */
+  public interface Kernel {
+    long run(int iters);
+  }
+
+  /** Per-batch timings of one kernel plus the phases inferred from them. */
+  public static final class WarmupCurve {
+    public final String name;
+    public final int batchIters;
+    public final double[] nsPerIter;
+    public final long[] elapsedNanos;
+    public final String[] phaseNames;
+    public final int[] phaseStart;
+    public final double[] phaseNsPerIter;
+    public final int peakBatch;
+
+    WarmupCurve(String name, int batchIters, double[] nsPerIter,
+                long[] elapsedNanos, String[] phaseNames, int[] phaseStart,
+                double[] phaseNsPerIter, int peakBatch) {
+      this.name = name;
+      this.batchIters = batchIters;
+      this.nsPerIter = nsPerIter;
+      this.elapsedNanos = elapsedNanos;
+      this.phaseNames = phaseNames;
+      this.phaseStart = phaseStart;
+      this.phaseNsPerIter = phaseNsPerIter;
+      this.peakBatch = peakBatch;
+    }
+
+    public double peakNsPerIter() {
+      return phaseNsPerIter[phaseNsPerIter.length - 1];
+    }
+
+    /** Iterations run up to and including the first batch at peak. */
+    public long itersToPeak() { return (long)(peakBatch + 1) * batchIters; }
+
+    public double millisToPeak() { return elapsedNanos[peakBatch] / 1e6; }
+
+    public void print() {
+      System.out.printf(Locale.ROOT,
+                        "warmup %s: batch=%d batches=%d peak=%.2fns/iter " +
+                            "after %d iters (%.1fms)%n",
+                        name, batchIters, nsPerIter.length, peakNsPerIter(),
+                        itersToPeak(), millisToPeak());
+      for (int p = 0; p < phaseNames.length; p++) {
+        int b = phaseStart[p];
+        System.out.printf(Locale.ROOT,
+                          "warmup %s:   %-11s from batch %d (%d iters, " +
+                              "%.1fms) ~%.2fns/iter%n",
+                          name, phaseNames[p], b, (long)b * batchIters,
+                          b == 0 ? 0.0 : elapsedNanos[b - 1] / 1e6,
+                          phaseNsPerIter[p]);
+      }
+    }
+  }
+
   public static void requestJitCompilation(Class<?> cls) {
     try {
       Class<?> vmRuntime = Class.forName("dalvik.system.VMRuntime");
@@ -32,4 +101,98 @@ public final class JitSupport {
       // java.lang.Compiler may be absent or disabled.
     }
   }
+
+  /**
+   * Runs {@code kernel} in timed batches of {@code batchIters} until the
+   * throughput has been flat for a while, {@code maxBatches} ran or
+   * {@code budgetMs} elapsed, and splits the curve into phases at step
+   * drops in ns/iter. Phase names are inferred from their order only
+   * (interpreter, then baseline, then optimised); a single phase means the
+   * code was already compiled or the VM does not tier.
+   */
+  public static WarmupCurve recordWarmup(String name, Kernel kernel,
+                                         int batchIters, int maxBatches,
+                                         long budgetMs) {
+    batchIters = Math.max(1, batchIters);
+    maxBatches = Math.max(1, maxBatches);
+    double[] ns = new double[maxBatches];
+    long[] elapsed = new long[maxBatches];
+    long start = System.nanoTime();
+    long deadline = start + budgetMs * 1000000L;
+    int n = 0;
+    while (n < maxBatches) {
+      long t0 = System.nanoTime();
+      SINK ^= kernel.run(batchIters);
+      long t1 = System.nanoTime();
+      ns[n] = (t1 - t0) / (double)batchIters;
+      elapsed[n] = t1 - start;
+      n++;
+      if (t1 > deadline || (n >= MIN_BATCHES && isFlat(ns, n)))
+        break;
+    }
+    ns = Arrays.copyOf(ns, n);
+    elapsed = Arrays.copyOf(elapsed, n);
+
+    double[] smooth = new double[n];
+    for (int b = 0; b < n; b++) {
+      smooth[b] = median(ns, Math.max(0, b - 1), Math.min(n, b + 2));
+    }
+
+    List<Integer> starts = new ArrayList<>();
+    starts.add(0);
+    double level = smooth[0];
+    double best = smooth[0];
+    for (int b = 1; b < n; b++) {
+      if (smooth[b] < level * PHASE_DROP) {
+        starts.add(b);
+        level = smooth[b];
+      } else {
+        level = Math.min(level, smooth[b]);
+      }
+      best = Math.min(best, smooth[b]);
+    }
+    int peak = 0;
+    while (peak < n - 1 && smooth[peak] > best * PEAK_SLACK)
+      peak++;
+
+    int phases = starts.size();
+    String[] names = new String[phases];
+    int[] phaseStart = new int[phases];
+    double[] phaseNs = new double[phases];
+    for (int p = 0; p < phases; p++) {
+      phaseStart[p] = starts.get(p);
+      int end = p + 1 < phases ? starts.get(p + 1) : n;
+      phaseNs[p] = median(smooth, phaseStart[p], end);
+      if (phases == 1)
+        names[p] = "steady";
+      else if (p == 0)
+        names[p] = "interpreter";
+      else if (p == phases - 1)
+        names[p] = "optimized";
+      else
+        names[p] = phases == 3 ? "baseline" : "tier" + p;
+    }
+    return new WarmupCurve(name, batchIters, ns, elapsed, names, phaseStart,
+                           phaseNs, peak);
+  }
+
+  // Last STABLE_WINDOW batches within 10% of each other and of the best.
+  private static boolean isFlat(double[] ns, int n) {
+    double lo = Double.MAX_VALUE;
+    double hi = 0;
+    for (int b = n - STABLE_WINDOW; b < n; b++) {
+      lo = Math.min(lo, ns[b]);
+      hi = Math.max(hi, ns[b]);
+    }
+    double best = lo;
+    for (int b = 0; b < n - STABLE_WINDOW; b++)
+      best = Math.min(best, ns[b]);
+    return hi <= lo * PEAK_SLACK && lo <= best * PEAK_SLACK;
+  }
+
+  private static double median(double[] values, int from, int to) {
+    double[] part = Arrays.copyOfRange(values, from, to);
+    Arrays.sort(part);
+    return part[part.length / 2];
+  }
 }
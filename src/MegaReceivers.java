@@ -0,0 +1,348 @@
+// MegaReceivers.java
+// GENERATED by tools/MegaReceiverGen.java; do not edit.
+// Regenerate with `make MegaReceivers-gen`.
+
+final class MegaReceivers {
+  // Impl<k>.apply(x) == x + k, so RECEIVERS[k] gives the expected value.
+  interface I {
+    int apply(int x);
+  }
+
+  static final I[] RECEIVERS = {
+      new Impl0(), new Impl1(), new Impl2(), new Impl3(), new Impl4(),
+      new Impl5(), new Impl6(), new Impl7(), new Impl8(), new Impl9(),
+      new Impl10(), new Impl11(), new Impl12(), new Impl13(), new Impl14(),
+      new Impl15(), new Impl16(), new Impl17(), new Impl18(), new Impl19(),
+      new Impl20(), new Impl21(), new Impl22(), new Impl23(), new Impl24(),
+      new Impl25(), new Impl26(), new Impl27(), new Impl28(), new Impl29(),
+      new Impl30(), new Impl31(), new Impl32(), new Impl33(), new Impl34(),
+      new Impl35(), new Impl36(), new Impl37(), new Impl38(), new Impl39(),
+      new Impl40(), new Impl41(), new Impl42(), new Impl43(), new Impl44(),
+      new Impl45(), new Impl46(), new Impl47(), new Impl48(), new Impl49(),
+      new Impl50(), new Impl51(), new Impl52(), new Impl53(), new Impl54(),
+      new Impl55(), new Impl56(), new Impl57(), new Impl58(), new Impl59(),
+      new Impl60(), new Impl61(), new Impl62(), new Impl63(),
+  };
+
+  private MegaReceivers() {}
+
+  static final class Impl0 implements I {
+    @Override
+    public int apply(int x) { return x + 0; }
+  }
+
+  static final class Impl1 implements I {
+    @Override
+    public int apply(int x) { return x + 1; }
+  }
+
+  static final class Impl2 implements I {
+    @Override
+    public int apply(int x) { return x + 2; }
+  }
+
+  static final class Impl3 implements I {
+    @Override
+    public int apply(int x) { return x + 3; }
+  }
+
+  static final class Impl4 implements I {
+    @Override
+    public int apply(int x) { return x + 4; }
+  }
+
+  static final class Impl5 implements I {
+    @Override
+    public int apply(int x) { return x + 5; }
+  }
+
+  static final class Impl6 implements I {
+    @Override
+    public int apply(int x) { return x + 6; }
+  }
+
+  static final class Impl7 implements I {
+    @Override
+    public int apply(int x) { return x + 7; }
+  }
+
+  static final class Impl8 implements I {
+    @Override
+    public int apply(int x) { return x + 8; }
+  }
+
+  static final class Impl9 implements I {
+    @Override
+    public int apply(int x) { return x + 9; }
+  }
+
+  static final class Impl10 implements I {
+    @Override
+    public int apply(int x) { return x + 10; }
+  }
+
+  static final class Impl11 implements I {
+    @Override
+    public int apply(int x) { return x + 11; }
+  }
+
+  static final class Impl12 implements I {
+    @Override
+    public int apply(int x) { return x + 12; }
+  }
+
+  static final class Impl13 implements I {
+    @Override
+    public int apply(int x) { return x + 13; }
+  }
+
+  static final class Impl14 implements I {
+    @Override
+    public int apply(int x) { return x + 14; }
+  }
+
+  static final class Impl15 implements I {
+    @Override
+    public int apply(int x) { return x + 15; }
+  }
+
+  static final class Impl16 implements I {
+    @Override
+    public int apply(int x) { return x + 16; }
+  }
+
+  static final class Impl17 implements I {
+    @Override
+    public int apply(int x) { return x + 17; }
+  }
+
+  static final class Impl18 implements I {
+    @Override
+    public int apply(int x) { return x + 18; }
+  }
+
+  static final class Impl19 implements I {
+    @Override
+    public int apply(int x) { return x + 19; }
+  }
+
+  static final class Impl20 implements I {
+    @Override
+    public int apply(int x) { return x + 20; }
+  }
+
+  static final class Impl21 implements I {
+    @Override
+    public int apply(int x) { return x + 21; }
+  }
+
+  static final class Impl22 implements I {
+    @Override
+    public int apply(int x) { return x + 22; }
+  }
+
+  static final class Impl23 implements I {
+    @Override
+    public int apply(int x) { return x + 23; }
+  }
+
+  static final class Impl24 implements I {
+    @Override
+    public int apply(int x) { return x + 24; }
+  }
+
+  static final class Impl25 implements I {
+    @Override
+    public int apply(int x) { return x + 25; }
+  }
+
+  static final class Impl26 implements I {
+    @Override
+    public int apply(int x) { return x + 26; }
+  }
+
+  static final class Impl27 implements I {
+    @Override
+    public int apply(int x) { return x + 27; }
+  }
+
+  static final class Impl28 implements I {
+    @Override
+    public int apply(int x) { return x + 28; }
+  }
+
+  static final class Impl29 implements I {
+    @Override
+    public int apply(int x) { return x + 29; }
+  }
+
+  static final class Impl30 implements I {
+    @Override
+    public int apply(int x) { return x + 30; }
+  }
+
+  static final class Impl31 implements I {
+    @Override
+    public int apply(int x) { return x + 31; }
+  }
+
+  static final class Impl32 implements I {
+    @Override
+    public int apply(int x) { return x + 32; }
+  }
+
+  static final class Impl33 implements I {
+    @Override
+    public int apply(int x) { return x + 33; }
+  }
+
+  static final class Impl34 implements I {
+    @Override
+    public int apply(int x) { return x + 34; }
+  }
+
+  static final class Impl35 implements I {
+    @Override
+    public int apply(int x) { return x + 35; }
+  }
+
+  static final class Impl36 implements I {
+    @Override
+    public int apply(int x) { return x + 36; }
+  }
+
+  static final class Impl37 implements I {
+    @Override
+    public int apply(int x) { return x + 37; }
+  }
+
+  static final class Impl38 implements I {
+    @Override
+    public int apply(int x) { return x + 38; }
+  }
+
+  static final class Impl39 implements I {
+    @Override
+    public int apply(int x) { return x + 39; }
+  }
+
+  static final class Impl40 implements I {
+    @Override
+    public int apply(int x) { return x + 40; }
+  }
+
+  static final class Impl41 implements I {
+    @Override
+    public int apply(int x) { return x + 41; }
+  }
+
+  static final class Impl42 implements I {
+    @Override
+    public int apply(int x) { return x + 42; }
+  }
+
+  static final class Impl43 implements I {
+    @Override
+    public int apply(int x) { return x + 43; }
+  }
+
+  static final class Impl44 implements I {
+    @Override
+    public int apply(int x) { return x + 44; }
+  }
+
+  static final class Impl45 implements I {
+    @Override
+    public int apply(int x) { return x + 45; }
+  }
+
+  static final class Impl46 implements I {
+    @Override
+    public int apply(int x) { return x + 46; }
+  }
+
+  static final class Impl47 implements I {
+    @Override
+    public int apply(int x) { return x + 47; }
+  }
+
+  static final class Impl48 implements I {
+    @Override
+    public int apply(int x) { return x + 48; }
+  }
+
+  static final class Impl49 implements I {
+    @Override
+    public int apply(int x) { return x + 49; }
+  }
+
+  static final class Impl50 implements I {
+    @Override
+    public int apply(int x) { return x + 50; }
+  }
+
+  static final class Impl51 implements I {
+    @Override
+    public int apply(int x) { return x + 51; }
+  }
+
+  static final class Impl52 implements I {
+    @Override
+    public int apply(int x) { return x + 52; }
+  }
+
+  static final class Impl53 implements I {
+    @Override
+    public int apply(int x) { return x + 53; }
+  }
+
+  static final class Impl54 implements I {
+    @Override
+    public int apply(int x) { return x + 54; }
+  }
+
+  static final class Impl55 implements I {
+    @Override
+    public int apply(int x) { return x + 55; }
+  }
+
+  static final class Impl56 implements I {
+    @Override
+    public int apply(int x) { return x + 56; }
+  }
+
+  static final class Impl57 implements I {
+    @Override
+    public int apply(int x) { return x + 57; }
+  }
+
+  static final class Impl58 implements I {
+    @Override
+    public int apply(int x) { return x + 58; }
+  }
+
+  static final class Impl59 implements I {
+    @Override
+    public int apply(int x) { return x + 59; }
+  }
+
+  static final class Impl60 implements I {
+    @Override
+    public int apply(int x) { return x + 60; }
+  }
+
+  static final class Impl61 implements I {
+    @Override
+    public int apply(int x) { return x + 61; }
+  }
+
+  static final class Impl62 implements I {
+    @Override
+    public int apply(int x) { return x + 62; }
+  }
+
+  static final class Impl63 implements I {
+    @Override
+    public int apply(int x) { return x + 63; }
+  }
+}
@@ -7,35 +7,61 @@ import java.nio.channels.FileChannel;
 import java.nio.charset.*;
 import java.text.Normalizer;
 import java.util.Locale;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.LockSupport;
 
 public class NativeIOSmoke {
     // --- 断言/统计 ---
-    static int PASS = 0, FAIL = 0;
+    static final TestSupport.Counter CTR = new TestSupport.Counter();
     static void log(String s){ System.out.println(s); }
-    static void ok(String name){ System.out.println("OK   " + name); PASS++; }
-    static void fail(String name, String msg){ System.out.println("FAIL " + name + ": " + msg); FAIL++; }
-    static void checkTrue(String name, boolean cond){ if(cond) ok(name); else fail(name, "false"); }
-    static void checkEq(String name, long got, long exp){ if(got==exp) ok(name + ": " + got); else fail(name, "got="+got+" exp="+exp); }
-    static void checkEq(String name, int got, int exp){ if(got==exp) ok(name + ": " + got); else fail(name, "got="+got+" exp="+exp); }
-    static void checkEq(String name, String got, String exp){ if((exp==null? got==null: exp.equals(got))) ok(name + ": " + got); else fail(name, "got="+got+" exp="+exp); }
+    static void fail(String name, String msg){ TestSupport.checkTrue(name + ": " + msg, false, CTR); }
+    static void checkTrue(String name, boolean cond){ TestSupport.checkTrue(name, cond, CTR); }
+    static void checkEq(String name, long got, long exp){ TestSupport.checkEq(name, got, exp, CTR); }
+    static void checkEq(String name, int got, int exp){ TestSupport.checkEq(name, got, exp, CTR); }
+    static void checkEq(String name, String got, String exp){ TestSupport.checkEq(name, got, exp, CTR); }
+
+    // --- --mmapBench 参数 ---
+    static final int[] MMAP_DEFAULT_MB = {1, 16, 256};
+    static final int[] MMAP_FULL_MB = {1, 16, 256, 1024, 4096};
+    static final int MMAP_RANDOM_OPS = 200000;
+    static final int MMAP_REPS = 3;
+    static final int MMAP_CHUNK = 64 * 1024;        // 顺序读写块大小
+    static final long MMAP_SEGMENT = 1L << 30;       // map() 只接受 int 长度，大文件按 1GB 分段映射
+    static final long MMAP_SINGLE_PASS = 1L << 30;   // 从这个大小起每项只跑一遍
+    static final int MMAP_WINDOW = 1 << 20;          // 重映射对比的窗口大小
+    static final int MMAP_WINDOWS = 64;
+    static final int MMAP_FORCE_PAGES = 256;
+    static final String[] IO_NAMES = {"mmap", "fc.heap", "fc.direct", "raf"};
+    static volatile long BLACKHOLE;
 
     public static void main(String[] args) {
-        PASS = 0;
-        FAIL = 0;
+        CTR.reset();
+        boolean mmapBench = false;
+        int[] mmapSizes = MMAP_DEFAULT_MB;
+        int randomOps = MMAP_RANDOM_OPS;
+        int reps = MMAP_REPS;
+        for (String a : args) {
+            if ("--mmapBench".equals(a)) mmapBench = true;
+            else if (a.startsWith("--mmapSizes=")) mmapSizes = parseIntList(a.substring(a.indexOf('=') + 1), mmapSizes);
+            else if (a.startsWith("--mmapRandomOps=")) randomOps = parseInt(a.substring(a.indexOf('=') + 1), randomOps);
+            else if (a.startsWith("--mmapReps=")) reps = parseInt(a.substring(a.indexOf('=') + 1), reps);
+            else if ("--short".equals(a)) { mmapSizes = new int[]{1, 16}; randomOps = 20000; reps = 2; }
+            else if ("--full".equals(a)) mmapSizes = MMAP_FULL_MB;
+        }
         try {
             testMmap();
             testUtf8();
             testNormalizer();
             testLockSupport();
+            if (mmapBench) runMmapBench(mmapSizes, Math.max(1, randomOps), Math.max(1, reps));
         } catch (Throwable t) {
             t.printStackTrace();
             fail("UNCAUGHT", t.toString());
         }
-        System.out.println("SUMMARY PASS=" + PASS + " FAIL=" + FAIL);
-        if (FAIL != 0) System.exit(1);
+        TestSupport.summary("SUMMARY", CTR);
+        if (CTR.getFail() != 0) System.exit(1);
     }
 
     // =============== 1) mmap: FileChannel.map(READ_WRITE) ===============
@@ -160,6 +186,430 @@ public class NativeIOSmoke {
         checkTrue("lockspt.timeout", TimeUnit.NANOSECONDS.toMillis(dt) >= 15);
     }
 
+    // =============== 5) --mmapBench：映射 I/O 吞吐 ===============
+    // 每个大小一个临时文件，依次测：
+    //   首次写触碰缺页（稀疏文件 + 新映射，每页写 1 字节）；
+    //   顺序写/读 MB/s（mmap / FileChannel+堆缓冲 / FileChannel+直接缓冲 / RandomAccessFile，64KB 块）；
+    //   随机 8 字节读/写 ns/op（同一组偏移）；
+    //   已缓存文件新映射的读缺页；force() 延迟（脏 1 页 / 256 页 / 全部）；
+    //   1MB 窗口重新 map 与复用已有映射的代价。
+    // 写入都只进页缓存（不 fsync），落盘成本看 force 一行。
+    static void runMmapBench(int[] sizesMb, int randomOps, int reps) throws Exception {
+        log("== mmap bench ==");
+        int page = pageSize();
+        System.out.printf(Locale.ROOT, "mmapBench: page=%d chunk=%dKB randomOps=%d reps=%d%n",
+                page, MMAP_CHUNK / 1024, randomOps, reps);
+        warmTouchPages(page);
+        for (int mb : sizesMb) {
+            long size = (long) mb << 20;
+            File f = createTempUnderDataTmp("mmap-bench", ".bin");
+            try {
+                benchMmapSize(f, size, page, randomOps, size >= MMAP_SINGLE_PASS ? 1 : reps + 1);
+            } catch (IOException | OutOfMemoryError e) {
+                // 32 位进程或地址空间不够时 map 会失败：这正是要找的上限，记录但不算失败
+                log("mmapBench " + mb + "MB: " + e);
+            } finally {
+                f.delete();
+            }
+        }
+    }
+
+    static void benchMmapSize(File f, long size, int page, int randomOps, int runs) throws IOException {
+        String label = "mmapBench " + (size >> 20) + "MB";
+        String check = "mmapBench." + (size >> 20) + "MB.";
+        long pages = (size + page - 1) / page;
+        byte[] chunk = new byte[MMAP_CHUNK];
+        for (int i = 0; i < chunk.length; i++) chunk[i] = (byte) (i * 31 + 7);
+        byte[] readBuf = new byte[MMAP_CHUNK];
+        ByteBuffer direct = ByteBuffer.allocateDirect(MMAP_CHUNK);
+        long chunks = size / MMAP_CHUNK;
+        long expected = chunks * (chunks - 1) / 2 + chunks * chunk[MMAP_CHUNK - 1];
+        try (RandomAccessFile raf = new RandomAccessFile(f, "rw");
+             FileChannel ch = raf.getChannel()) {
+            raf.setLength(size);
+            long t0 = System.nanoTime();
+            MappedByteBuffer[] map = mapAll(ch, size, FileChannel.MapMode.READ_WRITE);
+            long mapNs = System.nanoTime() - t0;
+            t0 = System.nanoTime();
+            BLACKHOLE ^= touchPages(map, page, true);
+            long faultWriteNs = System.nanoTime() - t0;
+
+            // 顺序：每种方式先写后读，读出的校验和必须等于写入的
+            double[] seqWrite = new double[IO_NAMES.length];
+            double[] seqRead = new double[IO_NAMES.length];
+            for (int m = 0; m < IO_NAMES.length; m++) {
+                long bestW = Long.MAX_VALUE, bestR = Long.MAX_VALUE, sum = 0;
+                for (int r = 0; r < runs; r++) {
+                    t0 = System.nanoTime();
+                    seqWrite(m, map, ch, raf, size, chunk, direct);
+                    long w = System.nanoTime() - t0;
+                    t0 = System.nanoTime();
+                    sum = seqRead(m, map, ch, raf, size, readBuf, direct);
+                    long rd = System.nanoTime() - t0;
+                    if (runs > 1 && r == 0) continue; // 预热
+                    bestW = Math.min(bestW, w);
+                    bestR = Math.min(bestR, rd);
+                }
+                checkEq(check + IO_NAMES[m] + ".seq.checksum", sum, expected);
+                seqWrite[m] = mbPerSec(size, bestW);
+                seqRead[m] = mbPerSec(size, bestR);
+            }
+
+            // 随机：同一组 8 字节对齐偏移；各方式读到的和必须一致，再都写回 off 本身
+            long[] offs = new long[randomOps];
+            Random rnd = new Random(0x3A9L);
+            for (int i = 0; i < offs.length; i++) offs[i] = (long) (rnd.nextDouble() * (size - 8)) & ~7L;
+            double[] randRead = new double[IO_NAMES.length];
+            double[] randWrite = new double[IO_NAMES.length];
+            long readSum0 = 0;
+            for (int m = 0; m < IO_NAMES.length; m++) {
+                long best = Long.MAX_VALUE, sum = 0;
+                for (int r = 0; r < runs; r++) {
+                    t0 = System.nanoTime();
+                    sum = randomRead(m, map, ch, raf, offs, direct);
+                    long dt = System.nanoTime() - t0;
+                    if (runs > 1 && r == 0) continue;
+                    best = Math.min(best, dt);
+                }
+                if (m == 0) readSum0 = sum;
+                else checkEq(check + IO_NAMES[m] + ".random.read", sum, readSum0);
+                randRead[m] = best / (double) offs.length;
+            }
+            for (int m = 0; m < IO_NAMES.length; m++) {
+                long best = Long.MAX_VALUE;
+                for (int r = 0; r < runs; r++) {
+                    t0 = System.nanoTime();
+                    randomWrite(m, map, ch, raf, offs, direct);
+                    long dt = System.nanoTime() - t0;
+                    if (runs > 1 && r == 0) continue;
+                    best = Math.min(best, dt);
+                }
+                randWrite[m] = best / (double) offs.length;
+            }
+            // FileChannel/RAF 写的内容经同一页缓存对映射可见
+            long last = offs[offs.length - 1];
+            checkEq(check + "random.coherent", getLong(map, last), last);
+
+            // 已缓存文件的新只读映射：次缺页
+            MappedByteBuffer[] ro = mapAll(ch, size, FileChannel.MapMode.READ_ONLY);
+            t0 = System.nanoTime();
+            BLACKHOLE ^= touchPages(ro, page, false);
+            long faultReadNs = System.nanoTime() - t0;
+
+            // force：先清干净，再测脏 1 页 / 256 页 / 全部
+            force(map);
+            long force1 = Long.MAX_VALUE, forceN = Long.MAX_VALUE;
+            int nPages = (int) Math.min(pages, MMAP_FORCE_PAGES);
+            for (int r = 0; r < Math.max(2, runs); r++) {
+                dirtyPages(map, page, 1, r);
+                t0 = System.nanoTime();
+                force(map);
+                force1 = Math.min(force1, System.nanoTime() - t0);
+                dirtyPages(map, page, nPages, r);
+                t0 = System.nanoTime();
+                force(map);
+                forceN = Math.min(forceN, System.nanoTime() - t0);
+            }
+            BLACKHOLE ^= touchPages(map, page, true);
+            t0 = System.nanoTime();
+            force(map);
+            long forceAll = System.nanoTime() - t0;
+
+            // 重映射 vs 复用：同一批 1MB 窗口，每页读 1 字节
+            int window = (int) Math.min(size, MMAP_WINDOW);
+            long step = MMAP_WINDOWS > 1 ? ((size - window) / (MMAP_WINDOWS - 1)) & ~((long) page - 1) : 0;
+            long bestRemap = Long.MAX_VALUE, bestReuse = Long.MAX_VALUE;
+            for (int r = 0; r < runs; r++) {
+                t0 = System.nanoTime();
+                long sum = 0;
+                for (int w = 0; w < MMAP_WINDOWS; w++) {
+                    MappedByteBuffer win = ch.map(FileChannel.MapMode.READ_ONLY, w * step, window);
+                    for (int p = 0; p < window; p += page) sum += win.get(p);
+                }
+                long remap = System.nanoTime() - t0;
+                t0 = System.nanoTime();
+                long sum2 = 0;
+                for (int w = 0; w < MMAP_WINDOWS; w++) {
+                    long base = w * step;
+                    for (int p = 0; p < window; p += page) sum2 += getByte(map, base + p);
+                }
+                long reuse = System.nanoTime() - t0;
+                if (r == runs - 1) checkEq(check + "remap.sameBytes", sum, sum2);
+                BLACKHOLE ^= sum;
+                if (runs > 1 && r == 0) continue;
+                bestRemap = Math.min(bestRemap, remap);
+                bestReuse = Math.min(bestReuse, reuse);
+            }
+
+            System.out.printf(Locale.ROOT, "%s seq write MB/s:%s%n", label, row(seqWrite, "%.1f"));
+            System.out.printf(Locale.ROOT, "%s seq read  MB/s:%s%n", label, row(seqRead, "%.1f"));
+            System.out.printf(Locale.ROOT, "%s rand read  ns/op:%s%n", label, row(randRead, "%.1f"));
+            System.out.printf(Locale.ROOT, "%s rand write ns/op:%s%n", label, row(randWrite, "%.1f"));
+            System.out.printf(Locale.ROOT, "%s map=%.1fus fault ns/page: firstWrite=%.1f cachedRead=%.1f (%d pages)%n",
+                    label, mapNs / 1e3, faultWriteNs / (double) pages, faultReadNs / (double) pages, pages);
+            System.out.printf(Locale.ROOT, "%s force ms: 1page=%.3f %dpages=%.3f all=%.3f%n",
+                    label, force1 / 1e6, nPages, forceN / 1e6, forceAll / 1e6);
+            System.out.printf(Locale.ROOT, "%s %dKB window us: remap=%.1f reuse=%.1f%n",
+                    label, window / 1024, bestRemap / 1e3 / MMAP_WINDOWS, bestReuse / 1e3 / MMAP_WINDOWS);
+        }
+    }
+
+    // 缺页只测一次、没法预热，所以先在一个小映射上把 touchPages 的读写两条路径跑热
+    static void warmTouchPages(int page) throws IOException {
+        File f = createTempUnderDataTmp("mmap-warm", ".bin");
+        try (RandomAccessFile raf = new RandomAccessFile(f, "rw");
+             FileChannel ch = raf.getChannel()) {
+            raf.setLength(MMAP_WINDOW);
+            MappedByteBuffer[] map = mapAll(ch, MMAP_WINDOW, FileChannel.MapMode.READ_WRITE);
+            for (int i = 0; i < 200; i++) {
+                BLACKHOLE ^= touchPages(map, page, true);
+                BLACKHOLE ^= touchPages(map, page, false);
+            }
+        } finally {
+            f.delete();
+        }
+    }
+
+    static MappedByteBuffer[] mapAll(FileChannel ch, long size, FileChannel.MapMode mode) throws IOException {
+        int n = (int) ((size + MMAP_SEGMENT - 1) / MMAP_SEGMENT);
+        MappedByteBuffer[] segs = new MappedByteBuffer[n];
+        for (int i = 0; i < n; i++) {
+            long off = i * MMAP_SEGMENT;
+            segs[i] = ch.map(mode, off, Math.min(MMAP_SEGMENT, size - off));
+        }
+        return segs;
+    }
+
+    static long getLong(MappedByteBuffer[] map, long off) {
+        return map[(int) (off / MMAP_SEGMENT)].getLong((int) (off % MMAP_SEGMENT));
+    }
+
+    static byte getByte(MappedByteBuffer[] map, long off) {
+        return map[(int) (off / MMAP_SEGMENT)].get((int) (off % MMAP_SEGMENT));
+    }
+
+    static long touchPages(MappedByteBuffer[] map, int page, boolean write) {
+        long sum = 0;
+        for (MappedByteBuffer seg : map) {
+            int n = seg.capacity();
+            for (int p = 0; p < n; p += page) {
+                if (write) seg.put(p, (byte) p);
+                else sum += seg.get(p);
+            }
+        }
+        return sum;
+    }
+
+    static void dirtyPages(MappedByteBuffer[] map, int page, int count, int salt) {
+        for (int i = 0; i < count; i++) {
+            long off = (long) i * page;
+            map[(int) (off / MMAP_SEGMENT)].put((int) (off % MMAP_SEGMENT) + 8, (byte) salt);
+        }
+    }
+
+    static void force(MappedByteBuffer[] map) {
+        for (MappedByteBuffer seg : map) seg.force();
+    }
+
+    // 块头 8 字节写块号（大端），读侧校验和 = Σ(块号 + 块末字节)
+    static void putChunkIndex(byte[] chunk, long idx) {
+        for (int i = 7; i >= 0; i--) { chunk[i] = (byte) idx; idx >>>= 8; }
+    }
+
+    static long chunkSum(byte[] b, int n) {
+        long idx = 0;
+        for (int i = 0; i < 8; i++) idx = (idx << 8) | (b[i] & 0xFF);
+        return idx + b[n - 1];
+    }
+
+    // 每种方式一个独立循环，各自的调用点
+    static void seqWrite(int m, MappedByteBuffer[] map, FileChannel ch, RandomAccessFile raf, long size,
+                         byte[] chunk, ByteBuffer direct) throws IOException {
+        long idx = 0;
+        switch (m) {
+            case 0:
+                for (MappedByteBuffer seg : map) {
+                    seg.clear();
+                    while (seg.hasRemaining()) {
+                        putChunkIndex(chunk, idx++);
+                        seg.put(chunk);
+                    }
+                }
+                break;
+            case 1: {
+                ByteBuffer heap = ByteBuffer.wrap(chunk);
+                for (long pos = 0; pos < size; pos += MMAP_CHUNK) {
+                    putChunkIndex(chunk, idx++);
+                    heap.clear();
+                    while (heap.hasRemaining()) ch.write(heap, pos + heap.position());
+                }
+                break;
+            }
+            case 2:
+                for (long pos = 0; pos < size; pos += MMAP_CHUNK) {
+                    putChunkIndex(chunk, idx++);
+                    direct.clear();
+                    direct.put(chunk);
+                    direct.flip();
+                    while (direct.hasRemaining()) ch.write(direct, pos + direct.position());
+                }
+                break;
+            default:
+                raf.seek(0);
+                for (long pos = 0; pos < size; pos += MMAP_CHUNK) {
+                    putChunkIndex(chunk, idx++);
+                    raf.write(chunk);
+                }
+                break;
+        }
+    }
+
+    static long seqRead(int m, MappedByteBuffer[] map, FileChannel ch, RandomAccessFile raf, long size,
+                        byte[] buf, ByteBuffer direct) throws IOException {
+        long sum = 0;
+        switch (m) {
+            case 0:
+                for (MappedByteBuffer seg : map) {
+                    seg.clear();
+                    while (seg.hasRemaining()) {
+                        seg.get(buf);
+                        sum += chunkSum(buf, buf.length);
+                    }
+                }
+                break;
+            case 1: {
+                ByteBuffer heap = ByteBuffer.wrap(buf);
+                for (long pos = 0; pos < size; pos += MMAP_CHUNK) {
+                    heap.clear();
+                    while (heap.hasRemaining() && ch.read(heap, pos + heap.position()) >= 0) { }
+                    sum += chunkSum(buf, heap.position());
+                }
+                break;
+            }
+            case 2:
+                // 直接缓冲不拷回 byte[]，校验和直接从缓冲读
+                for (long pos = 0; pos < size; pos += MMAP_CHUNK) {
+                    direct.clear();
+                    while (direct.hasRemaining() && ch.read(direct, pos + direct.position()) >= 0) { }
+                    sum += direct.getLong(0) + direct.get(direct.position() - 1);
+                }
+                break;
+            default:
+                raf.seek(0);
+                for (long pos = 0; pos < size; pos += MMAP_CHUNK) {
+                    raf.readFully(buf);
+                    sum += chunkSum(buf, buf.length);
+                }
+                break;
+        }
+        return sum;
+    }
+
+    static long randomRead(int m, MappedByteBuffer[] map, FileChannel ch, RandomAccessFile raf, long[] offs,
+                           ByteBuffer direct) throws IOException {
+        long sum = 0;
+        switch (m) {
+            case 0:
+                for (long off : offs) sum += getLong(map, off);
+                break;
+            case 1: {
+                ByteBuffer heap = ByteBuffer.allocate(8);
+                for (long off : offs) {
+                    heap.clear();
+                    while (heap.hasRemaining() && ch.read(heap, off + heap.position()) >= 0) { }
+                    sum += heap.getLong(0);
+                }
+                break;
+            }
+            case 2:
+                for (long off : offs) {
+                    direct.clear().limit(8);
+                    while (direct.hasRemaining() && ch.read(direct, off + direct.position()) >= 0) { }
+                    sum += direct.getLong(0);
+                }
+                break;
+            default:
+                for (long off : offs) {
+                    raf.seek(off);
+                    sum += raf.readLong();
+                }
+                break;
+        }
+        return sum;
+    }
+
+    static void randomWrite(int m, MappedByteBuffer[] map, FileChannel ch, RandomAccessFile raf, long[] offs,
+                            ByteBuffer direct) throws IOException {
+        switch (m) {
+            case 0:
+                for (long off : offs) map[(int) (off / MMAP_SEGMENT)].putLong((int) (off % MMAP_SEGMENT), off);
+                break;
+            case 1: {
+                ByteBuffer heap = ByteBuffer.allocate(8);
+                for (long off : offs) {
+                    heap.clear();
+                    heap.putLong(0, off);
+                    while (heap.hasRemaining()) ch.write(heap, off + heap.position());
+                }
+                break;
+            }
+            case 2:
+                for (long off : offs) {
+                    direct.clear().limit(8);
+                    direct.putLong(0, off);
+                    while (direct.hasRemaining()) ch.write(direct, off + direct.position());
+                }
+                break;
+            default:
+                for (long off : offs) {
+                    raf.seek(off);
+                    raf.writeLong(off);
+                }
+                break;
+        }
+    }
+
+    static String row(double[] v, String fmt) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < v.length; i++)
+            sb.append(' ').append(IO_NAMES[i]).append('=').append(String.format(Locale.ROOT, fmt, v[i]));
+        return sb.toString();
+    }
+
+    static double mbPerSec(long bytes, long ns) {
+        return ns <= 0 ? 0 : bytes / 1048576.0 / (ns / 1e9);
+    }
+
+    // 页大小：Unsafe.pageSize()（HotSpot 与 ART 都有），取不到按 4KB
+    static int pageSize() {
+        try {
+            Class<?> c = Class.forName("sun.misc.Unsafe");
+            java.lang.reflect.Field f = c.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            return (Integer) c.getMethod("pageSize").invoke(f.get(null));
+        } catch (Throwable t) {
+            return 4096;
+        }
+    }
+
+    static int[] parseIntList(String raw, int[] fallback) {
+        String[] parts = raw.split(",");
+        int[] out = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            out[i] = parseInt(parts[i], 0);
+            if (out[i] <= 0) return fallback;
+        }
+        return out;
+    }
+
+    static int parseInt(String raw, int fallback) {
+        try {
+            return Integer.parseInt(raw.trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
     // =============== 工具 ===============
     private static File createTempUnderDataTmp(String prefix, String suffix) throws IOException {
         // 先用系统 tmpdir，失败再退到 /data/local/tmp（adb shell 可写）
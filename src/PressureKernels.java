@@ -0,0 +1,4986 @@
+// PressureKernels.java
+// GENERATED by tools/PressureKernelGen.java; do not edit.
+// Regenerate with `make PressureKernels-gen`.
+
+public final class PressureKernels {
+  public static final int MIN_LIVE = 4;
+  public static final int MAX_LIVE = 32;
+
+  private PressureKernels() {}
+
+  public static long objects(int live, Object[] src, Object pivot, int iters) {
+    switch (live) {
+    case 4:
+      return liveObjects4(src, pivot, iters);
+    case 5:
+      return liveObjects5(src, pivot, iters);
+    case 6:
+      return liveObjects6(src, pivot, iters);
+    case 7:
+      return liveObjects7(src, pivot, iters);
+    case 8:
+      return liveObjects8(src, pivot, iters);
+    case 9:
+      return liveObjects9(src, pivot, iters);
+    case 10:
+      return liveObjects10(src, pivot, iters);
+    case 11:
+      return liveObjects11(src, pivot, iters);
+    case 12:
+      return liveObjects12(src, pivot, iters);
+    case 13:
+      return liveObjects13(src, pivot, iters);
+    case 14:
+      return liveObjects14(src, pivot, iters);
+    case 15:
+      return liveObjects15(src, pivot, iters);
+    case 16:
+      return liveObjects16(src, pivot, iters);
+    case 17:
+      return liveObjects17(src, pivot, iters);
+    case 18:
+      return liveObjects18(src, pivot, iters);
+    case 19:
+      return liveObjects19(src, pivot, iters);
+    case 20:
+      return liveObjects20(src, pivot, iters);
+    case 21:
+      return liveObjects21(src, pivot, iters);
+    case 22:
+      return liveObjects22(src, pivot, iters);
+    case 23:
+      return liveObjects23(src, pivot, iters);
+    case 24:
+      return liveObjects24(src, pivot, iters);
+    case 25:
+      return liveObjects25(src, pivot, iters);
+    case 26:
+      return liveObjects26(src, pivot, iters);
+    case 27:
+      return liveObjects27(src, pivot, iters);
+    case 28:
+      return liveObjects28(src, pivot, iters);
+    case 29:
+      return liveObjects29(src, pivot, iters);
+    case 30:
+      return liveObjects30(src, pivot, iters);
+    case 31:
+      return liveObjects31(src, pivot, iters);
+    case 32:
+      return liveObjects32(src, pivot, iters);
+    default:
+      throw new IllegalArgumentException("live=" + live);
+    }
+  }
+
+  public static long longs(int live, long seed, int iters) {
+    switch (live) {
+    case 4:
+      return liveLongs4(seed, iters);
+    case 5:
+      return liveLongs5(seed, iters);
+    case 6:
+      return liveLongs6(seed, iters);
+    case 7:
+      return liveLongs7(seed, iters);
+    case 8:
+      return liveLongs8(seed, iters);
+    case 9:
+      return liveLongs9(seed, iters);
+    case 10:
+      return liveLongs10(seed, iters);
+    case 11:
+      return liveLongs11(seed, iters);
+    case 12:
+      return liveLongs12(seed, iters);
+    case 13:
+      return liveLongs13(seed, iters);
+    case 14:
+      return liveLongs14(seed, iters);
+    case 15:
+      return liveLongs15(seed, iters);
+    case 16:
+      return liveLongs16(seed, iters);
+    case 17:
+      return liveLongs17(seed, iters);
+    case 18:
+      return liveLongs18(seed, iters);
+    case 19:
+      return liveLongs19(seed, iters);
+    case 20:
+      return liveLongs20(seed, iters);
+    case 21:
+      return liveLongs21(seed, iters);
+    case 22:
+      return liveLongs22(seed, iters);
+    case 23:
+      return liveLongs23(seed, iters);
+    case 24:
+      return liveLongs24(seed, iters);
+    case 25:
+      return liveLongs25(seed, iters);
+    case 26:
+      return liveLongs26(seed, iters);
+    case 27:
+      return liveLongs27(seed, iters);
+    case 28:
+      return liveLongs28(seed, iters);
+    case 29:
+      return liveLongs29(seed, iters);
+    case 30:
+      return liveLongs30(seed, iters);
+    case 31:
+      return liveLongs31(seed, iters);
+    case 32:
+      return liveLongs32(seed, iters);
+    default:
+      throw new IllegalArgumentException("live=" + live);
+    }
+  }
+
+  public static double doubles(int live, double seed, int iters) {
+    switch (live) {
+    case 4:
+      return liveDoubles4(seed, iters);
+    case 5:
+      return liveDoubles5(seed, iters);
+    case 6:
+      return liveDoubles6(seed, iters);
+    case 7:
+      return liveDoubles7(seed, iters);
+    case 8:
+      return liveDoubles8(seed, iters);
+    case 9:
+      return liveDoubles9(seed, iters);
+    case 10:
+      return liveDoubles10(seed, iters);
+    case 11:
+      return liveDoubles11(seed, iters);
+    case 12:
+      return liveDoubles12(seed, iters);
+    case 13:
+      return liveDoubles13(seed, iters);
+    case 14:
+      return liveDoubles14(seed, iters);
+    case 15:
+      return liveDoubles15(seed, iters);
+    case 16:
+      return liveDoubles16(seed, iters);
+    case 17:
+      return liveDoubles17(seed, iters);
+    case 18:
+      return liveDoubles18(seed, iters);
+    case 19:
+      return liveDoubles19(seed, iters);
+    case 20:
+      return liveDoubles20(seed, iters);
+    case 21:
+      return liveDoubles21(seed, iters);
+    case 22:
+      return liveDoubles22(seed, iters);
+    case 23:
+      return liveDoubles23(seed, iters);
+    case 24:
+      return liveDoubles24(seed, iters);
+    case 25:
+      return liveDoubles25(seed, iters);
+    case 26:
+      return liveDoubles26(seed, iters);
+    case 27:
+      return liveDoubles27(seed, iters);
+    case 28:
+      return liveDoubles28(seed, iters);
+    case 29:
+      return liveDoubles29(seed, iters);
+    case 30:
+      return liveDoubles30(seed, iters);
+    case 31:
+      return liveDoubles31(seed, iters);
+    case 32:
+      return liveDoubles32(seed, iters);
+    default:
+      throw new IllegalArgumentException("live=" + live);
+    }
+  }
+
+  // live* kernels: every value is read and written each iteration, so all
+  // N stay live across the loop back-edge.
+  private static long liveObjects4(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    return acc;
+  }
+
+  private static long liveLongs4(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3;
+  }
+
+  private static double liveDoubles4(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3;
+  }
+
+  private static long liveObjects5(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    return acc;
+  }
+
+  private static long liveLongs5(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4;
+  }
+
+  private static double liveDoubles5(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4;
+  }
+
+  private static long liveObjects6(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    return acc;
+  }
+
+  private static long liveLongs6(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5;
+  }
+
+  private static double liveDoubles6(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5;
+  }
+
+  private static long liveObjects7(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    return acc;
+  }
+
+  private static long liveLongs7(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6;
+  }
+
+  private static double liveDoubles7(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6;
+  }
+
+  private static long liveObjects8(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    return acc;
+  }
+
+  private static long liveLongs8(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7;
+  }
+
+  private static double liveDoubles8(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7;
+  }
+
+  private static long liveObjects9(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    return acc;
+  }
+
+  private static long liveLongs9(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8;
+  }
+
+  private static double liveDoubles9(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8;
+  }
+
+  private static long liveObjects10(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    return acc;
+  }
+
+  private static long liveLongs10(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9;
+  }
+
+  private static double liveDoubles10(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9;
+  }
+
+  private static long liveObjects11(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    return acc;
+  }
+
+  private static long liveLongs11(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10;
+  }
+
+  private static double liveDoubles11(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10;
+  }
+
+  private static long liveObjects12(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    return acc;
+  }
+
+  private static long liveLongs12(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11;
+  }
+
+  private static double liveDoubles12(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11;
+  }
+
+  private static long liveObjects13(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    return acc;
+  }
+
+  private static long liveLongs13(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12;
+  }
+
+  private static double liveDoubles13(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12;
+  }
+
+  private static long liveObjects14(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    return acc;
+  }
+
+  private static long liveLongs14(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13;
+  }
+
+  private static double liveDoubles14(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13;
+  }
+
+  private static long liveObjects15(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    return acc;
+  }
+
+  private static long liveLongs15(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14;
+  }
+
+  private static double liveDoubles15(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14;
+  }
+
+  private static long liveObjects16(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    return acc;
+  }
+
+  private static long liveLongs16(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15;
+  }
+
+  private static double liveDoubles16(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15;
+  }
+
+  private static long liveObjects17(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    return acc;
+  }
+
+  private static long liveLongs17(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16;
+  }
+
+  private static double liveDoubles17(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16;
+  }
+
+  private static long liveObjects18(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    return acc;
+  }
+
+  private static long liveLongs18(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17;
+  }
+
+  private static double liveDoubles18(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17;
+  }
+
+  private static long liveObjects19(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    return acc;
+  }
+
+  private static long liveLongs19(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18;
+  }
+
+  private static double liveDoubles19(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18;
+  }
+
+  private static long liveObjects20(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    return acc;
+  }
+
+  private static long liveLongs20(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19;
+  }
+
+  private static double liveDoubles20(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19;
+  }
+
+  private static long liveObjects21(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    return acc;
+  }
+
+  private static long liveLongs21(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20;
+  }
+
+  private static double liveDoubles21(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20;
+  }
+
+  private static long liveObjects22(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    return acc;
+  }
+
+  private static long liveLongs22(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21;
+  }
+
+  private static double liveDoubles22(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21;
+  }
+
+  private static long liveObjects23(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    Object o22 = src[22];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = o22;
+      o22 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    if (o22 == pivot)
+      acc += 22;
+    return acc;
+  }
+
+  private static long liveLongs23(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    long v22 = seed + 22;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v22;
+      v22 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21 ^ v22;
+  }
+
+  private static double liveDoubles23(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    double v22 = seed + 22;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v22 * 0.25;
+      v22 = v22 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21 + v22;
+  }
+
+  private static long liveObjects24(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    Object o22 = src[22];
+    Object o23 = src[23];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = o22;
+      o22 = o23;
+      o23 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    if (o22 == pivot)
+      acc += 22;
+    if (o23 == pivot)
+      acc += 23;
+    return acc;
+  }
+
+  private static long liveLongs24(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    long v22 = seed + 22;
+    long v23 = seed + 23;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v22;
+      v22 += v23;
+      v23 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21 ^ v22 ^ v23;
+  }
+
+  private static double liveDoubles24(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    double v22 = seed + 22;
+    double v23 = seed + 23;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v22 * 0.25;
+      v22 = v22 * 0.5 + v23 * 0.25;
+      v23 = v23 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21 + v22 + v23;
+  }
+
+  private static long liveObjects25(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    Object o22 = src[22];
+    Object o23 = src[23];
+    Object o24 = src[24];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = o22;
+      o22 = o23;
+      o23 = o24;
+      o24 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    if (o22 == pivot)
+      acc += 22;
+    if (o23 == pivot)
+      acc += 23;
+    if (o24 == pivot)
+      acc += 24;
+    return acc;
+  }
+
+  private static long liveLongs25(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    long v22 = seed + 22;
+    long v23 = seed + 23;
+    long v24 = seed + 24;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v22;
+      v22 += v23;
+      v23 += v24;
+      v24 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21 ^ v22 ^ v23 ^ v24;
+  }
+
+  private static double liveDoubles25(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    double v22 = seed + 22;
+    double v23 = seed + 23;
+    double v24 = seed + 24;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v22 * 0.25;
+      v22 = v22 * 0.5 + v23 * 0.25;
+      v23 = v23 * 0.5 + v24 * 0.25;
+      v24 = v24 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21 + v22 + v23 + v24;
+  }
+
+  private static long liveObjects26(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    Object o22 = src[22];
+    Object o23 = src[23];
+    Object o24 = src[24];
+    Object o25 = src[25];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = o22;
+      o22 = o23;
+      o23 = o24;
+      o24 = o25;
+      o25 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    if (o22 == pivot)
+      acc += 22;
+    if (o23 == pivot)
+      acc += 23;
+    if (o24 == pivot)
+      acc += 24;
+    if (o25 == pivot)
+      acc += 25;
+    return acc;
+  }
+
+  private static long liveLongs26(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    long v22 = seed + 22;
+    long v23 = seed + 23;
+    long v24 = seed + 24;
+    long v25 = seed + 25;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v22;
+      v22 += v23;
+      v23 += v24;
+      v24 += v25;
+      v25 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21 ^ v22 ^ v23 ^ v24 ^
+        v25;
+  }
+
+  private static double liveDoubles26(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    double v22 = seed + 22;
+    double v23 = seed + 23;
+    double v24 = seed + 24;
+    double v25 = seed + 25;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v22 * 0.25;
+      v22 = v22 * 0.5 + v23 * 0.25;
+      v23 = v23 * 0.5 + v24 * 0.25;
+      v24 = v24 * 0.5 + v25 * 0.25;
+      v25 = v25 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21 + v22 + v23 + v24 +
+        v25;
+  }
+
+  private static long liveObjects27(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    Object o22 = src[22];
+    Object o23 = src[23];
+    Object o24 = src[24];
+    Object o25 = src[25];
+    Object o26 = src[26];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = o22;
+      o22 = o23;
+      o23 = o24;
+      o24 = o25;
+      o25 = o26;
+      o26 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    if (o22 == pivot)
+      acc += 22;
+    if (o23 == pivot)
+      acc += 23;
+    if (o24 == pivot)
+      acc += 24;
+    if (o25 == pivot)
+      acc += 25;
+    if (o26 == pivot)
+      acc += 26;
+    return acc;
+  }
+
+  private static long liveLongs27(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    long v22 = seed + 22;
+    long v23 = seed + 23;
+    long v24 = seed + 24;
+    long v25 = seed + 25;
+    long v26 = seed + 26;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v22;
+      v22 += v23;
+      v23 += v24;
+      v24 += v25;
+      v25 += v26;
+      v26 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21 ^ v22 ^ v23 ^ v24 ^
+        v25 ^ v26;
+  }
+
+  private static double liveDoubles27(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    double v22 = seed + 22;
+    double v23 = seed + 23;
+    double v24 = seed + 24;
+    double v25 = seed + 25;
+    double v26 = seed + 26;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v22 * 0.25;
+      v22 = v22 * 0.5 + v23 * 0.25;
+      v23 = v23 * 0.5 + v24 * 0.25;
+      v24 = v24 * 0.5 + v25 * 0.25;
+      v25 = v25 * 0.5 + v26 * 0.25;
+      v26 = v26 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21 + v22 + v23 + v24 +
+        v25 + v26;
+  }
+
+  private static long liveObjects28(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    Object o22 = src[22];
+    Object o23 = src[23];
+    Object o24 = src[24];
+    Object o25 = src[25];
+    Object o26 = src[26];
+    Object o27 = src[27];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = o22;
+      o22 = o23;
+      o23 = o24;
+      o24 = o25;
+      o25 = o26;
+      o26 = o27;
+      o27 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    if (o22 == pivot)
+      acc += 22;
+    if (o23 == pivot)
+      acc += 23;
+    if (o24 == pivot)
+      acc += 24;
+    if (o25 == pivot)
+      acc += 25;
+    if (o26 == pivot)
+      acc += 26;
+    if (o27 == pivot)
+      acc += 27;
+    return acc;
+  }
+
+  private static long liveLongs28(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    long v22 = seed + 22;
+    long v23 = seed + 23;
+    long v24 = seed + 24;
+    long v25 = seed + 25;
+    long v26 = seed + 26;
+    long v27 = seed + 27;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v22;
+      v22 += v23;
+      v23 += v24;
+      v24 += v25;
+      v25 += v26;
+      v26 += v27;
+      v27 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21 ^ v22 ^ v23 ^ v24 ^
+        v25 ^ v26 ^ v27;
+  }
+
+  private static double liveDoubles28(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    double v22 = seed + 22;
+    double v23 = seed + 23;
+    double v24 = seed + 24;
+    double v25 = seed + 25;
+    double v26 = seed + 26;
+    double v27 = seed + 27;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v22 * 0.25;
+      v22 = v22 * 0.5 + v23 * 0.25;
+      v23 = v23 * 0.5 + v24 * 0.25;
+      v24 = v24 * 0.5 + v25 * 0.25;
+      v25 = v25 * 0.5 + v26 * 0.25;
+      v26 = v26 * 0.5 + v27 * 0.25;
+      v27 = v27 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21 + v22 + v23 + v24 +
+        v25 + v26 + v27;
+  }
+
+  private static long liveObjects29(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    Object o22 = src[22];
+    Object o23 = src[23];
+    Object o24 = src[24];
+    Object o25 = src[25];
+    Object o26 = src[26];
+    Object o27 = src[27];
+    Object o28 = src[28];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = o22;
+      o22 = o23;
+      o23 = o24;
+      o24 = o25;
+      o25 = o26;
+      o26 = o27;
+      o27 = o28;
+      o28 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    if (o22 == pivot)
+      acc += 22;
+    if (o23 == pivot)
+      acc += 23;
+    if (o24 == pivot)
+      acc += 24;
+    if (o25 == pivot)
+      acc += 25;
+    if (o26 == pivot)
+      acc += 26;
+    if (o27 == pivot)
+      acc += 27;
+    if (o28 == pivot)
+      acc += 28;
+    return acc;
+  }
+
+  private static long liveLongs29(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    long v22 = seed + 22;
+    long v23 = seed + 23;
+    long v24 = seed + 24;
+    long v25 = seed + 25;
+    long v26 = seed + 26;
+    long v27 = seed + 27;
+    long v28 = seed + 28;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v22;
+      v22 += v23;
+      v23 += v24;
+      v24 += v25;
+      v25 += v26;
+      v26 += v27;
+      v27 += v28;
+      v28 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21 ^ v22 ^ v23 ^ v24 ^
+        v25 ^ v26 ^ v27 ^ v28;
+  }
+
+  private static double liveDoubles29(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    double v22 = seed + 22;
+    double v23 = seed + 23;
+    double v24 = seed + 24;
+    double v25 = seed + 25;
+    double v26 = seed + 26;
+    double v27 = seed + 27;
+    double v28 = seed + 28;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v22 * 0.25;
+      v22 = v22 * 0.5 + v23 * 0.25;
+      v23 = v23 * 0.5 + v24 * 0.25;
+      v24 = v24 * 0.5 + v25 * 0.25;
+      v25 = v25 * 0.5 + v26 * 0.25;
+      v26 = v26 * 0.5 + v27 * 0.25;
+      v27 = v27 * 0.5 + v28 * 0.25;
+      v28 = v28 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21 + v22 + v23 + v24 +
+        v25 + v26 + v27 + v28;
+  }
+
+  private static long liveObjects30(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    Object o22 = src[22];
+    Object o23 = src[23];
+    Object o24 = src[24];
+    Object o25 = src[25];
+    Object o26 = src[26];
+    Object o27 = src[27];
+    Object o28 = src[28];
+    Object o29 = src[29];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = o22;
+      o22 = o23;
+      o23 = o24;
+      o24 = o25;
+      o25 = o26;
+      o26 = o27;
+      o27 = o28;
+      o28 = o29;
+      o29 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    if (o22 == pivot)
+      acc += 22;
+    if (o23 == pivot)
+      acc += 23;
+    if (o24 == pivot)
+      acc += 24;
+    if (o25 == pivot)
+      acc += 25;
+    if (o26 == pivot)
+      acc += 26;
+    if (o27 == pivot)
+      acc += 27;
+    if (o28 == pivot)
+      acc += 28;
+    if (o29 == pivot)
+      acc += 29;
+    return acc;
+  }
+
+  private static long liveLongs30(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    long v22 = seed + 22;
+    long v23 = seed + 23;
+    long v24 = seed + 24;
+    long v25 = seed + 25;
+    long v26 = seed + 26;
+    long v27 = seed + 27;
+    long v28 = seed + 28;
+    long v29 = seed + 29;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v22;
+      v22 += v23;
+      v23 += v24;
+      v24 += v25;
+      v25 += v26;
+      v26 += v27;
+      v27 += v28;
+      v28 += v29;
+      v29 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21 ^ v22 ^ v23 ^ v24 ^
+        v25 ^ v26 ^ v27 ^ v28 ^ v29;
+  }
+
+  private static double liveDoubles30(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    double v22 = seed + 22;
+    double v23 = seed + 23;
+    double v24 = seed + 24;
+    double v25 = seed + 25;
+    double v26 = seed + 26;
+    double v27 = seed + 27;
+    double v28 = seed + 28;
+    double v29 = seed + 29;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v22 * 0.25;
+      v22 = v22 * 0.5 + v23 * 0.25;
+      v23 = v23 * 0.5 + v24 * 0.25;
+      v24 = v24 * 0.5 + v25 * 0.25;
+      v25 = v25 * 0.5 + v26 * 0.25;
+      v26 = v26 * 0.5 + v27 * 0.25;
+      v27 = v27 * 0.5 + v28 * 0.25;
+      v28 = v28 * 0.5 + v29 * 0.25;
+      v29 = v29 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21 + v22 + v23 + v24 +
+        v25 + v26 + v27 + v28 + v29;
+  }
+
+  private static long liveObjects31(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    Object o22 = src[22];
+    Object o23 = src[23];
+    Object o24 = src[24];
+    Object o25 = src[25];
+    Object o26 = src[26];
+    Object o27 = src[27];
+    Object o28 = src[28];
+    Object o29 = src[29];
+    Object o30 = src[30];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = o22;
+      o22 = o23;
+      o23 = o24;
+      o24 = o25;
+      o25 = o26;
+      o26 = o27;
+      o27 = o28;
+      o28 = o29;
+      o29 = o30;
+      o30 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    if (o22 == pivot)
+      acc += 22;
+    if (o23 == pivot)
+      acc += 23;
+    if (o24 == pivot)
+      acc += 24;
+    if (o25 == pivot)
+      acc += 25;
+    if (o26 == pivot)
+      acc += 26;
+    if (o27 == pivot)
+      acc += 27;
+    if (o28 == pivot)
+      acc += 28;
+    if (o29 == pivot)
+      acc += 29;
+    if (o30 == pivot)
+      acc += 30;
+    return acc;
+  }
+
+  private static long liveLongs31(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    long v22 = seed + 22;
+    long v23 = seed + 23;
+    long v24 = seed + 24;
+    long v25 = seed + 25;
+    long v26 = seed + 26;
+    long v27 = seed + 27;
+    long v28 = seed + 28;
+    long v29 = seed + 29;
+    long v30 = seed + 30;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v22;
+      v22 += v23;
+      v23 += v24;
+      v24 += v25;
+      v25 += v26;
+      v26 += v27;
+      v27 += v28;
+      v28 += v29;
+      v29 += v30;
+      v30 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21 ^ v22 ^ v23 ^ v24 ^
+        v25 ^ v26 ^ v27 ^ v28 ^ v29 ^ v30;
+  }
+
+  private static double liveDoubles31(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    double v22 = seed + 22;
+    double v23 = seed + 23;
+    double v24 = seed + 24;
+    double v25 = seed + 25;
+    double v26 = seed + 26;
+    double v27 = seed + 27;
+    double v28 = seed + 28;
+    double v29 = seed + 29;
+    double v30 = seed + 30;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v22 * 0.25;
+      v22 = v22 * 0.5 + v23 * 0.25;
+      v23 = v23 * 0.5 + v24 * 0.25;
+      v24 = v24 * 0.5 + v25 * 0.25;
+      v25 = v25 * 0.5 + v26 * 0.25;
+      v26 = v26 * 0.5 + v27 * 0.25;
+      v27 = v27 * 0.5 + v28 * 0.25;
+      v28 = v28 * 0.5 + v29 * 0.25;
+      v29 = v29 * 0.5 + v30 * 0.25;
+      v30 = v30 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21 + v22 + v23 + v24 +
+        v25 + v26 + v27 + v28 + v29 + v30;
+  }
+
+  private static long liveObjects32(Object[] src, Object pivot, int iters) {
+    Object o0 = src[0];
+    Object o1 = src[1];
+    Object o2 = src[2];
+    Object o3 = src[3];
+    Object o4 = src[4];
+    Object o5 = src[5];
+    Object o6 = src[6];
+    Object o7 = src[7];
+    Object o8 = src[8];
+    Object o9 = src[9];
+    Object o10 = src[10];
+    Object o11 = src[11];
+    Object o12 = src[12];
+    Object o13 = src[13];
+    Object o14 = src[14];
+    Object o15 = src[15];
+    Object o16 = src[16];
+    Object o17 = src[17];
+    Object o18 = src[18];
+    Object o19 = src[19];
+    Object o20 = src[20];
+    Object o21 = src[21];
+    Object o22 = src[22];
+    Object o23 = src[23];
+    Object o24 = src[24];
+    Object o25 = src[25];
+    Object o26 = src[26];
+    Object o27 = src[27];
+    Object o28 = src[28];
+    Object o29 = src[29];
+    Object o30 = src[30];
+    Object o31 = src[31];
+    long acc = 0;
+    for (int i = 0; i < iters; i++) {
+      Object t = o0;
+      o0 = o1;
+      o1 = o2;
+      o2 = o3;
+      o3 = o4;
+      o4 = o5;
+      o5 = o6;
+      o6 = o7;
+      o7 = o8;
+      o8 = o9;
+      o9 = o10;
+      o10 = o11;
+      o11 = o12;
+      o12 = o13;
+      o13 = o14;
+      o14 = o15;
+      o15 = o16;
+      o16 = o17;
+      o17 = o18;
+      o18 = o19;
+      o19 = o20;
+      o20 = o21;
+      o21 = o22;
+      o22 = o23;
+      o23 = o24;
+      o24 = o25;
+      o25 = o26;
+      o26 = o27;
+      o27 = o28;
+      o28 = o29;
+      o29 = o30;
+      o30 = o31;
+      o31 = t;
+      acc += o0 == pivot ? i : 1;
+    }
+    if (o1 == pivot)
+      acc += 1;
+    if (o2 == pivot)
+      acc += 2;
+    if (o3 == pivot)
+      acc += 3;
+    if (o4 == pivot)
+      acc += 4;
+    if (o5 == pivot)
+      acc += 5;
+    if (o6 == pivot)
+      acc += 6;
+    if (o7 == pivot)
+      acc += 7;
+    if (o8 == pivot)
+      acc += 8;
+    if (o9 == pivot)
+      acc += 9;
+    if (o10 == pivot)
+      acc += 10;
+    if (o11 == pivot)
+      acc += 11;
+    if (o12 == pivot)
+      acc += 12;
+    if (o13 == pivot)
+      acc += 13;
+    if (o14 == pivot)
+      acc += 14;
+    if (o15 == pivot)
+      acc += 15;
+    if (o16 == pivot)
+      acc += 16;
+    if (o17 == pivot)
+      acc += 17;
+    if (o18 == pivot)
+      acc += 18;
+    if (o19 == pivot)
+      acc += 19;
+    if (o20 == pivot)
+      acc += 20;
+    if (o21 == pivot)
+      acc += 21;
+    if (o22 == pivot)
+      acc += 22;
+    if (o23 == pivot)
+      acc += 23;
+    if (o24 == pivot)
+      acc += 24;
+    if (o25 == pivot)
+      acc += 25;
+    if (o26 == pivot)
+      acc += 26;
+    if (o27 == pivot)
+      acc += 27;
+    if (o28 == pivot)
+      acc += 28;
+    if (o29 == pivot)
+      acc += 29;
+    if (o30 == pivot)
+      acc += 30;
+    if (o31 == pivot)
+      acc += 31;
+    return acc;
+  }
+
+  private static long liveLongs32(long seed, int iters) {
+    long v0 = seed;
+    long v1 = seed + 1;
+    long v2 = seed + 2;
+    long v3 = seed + 3;
+    long v4 = seed + 4;
+    long v5 = seed + 5;
+    long v6 = seed + 6;
+    long v7 = seed + 7;
+    long v8 = seed + 8;
+    long v9 = seed + 9;
+    long v10 = seed + 10;
+    long v11 = seed + 11;
+    long v12 = seed + 12;
+    long v13 = seed + 13;
+    long v14 = seed + 14;
+    long v15 = seed + 15;
+    long v16 = seed + 16;
+    long v17 = seed + 17;
+    long v18 = seed + 18;
+    long v19 = seed + 19;
+    long v20 = seed + 20;
+    long v21 = seed + 21;
+    long v22 = seed + 22;
+    long v23 = seed + 23;
+    long v24 = seed + 24;
+    long v25 = seed + 25;
+    long v26 = seed + 26;
+    long v27 = seed + 27;
+    long v28 = seed + 28;
+    long v29 = seed + 29;
+    long v30 = seed + 30;
+    long v31 = seed + 31;
+    for (int i = 0; i < iters; i++) {
+      v0 += v1 ^ i;
+      v1 += v2;
+      v2 += v3;
+      v3 += v4;
+      v4 += v5;
+      v5 += v6;
+      v6 += v7;
+      v7 += v8;
+      v8 += v9;
+      v9 += v10;
+      v10 += v11;
+      v11 += v12;
+      v12 += v13;
+      v13 += v14;
+      v14 += v15;
+      v15 += v16;
+      v16 += v17;
+      v17 += v18;
+      v18 += v19;
+      v19 += v20;
+      v20 += v21;
+      v21 += v22;
+      v22 += v23;
+      v23 += v24;
+      v24 += v25;
+      v25 += v26;
+      v26 += v27;
+      v27 += v28;
+      v28 += v29;
+      v29 += v30;
+      v30 += v31;
+      v31 += v0;
+    }
+    return v0 ^ v1 ^ v2 ^ v3 ^ v4 ^ v5 ^ v6 ^ v7 ^ v8 ^ v9 ^ v10 ^ v11 ^ v12 ^
+        v13 ^ v14 ^ v15 ^ v16 ^ v17 ^ v18 ^ v19 ^ v20 ^ v21 ^ v22 ^ v23 ^ v24 ^
+        v25 ^ v26 ^ v27 ^ v28 ^ v29 ^ v30 ^ v31;
+  }
+
+  private static double liveDoubles32(double seed, int iters) {
+    double v0 = seed;
+    double v1 = seed + 1;
+    double v2 = seed + 2;
+    double v3 = seed + 3;
+    double v4 = seed + 4;
+    double v5 = seed + 5;
+    double v6 = seed + 6;
+    double v7 = seed + 7;
+    double v8 = seed + 8;
+    double v9 = seed + 9;
+    double v10 = seed + 10;
+    double v11 = seed + 11;
+    double v12 = seed + 12;
+    double v13 = seed + 13;
+    double v14 = seed + 14;
+    double v15 = seed + 15;
+    double v16 = seed + 16;
+    double v17 = seed + 17;
+    double v18 = seed + 18;
+    double v19 = seed + 19;
+    double v20 = seed + 20;
+    double v21 = seed + 21;
+    double v22 = seed + 22;
+    double v23 = seed + 23;
+    double v24 = seed + 24;
+    double v25 = seed + 25;
+    double v26 = seed + 26;
+    double v27 = seed + 27;
+    double v28 = seed + 28;
+    double v29 = seed + 29;
+    double v30 = seed + 30;
+    double v31 = seed + 31;
+    for (int i = 0; i < iters; i++) {
+      v0 = v0 * 0.5 + v1 * 0.25;
+      v1 = v1 * 0.5 + v2 * 0.25;
+      v2 = v2 * 0.5 + v3 * 0.25;
+      v3 = v3 * 0.5 + v4 * 0.25;
+      v4 = v4 * 0.5 + v5 * 0.25;
+      v5 = v5 * 0.5 + v6 * 0.25;
+      v6 = v6 * 0.5 + v7 * 0.25;
+      v7 = v7 * 0.5 + v8 * 0.25;
+      v8 = v8 * 0.5 + v9 * 0.25;
+      v9 = v9 * 0.5 + v10 * 0.25;
+      v10 = v10 * 0.5 + v11 * 0.25;
+      v11 = v11 * 0.5 + v12 * 0.25;
+      v12 = v12 * 0.5 + v13 * 0.25;
+      v13 = v13 * 0.5 + v14 * 0.25;
+      v14 = v14 * 0.5 + v15 * 0.25;
+      v15 = v15 * 0.5 + v16 * 0.25;
+      v16 = v16 * 0.5 + v17 * 0.25;
+      v17 = v17 * 0.5 + v18 * 0.25;
+      v18 = v18 * 0.5 + v19 * 0.25;
+      v19 = v19 * 0.5 + v20 * 0.25;
+      v20 = v20 * 0.5 + v21 * 0.25;
+      v21 = v21 * 0.5 + v22 * 0.25;
+      v22 = v22 * 0.5 + v23 * 0.25;
+      v23 = v23 * 0.5 + v24 * 0.25;
+      v24 = v24 * 0.5 + v25 * 0.25;
+      v25 = v25 * 0.5 + v26 * 0.25;
+      v26 = v26 * 0.5 + v27 * 0.25;
+      v27 = v27 * 0.5 + v28 * 0.25;
+      v28 = v28 * 0.5 + v29 * 0.25;
+      v29 = v29 * 0.5 + v30 * 0.25;
+      v30 = v30 * 0.5 + v31 * 0.25;
+      v31 = v31 * 0.5 + v0 * 0.25 + 1.0;
+    }
+    return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10 + v11 + v12 +
+        v13 + v14 + v15 + v16 + v17 + v18 + v19 + v20 + v21 + v22 + v23 + v24 +
+        v25 + v26 + v27 + v28 + v29 + v30 + v31;
+  }
+}
@@ -1,5 +1,13 @@
  
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.lang.ref.PhantomReference;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
@@ -10,37 +18,287 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class RandomObjectChaosTest {
 
   private static final Random RAND = new Random();
   private static final ReferenceQueue<Validatable> REF_QUEUE = new ReferenceQueue<>();
+  private static final int DEFAULT_PARALLEL_VERIFY_EVERY = 64;
+  private static final int DEFAULT_SHRINK_ATTEMPTS = 3;
+  private static final int DEFAULT_MARK_BENCH_NODES = 1 << 16;
+
+  // When set (--graphShape=spec), graph payloads come from GraphShapes
+  // instead of GraphBox's fixed chain.
+  private static GraphShapes.Shape graphShape;
+
+  // Op encoding: bits 0-1 payload kind, bits 2-3 reference kind, bits 4+ size.
+  // Negative ops are sampled re-verifications of strong[-op - 1].
+  private static final int KIND_BYTES = 0;
+  private static final int KIND_INTS = 1;
+  private static final int KIND_STRING = 2;
+  private static final int KIND_GRAPH = 3;
+  private static final int REF_STRONG = 0;
+  private static final int REF_WEAK = 1;
+  private static final int REF_SOFT = 2;
+  private static final int REF_PHANTOM = 3;
+
+  /** Per-thread phase state; single-threaded mode uses one run on the shared RAND. */
+  private static final class PhaseRun {
+    final int phase;
+    final int thread;
+    final long seed;
+    final Random rand;
+    final int verifyEvery;
+    final boolean inlinePoll;
+    OpLog log;
+    // The other workers of a --threads phase, so a failure can name every
+    // log the replay needs.
+    PhaseRun[] peers;
+    long allocs;
+    long bytes;
+    long verified;
+    long nanos;
+    Throwable failure;
+
+    PhaseRun(int phase, int thread, long seed, Random rand, int verifyEvery,
+             boolean inlinePoll) {
+      this.phase = phase;
+      this.thread = thread;
+      this.seed = seed;
+      this.rand = rand;
+      this.verifyEvery = Math.max(1, verifyEvery);
+      this.inlinePoll = inlinePoll;
+    }
+
+    String logPath(String base) {
+      return base + ".p" + phase + (thread < 0 ? "" : ".t" + thread) + ".ops";
+    }
+
+    String tag() {
+      return thread < 0 ? ("phase=" + phase)
+                        : ("phase=" + phase + " t=" + thread);
+    }
+  }
 
   public static void main(String[] args) {
     System.out.println("=== RandomObjectChaosTest starting ===");
     int maxAllocs = -1;
+    int threads = 0;
+    int verifyEvery = DEFAULT_PARALLEL_VERIFY_EVERY;
+    long seed = System.nanoTime();
+    String opLogBase = null;
+    String replayPath = null;
+    String shrinkPath = null;
+    int shrinkAttempts = DEFAULT_SHRINK_ATTEMPTS;
+    int markBenchNodes = 0;
+    graphShape = null;
     for (String s : args) {
       if (s.startsWith("--maxAllocs=")) {
         maxAllocs = Integer.parseInt(s.substring(s.indexOf('=') + 1));
+      } else if (s.startsWith("--threads=")) {
+        threads = Integer.parseInt(s.substring(s.indexOf('=') + 1));
+      } else if (s.startsWith("--verifyEvery=")) {
+        verifyEvery = Integer.parseInt(s.substring(s.indexOf('=') + 1));
+      } else if (s.startsWith("--seed=")) {
+        seed = Long.parseLong(s.substring(s.indexOf('=') + 1));
+      } else if (s.startsWith("--opLog=")) {
+        opLogBase = s.substring(s.indexOf('=') + 1);
+      } else if (s.startsWith("--replay=")) {
+        replayPath = s.substring(s.indexOf('=') + 1);
+      } else if (s.startsWith("--shrink=")) {
+        shrinkPath = s.substring(s.indexOf('=') + 1);
+      } else if (s.startsWith("--shrinkAttempts=")) {
+        shrinkAttempts = Integer.parseInt(s.substring(s.indexOf('=') + 1));
+      } else if (s.startsWith("--graphShape=")) {
+        graphShape = GraphShapes.Shape.parse("chaos",
+                                             s.substring(s.indexOf('=') + 1));
+      } else if ("--markBench".equals(s)) {
+        markBenchNodes = DEFAULT_MARK_BENCH_NODES;
+      } else if (s.startsWith("--markBench=")) {
+        markBenchNodes = Integer.parseInt(s.substring(s.indexOf('=') + 1));
       } else if ("--short".equals(s)) {
         maxAllocs = 2000;
       } else if (s.matches("\\d+")) {
         maxAllocs = Integer.parseInt(s);
       }
     }
-    runPhase(1, maxAllocs);
-    forceGc("after phase 1");
-    runPhase(2, maxAllocs);
-    forceGc("after phase 2");
+    if (markBenchNodes > 0) {
+      int failed = GraphShapes.runMarkingSweep(
+          "RandomObjectChaosTest", GraphShapes.sweep(markBenchNodes), 5,
+          new Random(seed));
+      System.out.println("=== RandomObjectChaosTest finished ===");
+      if (failed != 0)
+        System.exit(1);
+      return;
+    }
+    if (graphShape != null)
+      System.out.println("graphShape=" + graphShape);
+    if (replayPath != null) {
+      boolean failed = replayFiles(replayPath.split(","));
+      System.out.println("=== RandomObjectChaosTest finished ===");
+      if (failed)
+        System.exit(1);
+      return;
+    }
+    if (shrinkPath != null) {
+      boolean reproduced =
+          shrinkFile(shrinkPath.split(","), Math.max(1, shrinkAttempts));
+      System.out.println("=== RandomObjectChaosTest finished ===");
+      if (reproduced)
+        System.exit(1);
+      return;
+    }
+    System.out.println("seed=" + seed);
+    if (threads > 0) {
+      runParallel(threads, maxAllocs, verifyEvery, seed, opLogBase);
+      System.out.println("=== RandomObjectChaosTest finished ===");
+      return;
+    }
+    for (int phase = 1; phase <= 2; phase++) {
+      long phaseSeed = deriveSeed(seed, phase - 1);
+      RAND.setSeed(phaseSeed);
+      PhaseRun run = new PhaseRun(phase, -1, phaseSeed, RAND, 1, true);
+      run.log = OpLog.open(opLogBase == null ? null : run.logPath(opLogBase),
+                           phaseSeed);
+      runPhase(run, maxAllocs);
+      forceGc("after phase " + phase);
+    }
     System.out.println("=== RandomObjectChaosTest finished ===");
   }
 
-  private static void runPhase(int phase, int maxAllocs) {
-    System.out.println("-- Phase " + phase + " begin --");
+  /**
+   * Runs each phase on {@code threads} workers at once. Every worker gets its
+   * own Random derived from the master seed, verifies one payload in
+   * {@code verifyEvery}, and leaves reference-queue draining to a reaper.
+   */
+  private static void runParallel(int threads, int maxAllocs, int verifyEvery,
+                                  long seed, String opLogBase) {
+    System.out.printf(Locale.ROOT, "parallel mode: threads=%d seed=%d verifyEvery=%d%n",
+                      threads, seed, verifyEvery);
+    Reaper reaper = new Reaper();
+    reaper.start();
+    try {
+      for (int phase = 1; phase <= 2; phase++) {
+        PhaseRun[] runs = new PhaseRun[threads];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+          long threadSeed = deriveSeed(seed, (phase - 1) * threads + t);
+          System.out.printf(Locale.ROOT, "phase %d thread %d seed=%d%n", phase, t,
+                            threadSeed);
+          final PhaseRun run = new PhaseRun(phase, t, threadSeed,
+                                            new Random(threadSeed), verifyEvery,
+                                            false);
+          run.log = OpLog.open(
+              opLogBase == null ? null : run.logPath(opLogBase), threadSeed);
+          run.peers = runs;
+          runs[t] = run;
+          workers[t] = new Thread(() -> {
+            try {
+              runPhase(run, maxAllocs);
+            } catch (Throwable failure) {
+              run.failure = failure;
+            }
+          }, "chaos-p" + phase + "-t" + t);
+        }
+        for (Thread w : workers)
+          w.start();
+        for (Thread w : workers) {
+          try {
+            w.join();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        for (PhaseRun run : runs) {
+          if (run.failure != null)
+            throw new AssertionError("[" + run.tag() + "] failed", run.failure);
+        }
+        reportThroughput(runs);
+        forceGc("after phase " + phase);
+      }
+    } finally {
+      reaper.shutdown();
+    }
+    System.out.println("reaper cleared " + reaper.cleared + " references");
+  }
+
+  private static void reportThroughput(PhaseRun[] runs) {
+    long allocs = 0;
+    long bytes = 0;
+    long maxNanos = 1;
+    for (PhaseRun run : runs) {
+      double secs = Math.max(1, run.nanos) / 1e9;
+      System.out.printf(Locale.ROOT,
+                        "[%s] allocs=%d verified=%d time=%.1fms %.0f allocs/s %.1f MB/s%n",
+                        run.tag(), run.allocs, run.verified, run.nanos / 1e6,
+                        run.allocs / secs, bytesToMB(run.bytes) / secs);
+      allocs += run.allocs;
+      bytes += run.bytes;
+      maxNanos = Math.max(maxNanos, run.nanos);
+    }
+    double secs = maxNanos / 1e9;
+    System.out.printf(Locale.ROOT,
+                      "[phase=%d total] threads=%d %.0f allocs/s %.1f MB/s%n",
+                      runs[0].phase, runs.length, allocs / secs,
+                      bytesToMB(bytes) / secs);
+  }
+
+  /** SplitMix64 step so per-thread seeds are well spread even for nearby masters. */
+  private static long deriveSeed(long master, int index) {
+    long z = master + 0x9E3779B97F4A7C15L * (index + 1);
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  private static final class Reaper extends Thread {
+    private volatile boolean running = true;
+    volatile long cleared;
+
+    Reaper() {
+      super("chaos-reaper");
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      while (running) {
+        try {
+          Reference<? extends Validatable> ref = REF_QUEUE.remove(100);
+          if (ref != null) {
+            ref.clear();
+            cleared++;
+          }
+        } catch (InterruptedException e) {
+          return;
+        }
+      }
+    }
+
+    void shutdown() {
+      running = false;
+      interrupt();
+      try {
+        join(1000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static void runPhase(PhaseRun run, int maxAllocs) {
+    int phase = run.phase;
+    Random rand = run.rand;
+    System.out.println("-- Phase " + phase + " begin (" +
+                       (run.thread < 0 ? "" : "thread " + run.thread + ", ") +
+                       "seed=" + run.seed + ") --");
     List<Validatable> strong = new ArrayList<>();
     List<Reference<? extends Validatable>> refs = new ArrayList<>();
     long approxBytes = 0;
     int seq = 0;
+    boolean oom = false;
+    long start = System.nanoTime();
     try {
       while (true) {
         if (maxAllocs > 0 && seq >= maxAllocs) {
@@ -49,64 +307,454 @@ public class RandomObjectChaosTest {
                             phase, seq, bytesToMB(approxBytes));
           break;
         }
-        Validatable payload = allocateRandomPayload(seq);
-        payload.verify();
+        int op = nextOp(rand);
+        if (run.log != null)
+          run.log.record(op);
+        Validatable payload =
+            allocatePayload(op, seq, contentRandom(run.seed, seq));
+        if (run.log != null)
+          run.log.fold(payload.fingerprint());
+        if ((seq % run.verifyEvery) == 0) {
+          payload.verify();
+          run.verified++;
+        }
         approxBytes += payload.approxBytes();
-        storeWithRandomReference(payload, strong, refs);
+        storeWithReference(payload, opRef(op), strong, refs, run.inlinePoll);
         if (!strong.isEmpty() && (strong.size() & 511) == 0) {
-          Validatable sample = strong.get(RAND.nextInt(strong.size()));
-          sample.verify();
+          int idx = rand.nextInt(strong.size());
+          if (run.log != null)
+            run.log.record(-idx - 1);
+          strong.get(idx).verify();
+          run.verified++;
         }
         if ((seq & 1023) == 0) {
-          reportProgress(phase, seq, approxBytes, strong.size(), refs.size());
+          reportProgress(run.tag(), seq, approxBytes, strong.size(), refs.size());
         }
         seq++;
       }
-    } catch (OutOfMemoryError oom) {
+    } catch (OutOfMemoryError e) {
+      oom = true;
       System.out.printf(Locale.ROOT,
                         "Phase %d reached OOM after %d allocations (~%.1f MB)\n",
                         phase, seq, bytesToMB(approxBytes));
+    } catch (AssertionError e) {
+      System.out.printf(Locale.ROOT, "FAIL [%s] at seq=%d seed=%d: %s%n",
+                        run.tag(), seq, run.seed, e.getMessage());
+      if (run.log != null) {
+        String logs = replayPaths(run);
+        System.out.println("  op log: " + run.log.path + " (" +
+                           (run.log.count) + " ops); rerun with --replay=" +
+                           logs + " or --shrink=" + logs +
+                           (graphShape == null ? "" : " and the same --graphShape"));
+      }
+      throw e;
     } finally {
+      // A checksum is only written when every logged op got its payload;
+      // after an OOM the last op never did.
+      if (run.log != null)
+        run.log.close(!oom);
+      run.nanos = System.nanoTime() - start;
+      run.allocs = seq;
+      run.bytes = approxBytes;
       System.out.println("Phase " + phase + " clearing references...");
       strong.clear();
       refs.clear();
     }
   }
 
-  private static void storeWithRandomReference(Validatable payload,
-                                               List<Validatable> strong,
-                                               List<Reference<? extends Validatable>> refs) {
-    int dice = RAND.nextInt(10);
-    if (dice < 7) {
+  /** This run's log first, then its phase peers' logs, comma-separated. */
+  private static String replayPaths(PhaseRun run) {
+    StringBuilder sb = new StringBuilder(run.log.path);
+    if (run.peers != null) {
+      for (PhaseRun peer : run.peers) {
+        if (peer != null && peer != run && peer.log != null)
+          sb.append(',').append(peer.log.path);
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Content draws (string letters, graph tokens and shape) for op {@code seq}
+   * come from their own Random seeded from the phase seed, not from the op
+   * stream, so a replay of the log rebuilds the same payloads.
+   */
+  private static Random contentRandom(long phaseSeed, int seq) {
+    return new Random(deriveSeed(phaseSeed, seq));
+  }
+
+  /** Draws one allocation decision: payload kind, its size, and how it is referenced. */
+  private static int nextOp(Random rand) {
+    int kind = rand.nextInt(4);
+    int size;
+    switch (kind) {
+    case KIND_BYTES:
+      size = 64 * 1024 + rand.nextInt(512 * 1024);
+      break;
+    case KIND_INTS:
+      size = 512 + rand.nextInt(32 * 1024);
+      break;
+    case KIND_STRING:
+      size = 256 + rand.nextInt(2048);
+      break;
+    default:
+      size = 8 + rand.nextInt(64);
+      break;
+    }
+    int dice = rand.nextInt(10);
+    int ref = dice < 7 ? REF_STRONG
+                       : dice < 8 ? REF_WEAK : dice < 9 ? REF_SOFT : REF_PHANTOM;
+    return (size << 4) | (ref << 2) | kind;
+  }
+
+  private static int opRef(int op) {
+    return (op >>> 2) & 3;
+  }
+
+  private static void storeWithReference(Validatable payload, int refKind,
+                                         List<Validatable> strong,
+                                         List<Reference<? extends Validatable>> refs,
+                                         boolean poll) {
+    switch (refKind) {
+    case REF_STRONG:
       strong.add(payload);
-    } else if (dice < 8) {
+      break;
+    case REF_WEAK:
       refs.add(new WeakReference<>(payload, REF_QUEUE));
-    } else if (dice < 9) {
+      break;
+    case REF_SOFT:
       refs.add(new SoftReference<>(payload, REF_QUEUE));
-    } else {
+      break;
+    default:
       refs.add(new PhantomReference<>(payload, REF_QUEUE));
+      break;
     }
-    pollReferenceQueue();
+    if (poll)
+      pollReferenceQueue();
   }
 
-  private static Validatable allocateRandomPayload(int seq) {
-    switch (RAND.nextInt(4)) {
-    case 0:
-      return new ByteBox(64 * 1024 + RAND.nextInt(512 * 1024), (byte)(seq & 0xFF));
-    case 1:
-      return new IntBox(512 + RAND.nextInt(32 * 1024), seq);
-    case 2:
-      return new StringBox(seq, 256 + RAND.nextInt(2048));
+  private static Validatable allocatePayload(int op, int seq, Random contentRand) {
+    int size = op >>> 4;
+    switch (op & 3) {
+    case KIND_BYTES:
+      return new ByteBox(size, (byte)(seq & 0xFF));
+    case KIND_INTS:
+      return new IntBox(size, seq);
+    case KIND_STRING:
+      return new StringBox(seq, size, contentRand);
     default:
-      return new GraphBox(seq, 8 + RAND.nextInt(64));
+      return graphShape != null ? new ShapedGraphBox(seq, size, contentRand)
+                                : new GraphBox(seq, size, contentRand);
+    }
+  }
+
+  // ======== Replay / shrink ========
+
+  /**
+   * Replays the given logs, each on its own thread when there are several
+   * (the workers of one --threads phase). Returns true if any failed or its
+   * contents diverged from the logged checksum.
+   */
+  private static boolean replayFiles(String[] paths) {
+    OpLog.Contents[] logs = readLogs(paths);
+    if (logs == null)
+      return false;
+    int[] counts = new int[logs.length];
+    for (int k = 0; k < logs.length; k++) {
+      counts[k] = logs[k].ops.length;
+      System.out.println("replaying " + paths[k] + ": seed=" + logs[k].seed +
+                         " ops=" + counts[k] +
+                         (logs[k].hasChecksum
+                              ? " checksum=" + Long.toHexString(logs[k].checksum)
+                              : " (no checksum)"));
+    }
+    int[] failedAt = replayAll(logs, counts);
+    boolean failed = false;
+    for (int k = 0; k < logs.length; k++) {
+      System.out.println(paths[k] + ": " +
+                         (failedAt[k] == 0 ? "replay passed"
+                                           : "replay REPRODUCED failure at op " +
+                                                 (failedAt[k] - 1)));
+      failed |= failedAt[k] != 0;
+    }
+    return failed;
+  }
+
+  private static OpLog.Contents[] readLogs(String[] paths) {
+    OpLog.Contents[] logs = new OpLog.Contents[paths.length];
+    for (int k = 0; k < paths.length; k++) {
+      try {
+        logs[k] = OpLog.read(paths[k]);
+      } catch (IOException e) {
+        System.out.println("cannot read op log " + paths[k] + ": " + e);
+        return null;
+      }
     }
+    return logs;
   }
 
-  private static void reportProgress(int phase, int seq, long bytes, int strongCount,
+  /**
+   * Bisects the shortest failing prefix of the first log. Any further logs
+   * are that phase's other workers and replay in full alongside every
+   * attempt. A prefix counts as failing if any of {@code attempts} replays
+   * fails, so flaky GC races still shrink; the result is written next to the
+   * input as {@code <path>.min}. Returns true if the failure reproduced.
+   */
+  private static boolean shrinkFile(String[] paths, int attempts) {
+    OpLog.Contents[] logs = readLogs(paths);
+    if (logs == null)
+      return false;
+    String path = paths[0];
+    OpLog.Contents log = logs[0];
+    int hi = replayAttempts(logs, log.ops.length, attempts);
+    if (hi == 0) {
+      System.out.println("shrink: " + path + " (" + log.ops.length +
+                         " ops) does not reproduce a failure");
+      return false;
+    }
+    int lo = 1;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      int failedAt = replayAttempts(logs, mid, attempts);
+      System.out.println("shrink: prefix " + mid + " -> " +
+                         (failedAt == 0 ? "pass" : "fail@" + (failedAt - 1)));
+      if (failedAt != 0) {
+        hi = Math.min(mid, failedAt);
+      } else {
+        lo = mid + 1;
+      }
+    }
+    String out = path + ".min";
+    try {
+      OpLog.write(out, log.seed, log.ops, hi);
+      System.out.println("shrink: " + log.ops.length + " -> " + hi +
+                         " ops, written to " + out);
+    } catch (IOException e) {
+      System.out.println("shrink: minimal prefix is " + hi +
+                         " ops but writing " + out + " failed: " + e);
+    }
+    return true;
+  }
+
+  private static int replayAttempts(OpLog.Contents[] logs, int count,
+                                    int attempts) {
+    int[] counts = new int[logs.length];
+    for (int k = 0; k < logs.length; k++)
+      counts[k] = logs[k].ops.length;
+    counts[0] = count;
+    for (int a = 0; a < attempts; a++) {
+      int failedAt = replayAll(logs, counts)[0];
+      if (failedAt != 0)
+        return failedAt;
+    }
+    return 0;
+  }
+
+  /** Replays logs[k] up to counts[k], one thread per log when several. */
+  private static int[] replayAll(OpLog.Contents[] logs, int[] counts) {
+    int[] failedAt = new int[logs.length];
+    if (logs.length == 1) {
+      failedAt[0] = replay(logs[0], counts[0]);
+      return failedAt;
+    }
+    Thread[] workers = new Thread[logs.length];
+    for (int k = 0; k < logs.length; k++) {
+      final int idx = k;
+      workers[k] = new Thread(() -> {
+        failedAt[idx] = replay(logs[idx], counts[idx]);
+      }, "chaos-replay-" + k);
+      workers[k].start();
+    }
+    for (Thread w : workers) {
+      try {
+        w.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return failedAt;
+  }
+
+  /**
+   * Re-executes the first {@code count} ops, rebuilding each payload from the
+   * logged seed and verifying it, then re-verifies the strong survivors after
+   * a GC. A full replay must also reproduce the logged content checksum.
+   * Returns the failing prefix length (op index + 1), or 0 if everything
+   * verified.
+   */
+  private static int replay(OpLog.Contents log, int count) {
+    int[] ops = log.ops;
+    List<Validatable> strong = new ArrayList<>();
+    List<Reference<? extends Validatable>> refs = new ArrayList<>();
+    long checksum = 0;
+    int i = 0;
+    int seq = 0;
+    try {
+      for (; i < count; i++) {
+        int op = ops[i];
+        checksum = OpLog.mix(checksum, op);
+        if (op < 0) {
+          int idx = -op - 1;
+          if (idx < strong.size())
+            strong.get(idx).verify();
+          continue;
+        }
+        Validatable payload =
+            allocatePayload(op, seq, contentRandom(log.seed, seq));
+        checksum = OpLog.mix(checksum, payload.fingerprint());
+        payload.verify();
+        storeWithReference(payload, opRef(op), strong, refs, true);
+        seq++;
+      }
+      System.gc();
+      i = count - 1;
+      for (Validatable v : strong)
+        v.verify();
+      if (log.hasChecksum && count == ops.length && checksum != log.checksum) {
+        System.out.println("replay: contents diverged from the logged run " +
+                           "(checksum " + Long.toHexString(checksum) +
+                           ", logged " + Long.toHexString(log.checksum) +
+                           "); check --graphShape matches");
+        return count;
+      }
+      return 0;
+    } catch (AssertionError e) {
+      System.out.println("replay: op " + i + " failed: " + e.getMessage());
+      return i + 1;
+    } catch (OutOfMemoryError oom) {
+      strong.clear();
+      refs.clear();
+      System.out.println("replay: OOM at op " + i + " (not counted as failure)");
+      return 0;
+    } finally {
+      strong.clear();
+      refs.clear();
+      pollReferenceQueue();
+    }
+  }
+
+  /**
+   * Compact binary op log: magic, seed, one int per op, then (if the run got
+   * that far) a TRAILER word and the content checksum over every op and the
+   * fingerprint of every payload built.
+   */
+  private static final class OpLog {
+    private static final int MAGIC = 0x43484F53;
+    // Never a valid op: sizes are non-negative and -idx - 1 > MIN_VALUE.
+    private static final int TRAILER = Integer.MIN_VALUE;
+
+    final String path;
+    private DataOutputStream out;
+    int count;
+    long checksum;
+
+    private OpLog(String path, DataOutputStream out) {
+      this.path = path;
+      this.out = out;
+    }
+
+    static final class Contents {
+      final long seed;
+      final int[] ops;
+      final boolean hasChecksum;
+      final long checksum;
+
+      Contents(long seed, int[] ops, boolean hasChecksum, long checksum) {
+        this.seed = seed;
+        this.ops = ops;
+        this.hasChecksum = hasChecksum;
+        this.checksum = checksum;
+      }
+    }
+
+    static long mix(long h, long v) {
+      return (h ^ v) * 0x9E3779B97F4A7C15L + 1;
+    }
+
+    /** Returns null (logging off) when path is null or cannot be opened. */
+    static OpLog open(String path, long seed) {
+      if (path == null)
+        return null;
+      try {
+        DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(path), 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeLong(seed);
+        return new OpLog(path, out);
+      } catch (IOException e) {
+        System.out.println("op log disabled (" + path + "): " + e);
+        return null;
+      }
+    }
+
+    void record(int op) {
+      if (out == null)
+        return;
+      try {
+        out.writeInt(op);
+        count++;
+        checksum = mix(checksum, op);
+      } catch (IOException e) {
+        System.out.println("op log disabled (" + path + "): " + e);
+        close(false);
+      }
+    }
+
+    void fold(long fingerprint) { checksum = mix(checksum, fingerprint); }
+
+    void close(boolean writeChecksum) {
+      if (out == null)
+        return;
+      try {
+        if (writeChecksum) {
+          out.writeInt(TRAILER);
+          out.writeLong(checksum);
+        }
+        out.close();
+      } catch (IOException ignored) {
+      }
+      out = null;
+    }
+
+    static Contents read(String path) throws IOException {
+      File f = new File(path);
+      try (DataInputStream in = new DataInputStream(
+               new BufferedInputStream(new FileInputStream(f)))) {
+        if (in.readInt() != MAGIC)
+          throw new IOException("not an op log");
+        long seed = in.readLong();
+        int[] ops = new int[(int)((f.length() - 12) / 4)];
+        int n = 0;
+        while (n < ops.length) {
+          int op = in.readInt();
+          if (op == TRAILER) {
+            long checksum = in.readLong();
+            return new Contents(seed, Arrays.copyOf(ops, n), true, checksum);
+          }
+          ops[n++] = op;
+        }
+        return new Contents(seed, ops, false, 0);
+      }
+    }
+
+    /** Writes the first count ops with no checksum (a prefix has none). */
+    static void write(String path, long seed, int[] ops, int count)
+        throws IOException {
+      try (DataOutputStream out = new DataOutputStream(
+               new BufferedOutputStream(new FileOutputStream(path)))) {
+        out.writeInt(MAGIC);
+        out.writeLong(seed);
+        for (int i = 0; i < count; i++)
+          out.writeInt(ops[i]);
+      }
+    }
+  }
+
+  private static void reportProgress(String tag, int seq, long bytes, int strongCount,
                                      int otherCount) {
     System.out.printf(Locale.ROOT,
-                      "[phase=%d seq=%d] approxAllocated=%.1f MB, strong=%d, otherRefs=%d%n",
-                      phase, seq, bytesToMB(bytes), strongCount, otherCount);
+                      "[%s seq=%d] approxAllocated=%.1f MB, strong=%d, otherRefs=%d%n",
+                      tag, seq, bytesToMB(bytes), strongCount, otherCount);
   }
 
   private static void forceGc(String reason) {
@@ -136,6 +784,8 @@ public class RandomObjectChaosTest {
   private interface Validatable {
     void verify();
     long approxBytes();
+    /** Digest of the contents as built; must be the same on replay. */
+    long fingerprint();
   }
 
   private static final class ByteBox implements Validatable {
@@ -159,6 +809,11 @@ public class RandomObjectChaosTest {
     public long approxBytes() {
       return data.length;
     }
+
+    @Override
+    public long fingerprint() {
+      return (long)data.length << 8 | (pattern & 0xFF);
+    }
   }
 
   private static final class IntBox implements Validatable {
@@ -177,7 +832,7 @@ public class RandomObjectChaosTest {
     public void verify() {
       if (data.length == 0)
         throw new AssertionError("IntBox empty");
-      int idx = RAND.nextInt(data.length);
+      int idx = ThreadLocalRandom.current().nextInt(data.length);
       if (data[idx] != base + idx) {
         throw new AssertionError("IntBox mismatch at " + idx);
       }
@@ -187,15 +842,20 @@ public class RandomObjectChaosTest {
     public long approxBytes() {
       return data.length * Integer.BYTES;
     }
+
+    @Override
+    public long fingerprint() {
+      return (long)data.length << 32 | (base & 0xFFFFFFFFL);
+    }
   }
 
   private static final class StringBox implements Validatable {
     private final String marker;
     private final String value;
 
-    StringBox(int seq, int len) {
+    StringBox(int seq, int len, Random rand) {
       this.marker = "SB-" + seq;
-      this.value = marker + ':' + randomAlpha(len);
+      this.value = marker + ':' + randomAlpha(len, rand);
     }
 
     @Override
@@ -210,6 +870,11 @@ public class RandomObjectChaosTest {
     public long approxBytes() {
       return value.length() * 2L + 40;
     }
+
+    @Override
+    public long fingerprint() {
+      return (long)value.length() << 32 | (value.hashCode() & 0xFFFFFFFFL);
+    }
   }
 
   private static final class GraphBox implements Validatable {
@@ -217,8 +882,8 @@ public class RandomObjectChaosTest {
     private final long token;
     private final int depth;
 
-    GraphBox(int seq, int depth) {
-      this.token = (seq * 2654435761L) ^ System.nanoTime();
+    GraphBox(int seq, int depth, Random rand) {
+      this.token = (seq * 2654435761L) ^ rand.nextLong();
       this.depth = depth;
       this.head = build(depth, token);
     }
@@ -253,6 +918,11 @@ public class RandomObjectChaosTest {
       return depth * 32L;
     }
 
+    @Override
+    public long fingerprint() {
+      return token * 31 + depth;
+    }
+
     private static final class Node {
       final long token;
       final Node next;
@@ -264,10 +934,40 @@ public class RandomObjectChaosTest {
     }
   }
 
-  private static String randomAlpha(int len) {
+  /** Graph payload built by GraphShapes; the op size scales its node budget. */
+  private static final class ShapedGraphBox implements Validatable {
+    private final int seq;
+    private final GraphShapes.Graph graph;
+
+    ShapedGraphBox(int seq, int size, Random rand) {
+      this.seq = seq;
+      this.graph = GraphShapes.build(
+          graphShape.withMaxNodes(Math.min(graphShape.maxNodes, size * 16)),
+          rand);
+    }
+
+    @Override
+    public void verify() {
+      if (!graph.verify())
+        throw new AssertionError("ShapedGraphBox checksum mismatch (seq=" + seq +
+                                 ", " + graph.shape + ")");
+    }
+
+    @Override
+    public long approxBytes() {
+      return graph.approxBytes();
+    }
+
+    @Override
+    public long fingerprint() {
+      return graph.checksum;
+    }
+  }
+
+  private static String randomAlpha(int len, Random rand) {
     char[] chars = new char[len];
     for (int i = 0; i < len; i++) {
-      chars[i] = (char)('a' + RAND.nextInt(26));
+      chars[i] = (char)('a' + rand.nextInt(26));
     }
     return new String(chars);
   }
@@ -0,0 +1,254 @@
+// RecordCodec.java
+// Fixed and variable-length records packed into one ByteBuffer and read in
+// place: a reusable flyweight for scanning, read-only slices for handing a
+// record (or its payload) to someone else. Nothing is copied and reading a
+// field allocates nothing. Used by ByteBufferTest --codec.
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public final class RecordCodec {
+  // Record layout, offsets from the record start, all in ORDER:
+  //    0  int    record length (header + name + payload, padded to 8)
+  //    4  int    kind
+  //    8  long   id
+  //   16  double value
+  //   24  short  name length (UTF-8 bytes, unsigned)
+  //   26  short  reserved (0)
+  //   28  int    payload length
+  //   32  name bytes, payload bytes, zero padding
+  // Records start 8-aligned so the long and double never straddle.
+  public static final int HEADER = 32;
+  public static final int MAX_NAME = 0xFFFF;
+  public static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  private static final int OFF_LENGTH = 0;
+  private static final int OFF_KIND = 4;
+  private static final int OFF_ID = 8;
+  private static final int OFF_VALUE = 16;
+  private static final int OFF_NAME_LENGTH = 24;
+  private static final int OFF_PAYLOAD_LENGTH = 28;
+
+  private RecordCodec() {}
+
+  /** Bytes one record takes, padding included. */
+  public static int recordSize(int nameLength, int payloadLength) {
+    return (HEADER + nameLength + payloadLength + 7) & ~7;
+  }
+
+  /**
+   * Appends records to a buffer from position 0. Only the Writer's own
+   * duplicate moves, so the caller's buffer keeps its position and order.
+   */
+  public static final class Writer {
+    private final ByteBuffer buf;
+    private int count;
+
+    public Writer(ByteBuffer target) {
+      buf = target.duplicate().order(ORDER);
+      buf.clear();
+    }
+
+    /**
+     * Writes one record and returns its offset, or -1 (nothing written) if
+     * it does not fit.
+     */
+    public int append(long id, int kind, double value, byte[] name,
+                      byte[] payload, int payloadOff, int payloadLength) {
+      if (name.length > MAX_NAME)
+        throw new IllegalArgumentException("name too long: " + name.length);
+      int base = buf.position();
+      int size = recordSize(name.length, payloadLength);
+      if (size > buf.remaining())
+        return -1;
+      buf.putInt(base + OFF_LENGTH, size);
+      buf.putInt(base + OFF_KIND, kind);
+      buf.putLong(base + OFF_ID, id);
+      buf.putDouble(base + OFF_VALUE, value);
+      buf.putShort(base + OFF_NAME_LENGTH, (short)name.length);
+      buf.putShort(base + OFF_NAME_LENGTH + 2, (short)0);
+      buf.putInt(base + OFF_PAYLOAD_LENGTH, payloadLength);
+      buf.position(base + HEADER);
+      buf.put(name);
+      buf.put(payload, payloadOff, payloadLength);
+      while (buf.position() < base + size)
+        buf.put((byte)0);
+      count++;
+      return base;
+    }
+
+    public int count() { return count; }
+
+    /** Bytes written so far. */
+    public int size() { return buf.position(); }
+
+    /** Read-only view of the records written so far, in ORDER. */
+    public ByteBuffer finish() {
+      ByteBuffer out = buf.duplicate();
+      out.flip();
+      // slice() and asReadOnlyBuffer() reset the order to big-endian.
+      return out.slice().asReadOnlyBuffer().order(ORDER);
+    }
+  }
+
+  /**
+   * Record offsets of a packed buffer, found by following the length words.
+   * Throws IllegalArgumentException on a length that is not a padded record
+   * size inside the buffer, or on a name and payload that do not fit in
+   * their record's length, so every offset returned is safe for Record,
+   * slice() and Decoded.read.
+   */
+  public static int[] index(ByteBuffer packed) {
+    ByteBuffer b = packed.duplicate().order(ORDER);
+    int[] offsets = new int[16];
+    int n = 0;
+    int limit = b.limit();
+    for (int p = 0; p < limit;) {
+      int size = limit - p < HEADER ? 0 : b.getInt(p + OFF_LENGTH);
+      if (size < HEADER || (size & 7) != 0 || size > limit - p)
+        throw new IllegalArgumentException("bad record length " + size +
+                                           " at " + p);
+      int nameLength = b.getShort(p + OFF_NAME_LENGTH) & 0xFFFF;
+      int payloadLength = b.getInt(p + OFF_PAYLOAD_LENGTH);
+      if (payloadLength < 0 ||
+          (long)HEADER + nameLength + payloadLength > size)
+        throw new IllegalArgumentException(
+            "bad name/payload length " + nameLength + "/" + payloadLength +
+            " in record of " + size + " at " + p);
+      if (n == offsets.length)
+        offsets = Arrays.copyOf(offsets, n * 2);
+      offsets[n++] = p;
+      p += size;
+    }
+    return Arrays.copyOf(offsets, n);
+  }
+
+  /**
+   * Read-only slice holding just the record at offset. It shares storage
+   * with packed (one ByteBuffer object, no copy); read it with
+   * {@code record.wrap(slice, 0)}.
+   */
+  public static ByteBuffer slice(ByteBuffer packed, int offset) {
+    ByteBuffer d = packed.duplicate().order(ORDER);
+    d.position(offset);
+    d.limit(offset + d.getInt(offset + OFF_LENGTH));
+    return d.slice().asReadOnlyBuffer().order(ORDER);
+  }
+
+  /**
+   * The object-per-record alternative: reads the record at in's position
+   * into fresh objects (name String, payload copy) and moves past it.
+   */
+  public static final class Decoded {
+    public final int kind;
+    public final long id;
+    public final double value;
+    public final String name;
+    public final byte[] payload;
+
+    private Decoded(int kind, long id, double value, String name,
+                    byte[] payload) {
+      this.kind = kind;
+      this.id = id;
+      this.value = value;
+      this.name = name;
+      this.payload = payload;
+    }
+
+    /** in must be in ORDER and positioned at a record start. */
+    public static Decoded read(ByteBuffer in) {
+      int base = in.position();
+      int size = in.getInt();
+      int kind = in.getInt();
+      long id = in.getLong();
+      double value = in.getDouble();
+      byte[] name = new byte[in.getShort() & 0xFFFF];
+      in.getShort();
+      byte[] payload = new byte[in.getInt()];
+      in.get(name);
+      in.get(payload);
+      in.position(base + size);
+      return new Decoded(kind, id, value,
+                         new String(name, StandardCharsets.UTF_8), payload);
+    }
+  }
+
+  /**
+   * Flyweight over one record at a time. wrap() only moves it; every
+   * accessor is an absolute get on the shared buffer, so scanning a whole
+   * buffer with one Record allocates nothing. The buffer must be in ORDER.
+   */
+  public static final class Record {
+    private ByteBuffer buf;
+    private int base;
+
+    public Record wrap(ByteBuffer packed, int offset) {
+      buf = packed;
+      base = offset;
+      return this;
+    }
+
+    /** The wrapped buffer, for reading the payload in place. */
+    public ByteBuffer buffer() { return buf; }
+
+    public int length() { return buf.getInt(base + OFF_LENGTH); }
+
+    public int kind() { return buf.getInt(base + OFF_KIND); }
+
+    public long id() { return buf.getLong(base + OFF_ID); }
+
+    public double value() { return buf.getDouble(base + OFF_VALUE); }
+
+    public int nameLength() {
+      return buf.getShort(base + OFF_NAME_LENGTH) & 0xFFFF;
+    }
+
+    public int payloadLength() { return buf.getInt(base + OFF_PAYLOAD_LENGTH); }
+
+    /** Absolute offset of the first payload byte in the wrapped buffer. */
+    public int payloadOffset() { return base + HEADER + nameLength(); }
+
+    public byte payloadByte(int i) { return buf.get(payloadOffset() + i); }
+
+    /** Same as name().hashCode() for ASCII names, without the String. */
+    public int nameHash() {
+      int h = 0;
+      int p = base + HEADER;
+      for (int i = 0, n = nameLength(); i < n; i++)
+        h = 31 * h + (buf.get(p + i) & 0xFF);
+      return h;
+    }
+
+    public boolean nameEquals(byte[] name) {
+      int n = nameLength();
+      if (n != name.length)
+        return false;
+      int p = base + HEADER;
+      for (int i = 0; i < n; i++) {
+        if (buf.get(p + i) != name[i])
+          return false;
+      }
+      return true;
+    }
+
+    /** Decodes the name; allocates, unlike the other accessors. */
+    public String name() {
+      byte[] b = new byte[nameLength()];
+      ByteBuffer d = buf.duplicate();
+      d.position(base + HEADER);
+      d.get(b);
+      return new String(b, StandardCharsets.UTF_8);
+    }
+
+    /** Read-only slice of the payload, sharing storage with the record. */
+    public ByteBuffer payload() {
+      ByteBuffer d = buf.duplicate();
+      int p = payloadOffset();
+      d.limit(p + payloadLength());
+      d.position(p);
+      return d.slice().asReadOnlyBuffer().order(ORDER);
+    }
+  }
+}
@@ -1,6 +1,8 @@
 // RegAllocMoveStressTest.java
 // Exercises register pressure + swap cycles across mixed types.
  
+import java.util.Arrays;
+import java.util.Locale;
 
 public final class RegAllocMoveStressTest {
   private static final TestSupport.Counter CTR = new TestSupport.Counter();
@@ -9,6 +11,21 @@ public final class RegAllocMoveStressTest {
   private static final int DEFAULT_ITERS = 20000;
   private static final int DEFAULT_ROUNDS = 5;
 
+  // --pressureBench: PressureKernels (generated) has a kernel for every
+  // live-value count in MIN_LIVE..MAX_LIVE; these are the default steps.
+  private static final int[] DEFAULT_PRESSURE_LIVE = {
+      4, 6, 8, 10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30, 32};
+  private static final String[] PRESSURE_KINDS = {"object", "long", "double"};
+  private static final int DEFAULT_PRESSURE_CALLS = 100000;
+  private static final int DEFAULT_PRESSURE_INNER = 64;
+  private static final int DEFAULT_PRESSURE_REPS = 5;
+  private static final Object[] PRESSURE_OBJECTS =
+      new Object[PressureKernels.MAX_LIVE];
+  static {
+    for (int i = 0; i < PRESSURE_OBJECTS.length; i++)
+      PRESSURE_OBJECTS[i] = new Object();
+  }
+
   private RegAllocMoveStressTest() {}
 
   public static void main(String[] args) {
@@ -17,15 +34,34 @@ public final class RegAllocMoveStressTest {
     System.out.println("=== RegAllocMoveStressTest starting ===");
     int iters = DEFAULT_ITERS;
     int rounds = DEFAULT_ROUNDS;
+    boolean pressureBench = false;
+    int[] pressureLive = DEFAULT_PRESSURE_LIVE;
+    int pressureCalls = DEFAULT_PRESSURE_CALLS;
+    int pressureInner = DEFAULT_PRESSURE_INNER;
+    int pressureReps = DEFAULT_PRESSURE_REPS;
 
     for (String s : args) {
       if (s.startsWith("--iters=")) {
         iters = parseInt(s.substring(s.indexOf('=') + 1), iters);
       } else if (s.startsWith("--rounds=")) {
         rounds = parseInt(s.substring(s.indexOf('=') + 1), rounds);
+      } else if ("--pressureBench".equals(s)) {
+        pressureBench = true;
+      } else if (s.startsWith("--pressureLive=")) {
+        pressureLive =
+            parseIntList(s.substring(s.indexOf('=') + 1), pressureLive);
+      } else if (s.startsWith("--pressureCalls=")) {
+        pressureCalls =
+            parseInt(s.substring(s.indexOf('=') + 1), pressureCalls);
+      } else if (s.startsWith("--pressureInner=")) {
+        pressureInner =
+            parseInt(s.substring(s.indexOf('=') + 1), pressureInner);
+      } else if (s.startsWith("--pressureReps=")) {
+        pressureReps = parseInt(s.substring(s.indexOf('=') + 1), pressureReps);
       } else if ("--short".equals(s)) {
         iters = 4096;
         rounds = 3;
+        pressureCalls = 20000;
       } else if ("--full".equals(s)) {
         iters = 80000;
         rounds = 8;
@@ -36,6 +72,12 @@ public final class RegAllocMoveStressTest {
       iters = 1;
     if (rounds < 1)
       rounds = 1;
+    if (pressureCalls < 1)
+      pressureCalls = 1;
+    if (pressureInner < 1)
+      pressureInner = 1;
+    if (pressureReps < 1)
+      pressureReps = 1;
 
     JitSupport.requestJitCompilation(RegAllocMoveStressTest.class);
     warmUp(Math.max(1, iters / 4));
@@ -62,6 +104,11 @@ public final class RegAllocMoveStressTest {
       TestSupport.checkEq("regalloc.checksum.r" + r, got, expected, CTR);
     }
 
+    if (pressureBench) {
+      runPressureBench(pressureLive, pressureCalls, pressureInner,
+                       pressureReps);
+    }
+
     TestSupport.summary("RegAllocMoveStressTest", CTR);
     if (CTR.getFail() != 0)
       System.exit(1);
@@ -338,6 +385,154 @@ public final class RegAllocMoveStressTest {
     return sum;
   }
 
+  /**
+   * Times calls into kernels that keep {@code live} values of one kind
+   * (Object, long or double) live across a loop of {@code inner}
+   * iterations, per requested count, and reports ns/call plus ns per live
+   * value per iteration. Once the values no longer fit the register file the
+   * per-value cost jumps; the first count at 1.5x the best per-value cost so
+   * far is reported as the spill knee for that kind. Counts outside
+   * PressureKernels.MIN_LIVE..MAX_LIVE are skipped.
+   */
+  private static void runPressureBench(int[] lives, int calls, int inner,
+                                       int reps) {
+    System.out.printf(Locale.ROOT,
+                      "pressureBench: arch=%s calls=%d inner=%d reps=%d%n",
+                      System.getProperty("os.arch"), calls, inner, reps);
+    int[] counts = new int[lives.length];
+    int n = 0;
+    for (int want : lives) {
+      if (want < PressureKernels.MIN_LIVE || want > PressureKernels.MAX_LIVE) {
+        System.out.printf(Locale.ROOT,
+                          "pressure live=%d skipped (kernels cover %d..%d)%n",
+                          want, PressureKernels.MIN_LIVE,
+                          PressureKernels.MAX_LIVE);
+      } else {
+        counts[n++] = want;
+      }
+    }
+    counts = Arrays.copyOf(counts, n);
+    for (int kind = 0; kind < PRESSURE_KINDS.length; kind++) {
+      String name = PRESSURE_KINDS[kind];
+      double bestPerValue = Double.MAX_VALUE;
+      int knee = -1;
+      int lastLive = -1;
+      // Warm every count first so the first timed one isn't still being
+      // compiled.
+      for (int live : counts)
+        BLACKHOLE ^= pressureLoop(kind, live, calls, inner);
+      for (int live : counts) {
+        if (live == lastLive)
+          continue;
+        lastLive = live;
+        TestSupport.checkEq("pressure." + name + ".n" + live,
+                            pressureCall(kind, live, inner, 12345),
+                            pressureReference(kind, live, inner, 12345), CTR);
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < reps + 1; r++) {
+          long t0 = System.nanoTime();
+          BLACKHOLE ^= pressureLoop(kind, live, calls, inner);
+          long dt = System.nanoTime() - t0;
+          if (r == 0)
+            continue; // warm-up rep
+          best = Math.min(best, dt);
+        }
+        double perCall = best / (double)calls;
+        double perValue = perCall / inner / live;
+        if (knee < 0 && perValue > bestPerValue * 1.5)
+          knee = live;
+        bestPerValue = Math.min(bestPerValue, perValue);
+        System.out.printf(Locale.ROOT,
+                          "pressure %-6s live=%2d %8.2f ns/call %.3f ns/iter " +
+                              "%.4f ns/value%n",
+                          name, live, perCall, perCall / inner, perValue);
+      }
+      if (knee < 0) {
+        System.out.printf(Locale.ROOT,
+                          "pressure %-6s no spill knee up to live=%d%n", name,
+                          lastLive);
+      } else {
+        System.out.printf(Locale.ROOT, "pressure %-6s spill knee ~live=%d%n",
+                          name, knee);
+      }
+    }
+  }
+
+  private static long pressureLoop(int kind, int live, int calls, int inner) {
+    long acc = 0;
+    for (int c = 0; c < calls; c++)
+      acc ^= pressureCall(kind, live, inner, c);
+    return acc;
+  }
+
+  private static long pressureCall(int kind, int live, int iters, int seed) {
+    if (kind == 0)
+      return PressureKernels.objects(live, PRESSURE_OBJECTS,
+                                     PRESSURE_OBJECTS[seed % live], iters);
+    if (kind == 1)
+      return PressureKernels.longs(live, seed, iters);
+    return Double.doubleToLongBits(PressureKernels.doubles(live, seed, iters));
+  }
+
+  // Array-based model of the PressureKernels kernels, used to check their results.
+  private static long pressureReference(int kind, int live, int iters,
+                                        int seed) {
+    if (kind == 0) {
+      Object[] o = Arrays.copyOf(PRESSURE_OBJECTS, live);
+      Object pivot = o[seed % live];
+      long acc = 0;
+      for (int i = 0; i < iters; i++) {
+        Object t = o[0];
+        System.arraycopy(o, 1, o, 0, live - 1);
+        o[live - 1] = t;
+        acc += o[0] == pivot ? i : 1;
+      }
+      for (int k = 1; k < live; k++) {
+        if (o[k] == pivot)
+          acc += k;
+      }
+      return acc;
+    }
+    if (kind == 1) {
+      long[] v = new long[live];
+      for (int k = 0; k < live; k++)
+        v[k] = (long)seed + k;
+      for (int i = 0; i < iters; i++) {
+        v[0] += v[1] ^ i;
+        for (int k = 1; k < live - 1; k++)
+          v[k] += v[k + 1];
+        v[live - 1] += v[0];
+      }
+      long sum = v[0];
+      for (int k = 1; k < live; k++)
+        sum ^= v[k];
+      return sum;
+    }
+    double[] v = new double[live];
+    for (int k = 0; k < live; k++)
+      v[k] = (double)seed + k;
+    for (int i = 0; i < iters; i++) {
+      for (int k = 0; k < live - 1; k++)
+        v[k] = v[k] * 0.5 + v[k + 1] * 0.25;
+      v[live - 1] = v[live - 1] * 0.5 + v[0] * 0.25 + 1.0;
+    }
+    double sum = v[0];
+    for (int k = 1; k < live; k++)
+      sum += v[k];
+    return Double.doubleToLongBits(sum);
+  }
+
+  private static int[] parseIntList(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      out[i] = parseInt(parts[i], Integer.MIN_VALUE);
+      if (out[i] < 1)
+        return fallback;
+    }
+    return out;
+  }
+
   private static int parseInt(String raw, int fallback) {
     try {
       return Integer.parseInt(raw.trim());
@@ -8,6 +8,8 @@ public final class SimdSpillSlotTest {
   private static final int DEFAULT_LEN = 8192;
   private static final int DEFAULT_ROUNDS = 6;
   private static final int DEFAULT_WARM_ROUNDS = 8;
+  private static final int DEFAULT_WARMUP_BATCHES = 200;
+  private static final long WARMUP_BUDGET_MS = 5000;
 
   private SimdSpillSlotTest() {}
 
@@ -19,6 +21,8 @@ public final class SimdSpillSlotTest {
     int len = DEFAULT_LEN;
     int rounds = DEFAULT_ROUNDS;
     int warmRounds = DEFAULT_WARM_ROUNDS;
+    boolean warmupCurve = false;
+    int warmupBatches = DEFAULT_WARMUP_BATCHES;
     for (String s : args) {
       if ("--short".equals(s)) {
         len = 2048;
@@ -34,6 +38,11 @@ public final class SimdSpillSlotTest {
         rounds = parseInt(s.substring(s.indexOf('=') + 1), rounds);
       } else if (s.startsWith("--warm=")) {
         warmRounds = parseInt(s.substring(s.indexOf('=') + 1), warmRounds);
+      } else if ("--warmupCurve".equals(s)) {
+        warmupCurve = true;
+      } else if (s.startsWith("--warmupBatches=")) {
+        warmupBatches =
+            parseInt(s.substring(s.indexOf('=') + 1), warmupBatches);
       }
     }
 
@@ -111,6 +120,36 @@ public final class SimdSpillSlotTest {
     long expReduceInt = kernelReduceIntRef(idxMap, ia6, ia7, len);
 
     JitSupport.requestJitCompilation(SimdSpillSlotTest.class);
+    if (warmupCurve) {
+      // One batch iteration == one warm round over len elements.
+      final int n = len;
+      JitSupport.WarmupCurve[] curves = {
+          JitSupport.recordWarmup(
+              "intPressure",
+              k -> repeatIntPressure(k, ia0, ia1, ia2, ia3, ia4, ia5, ia6,
+                                     ia7, ia8, ia9, ia10, ia11, intOut0,
+                                     intOut1, n),
+              1, warmupBatches, WARMUP_BUDGET_MS),
+          JitSupport.recordWarmup(
+              "longBitwise",
+              k -> repeatLongBitwise(k, la0, la1, la2, la3, la4, la5, longOut,
+                                     n),
+              1, warmupBatches, WARMUP_BUDGET_MS),
+          JitSupport.recordWarmup(
+              "floatBlend",
+              k -> repeatFloatBlend(k, fa0, fa1, fa2, fa3, fa4, fa5, floatOut,
+                                    n),
+              1, warmupBatches, WARMUP_BUDGET_MS),
+          JitSupport.recordWarmup("reduceInt",
+                                  k -> repeatReduceInt(k, ia6, ia7, n), 1,
+                                  warmupBatches, WARMUP_BUDGET_MS)};
+      for (JitSupport.WarmupCurve c : curves) {
+        c.print();
+        System.out.println("warmup " + c.name + ": warm=" + warmRounds +
+                           " rounds, measured " + c.itersToPeak() +
+                           " rounds to peak");
+      }
+    }
     for (int r = 0; r < warmRounds; r++) {
       kernelIntPressure(ia0, ia1, ia2, ia3, ia4, ia5, ia6, ia7, ia8, ia9, ia10, ia11,
                         intOut0, intOut1, len);
@@ -154,6 +193,45 @@ public final class SimdSpillSlotTest {
       System.exit(1);
   }
 
+  private static long repeatIntPressure(int times, int[] ia0, int[] ia1,
+                                       int[] ia2, int[] ia3, int[] ia4,
+                                       int[] ia5, int[] ia6, int[] ia7,
+                                       int[] ia8, int[] ia9, int[] ia10,
+                                       int[] ia11, int[] out0, int[] out1,
+                                       int len) {
+    long h = 0;
+    for (int t = 0; t < times; t++) {
+      h += kernelIntPressure(ia0, ia1, ia2, ia3, ia4, ia5, ia6, ia7, ia8, ia9,
+                             ia10, ia11, out0, out1, len);
+    }
+    return h;
+  }
+
+  private static long repeatLongBitwise(int times, long[] la0, long[] la1,
+                                        long[] la2, long[] la3, long[] la4,
+                                        long[] la5, long[] out, int len) {
+    long h = 0;
+    for (int t = 0; t < times; t++)
+      h += kernelLongBitwise(la0, la1, la2, la3, la4, la5, out, len);
+    return h;
+  }
+
+  private static long repeatFloatBlend(int times, float[] fa0, float[] fa1,
+                                       float[] fa2, float[] fa3, float[] fa4,
+                                       float[] fa5, float[] out, int len) {
+    long h = 0;
+    for (int t = 0; t < times; t++)
+      h += kernelFloatBlend(fa0, fa1, fa2, fa3, fa4, fa5, out, len);
+    return h;
+  }
+
+  private static long repeatReduceInt(int times, int[] a, int[] b, int len) {
+    long h = 0;
+    for (int t = 0; t < times; t++)
+      h += kernelReduceInt(a, b, len);
+    return h;
+  }
+
   private static void fillInputs(
       int len,
       int[] ia0, int[] ia1, int[] ia2, int[] ia3, int[] ia4, int[] ia5,
@@ -1,6 +1,7 @@
 // StackMapConstTest.java
 // Exercises stack map constant vregs (all primitive types + null) with inlining.
  
+import java.util.Locale;
 
 public final class StackMapConstTest {
   private static final TestSupport.Counter CTR = new TestSupport.Counter();
@@ -9,6 +10,11 @@ public final class StackMapConstTest {
   private static final int DEFAULT_ITERS = 20000;
   private static final int DEFAULT_ROUNDS = 3;
   private static final int DEFAULT_THROW_STRIDE = 257;
+  private static final int[] DEFAULT_BENCH_STRIDES = {2, 16, 128, 1024, 8192};
+  private static final int[] DEFAULT_BENCH_DEPTHS = {0, 1, 2, 4, 8};
+  private static final int MAX_BENCH_DEPTH = 8;
+  private static final int DEFAULT_BENCH_ITERS = 200000;
+  private static final int DEFAULT_BENCH_REPS = 3;
 
   private static final boolean CONST_BOOL = true;
   private static final byte CONST_BYTE = (byte)0x5A;
@@ -37,6 +43,11 @@ public final class StackMapConstTest {
     int iters = DEFAULT_ITERS;
     int rounds = DEFAULT_ROUNDS;
     int throwStride = DEFAULT_THROW_STRIDE;
+    boolean throwBench = false;
+    int[] benchStrides = DEFAULT_BENCH_STRIDES;
+    int[] benchDepths = DEFAULT_BENCH_DEPTHS;
+    int benchIters = DEFAULT_BENCH_ITERS;
+    int benchReps = DEFAULT_BENCH_REPS;
 
     for (String s : args) {
       if (s.startsWith("--iters=")) {
@@ -45,10 +56,23 @@ public final class StackMapConstTest {
         rounds = parseInt(s.substring(s.indexOf('=') + 1), rounds);
       } else if (s.startsWith("--throwStride=")) {
         throwStride = parseInt(s.substring(s.indexOf('=') + 1), throwStride);
+      } else if ("--throwBench".equals(s)) {
+        throwBench = true;
+      } else if (s.startsWith("--benchStrides=")) {
+        benchStrides =
+            parseIntList(s.substring(s.indexOf('=') + 1), benchStrides, 1);
+      } else if (s.startsWith("--benchDepths=")) {
+        benchDepths =
+            parseIntList(s.substring(s.indexOf('=') + 1), benchDepths, 0);
+      } else if (s.startsWith("--benchIters=")) {
+        benchIters = parseInt(s.substring(s.indexOf('=') + 1), benchIters);
+      } else if (s.startsWith("--benchReps=")) {
+        benchReps = parseInt(s.substring(s.indexOf('=') + 1), benchReps);
       } else if ("--short".equals(s)) {
         iters = 4000;
         rounds = 2;
         throwStride = 127;
+        benchIters = 20000;
       } else if ("--full".equals(s)) {
         iters = 60000;
         rounds = 6;
@@ -75,6 +99,11 @@ public final class StackMapConstTest {
       TestSupport.checkEq("stackmap.ldCatch.r" + r, gotLd, expectedLd, CTR);
     }
 
+    if (throwBench) {
+      runThrowBench(benchDepths, benchStrides, Math.max(1, benchIters),
+                    Math.max(1, benchReps));
+    }
+
     TestSupport.summary("StackMapConstTest", CTR);
     if (CTR.getFail() != 0)
       System.exit(1);
@@ -672,6 +701,221 @@ public final class StackMapConstTest {
     return v;
   }
 
+  /**
+   * --throwBench: for each inlining depth, times a loop whose call chain of
+   * {@code depth} small frames (chain1..chain8, each holding constant and
+   * derived locals live across the call) throws from the leaf every
+   * {@code stride} iterations, against the same loop with no throws. The
+   * difference per throw covers allocation, stack walk through the inlined
+   * frames (stack map / inline info decoding) and any deopt it triggers.
+   */
+  private static void runThrowBench(int[] depths, int[] strides, int iters,
+                                    int reps) {
+    System.out.printf(Locale.ROOT, "throwBench: iters=%d reps=%d%n", iters,
+                      reps);
+    int minStride = Integer.MAX_VALUE;
+    for (int stride : strides)
+      minStride = Math.min(minStride, stride);
+    double[] slopeX = new double[depths.length];
+    double[] slopeY = new double[depths.length];
+    for (int di = 0; di < depths.length; di++) {
+      int depth = Math.min(depths[di], MAX_BENCH_DEPTH);
+      // Check (and so warm) every stride before timing the baseline, so the
+      // no-throw number is not paying for the first compilation.
+      for (int stride : strides) {
+        TestSupport.checkEq("throwBench.d" + depth + ".s" + stride,
+                            throwBenchLoop(depth, iters, stride),
+                            throwBenchReference(depth, iters, stride), CTR);
+      }
+      double base = timeThrowLoop(depth, iters, 0, reps);
+      System.out.printf(Locale.ROOT,
+                        "throwBench depth=%d no-throw %.2fns/iter%n", depth,
+                        base);
+      for (int stride : strides) {
+        double t = timeThrowLoop(depth, iters, stride, reps);
+        int throwsDone = iters / stride;
+        double perThrow =
+            throwsDone == 0 ? 0.0 : (t - base) * iters / throwsDone;
+        System.out.printf(Locale.ROOT,
+                          "throwBench depth=%d stride=%5d %8.2fns/iter " +
+                              "throws=%d ~%.1fns/throw%n",
+                          depth, stride, t, throwsDone, perThrow);
+        if (stride == minStride) {
+          slopeX[di] = depth;
+          slopeY[di] = perThrow;
+        }
+      }
+    }
+    if (depths.length > 1) {
+      System.out.printf(Locale.ROOT,
+                        "throwBench slope: ~%.1fns/throw per inlined frame " +
+                            "(stride=%d)%n",
+                        linearSlope(slopeX, slopeY), minStride);
+    }
+  }
+
+  private static double timeThrowLoop(int depth, int iters, int stride,
+                                      int reps) {
+    long best = Long.MAX_VALUE;
+    for (int r = 0; r < reps + 1; r++) {
+      long t0 = System.nanoTime();
+      BLACKHOLE ^= throwBenchLoop(depth, iters, stride);
+      long dt = System.nanoTime() - t0;
+      if (r == 0)
+        continue; // warm-up rep
+      best = Math.min(best, dt);
+    }
+    return best / (double)iters;
+  }
+
+  private static double linearSlope(double[] x, double[] y) {
+    double mx = 0;
+    double my = 0;
+    for (int i = 0; i < x.length; i++) {
+      mx += x[i];
+      my += y[i];
+    }
+    mx /= x.length;
+    my /= y.length;
+    double num = 0;
+    double den = 0;
+    for (int i = 0; i < x.length; i++) {
+      num += (x[i] - mx) * (y[i] - my);
+      den += (x[i] - mx) * (x[i] - mx);
+    }
+    return den == 0 ? 0.0 : num / den;
+  }
+
+  // stride == 0: never throws (fast-path baseline).
+  private static long throwBenchLoop(int depth, int iters, int stride) {
+    long sum = 0;
+    for (int i = 1; i <= iters; i++) {
+      try {
+        sum ^= chainEntry(depth, i, stride, sum);
+      } catch (TestException e) {
+        sum ^= e.tag;
+      }
+    }
+    return sum;
+  }
+
+  // Exception-free model of throwBenchLoop.
+  private static long throwBenchReference(int depth, int iters, int stride) {
+    long[] tags = new long[depth + 1];
+    long sum = 0;
+    for (int i = 1; i <= iters; i++) {
+      long t = sum;
+      for (int k = depth; k >= 1; k--) {
+        t = t * 31 + k;
+        tags[k] = t;
+      }
+      if (stride != 0 && i % stride == 0) {
+        sum ^= t ^ i;
+        continue;
+      }
+      long r = t + i;
+      long dc = Double.doubleToLongBits(CONST_DOUBLE + (i & 7)) ^
+                (long)(CONST_INT ^ i);
+      for (int k = 1; k <= depth; k++)
+        r ^= tags[k] ^ dc;
+      sum ^= r;
+    }
+    return sum;
+  }
+
+  private static long chainEntry(int depth, int iter, int stride, long tag) {
+    switch (depth) {
+    case 0:
+      return throwLeaf(iter, stride, tag);
+    case 1:
+      return chain1(iter, stride, tag);
+    case 2:
+      return chain2(iter, stride, tag);
+    case 3:
+      return chain3(iter, stride, tag);
+    case 4:
+      return chain4(iter, stride, tag);
+    case 5:
+      return chain5(iter, stride, tag);
+    case 6:
+      return chain6(iter, stride, tag);
+    case 7:
+      return chain7(iter, stride, tag);
+    default:
+      return chain8(iter, stride, tag);
+    }
+  }
+
+  private static long chain1(int iter, int stride, long tag) {
+    long l = tag * 31 + 1;
+    double d = CONST_DOUBLE + (iter & 7);
+    int c = CONST_INT ^ iter;
+    long r = throwLeaf(iter, stride, l);
+    return r ^ l ^ Double.doubleToLongBits(d) ^ c;
+  }
+
+  private static long chain2(int iter, int stride, long tag) {
+    long l = tag * 31 + 2;
+    double d = CONST_DOUBLE + (iter & 7);
+    int c = CONST_INT ^ iter;
+    long r = chain1(iter, stride, l);
+    return r ^ l ^ Double.doubleToLongBits(d) ^ c;
+  }
+
+  private static long chain3(int iter, int stride, long tag) {
+    long l = tag * 31 + 3;
+    double d = CONST_DOUBLE + (iter & 7);
+    int c = CONST_INT ^ iter;
+    long r = chain2(iter, stride, l);
+    return r ^ l ^ Double.doubleToLongBits(d) ^ c;
+  }
+
+  private static long chain4(int iter, int stride, long tag) {
+    long l = tag * 31 + 4;
+    double d = CONST_DOUBLE + (iter & 7);
+    int c = CONST_INT ^ iter;
+    long r = chain3(iter, stride, l);
+    return r ^ l ^ Double.doubleToLongBits(d) ^ c;
+  }
+
+  private static long chain5(int iter, int stride, long tag) {
+    long l = tag * 31 + 5;
+    double d = CONST_DOUBLE + (iter & 7);
+    int c = CONST_INT ^ iter;
+    long r = chain4(iter, stride, l);
+    return r ^ l ^ Double.doubleToLongBits(d) ^ c;
+  }
+
+  private static long chain6(int iter, int stride, long tag) {
+    long l = tag * 31 + 6;
+    double d = CONST_DOUBLE + (iter & 7);
+    int c = CONST_INT ^ iter;
+    long r = chain5(iter, stride, l);
+    return r ^ l ^ Double.doubleToLongBits(d) ^ c;
+  }
+
+  private static long chain7(int iter, int stride, long tag) {
+    long l = tag * 31 + 7;
+    double d = CONST_DOUBLE + (iter & 7);
+    int c = CONST_INT ^ iter;
+    long r = chain6(iter, stride, l);
+    return r ^ l ^ Double.doubleToLongBits(d) ^ c;
+  }
+
+  private static long chain8(int iter, int stride, long tag) {
+    long l = tag * 31 + 8;
+    double d = CONST_DOUBLE + (iter & 7);
+    int c = CONST_INT ^ iter;
+    long r = chain7(iter, stride, l);
+    return r ^ l ^ Double.doubleToLongBits(d) ^ c;
+  }
+
+  private static long throwLeaf(int iter, int stride, long tag) {
+    if (stride != 0 && iter % stride == 0)
+      throw new TestException(tag ^ iter);
+    return tag + iter;
+  }
+
   private static long maskValue(long v) { return v & VALUE_MASK; }
   private static long markThrown(long v) { return maskValue(v) | THROW_FLAG; }
   private static boolean isThrown(long v) { return (v & THROW_FLAG) != 0; }
@@ -703,6 +947,17 @@ public final class StackMapConstTest {
     return sum;
   }
 
+  private static int[] parseIntList(String raw, int[] fallback, int min) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      out[i] = parseInt(parts[i], min - 1);
+      if (out[i] < min)
+        return fallback;
+    }
+    return out;
+  }
+
   private static int parseInt(String raw, int fallback) {
     try {
       return Integer.parseInt(raw.trim());
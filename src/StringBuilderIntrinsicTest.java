@@ -1,12 +1,68 @@
  
 
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.util.Locale;
 
 public final class StringBuilderIntrinsicTest {
 
   private StringBuilderIntrinsicTest() {}
 
+  private static final int[] DEFAULT_SB_LENGTHS = {16,      256,     4096,
+                                                   65536,   1 << 20, 1 << 24};
+  private static final int DEFAULT_SB_BUDGET = 1 << 25;
+  private static final int DEFAULT_SB_REPS = 3;
+  private static final int DEFAULT_SB_QUAD_MAX = 65536;
+  // 没有 ThreadMXBean 时用堆增量估分配量，每格最多拼这么多字符，
+  // 以免测量途中触发 GC
+  private static final int HEAP_DELTA_CHARS = 1 << 22;
+
+  private static final int STRATEGY_DEFAULT = 0;
+  private static final int STRATEGY_PRESIZED = 1;
+  private static final int STRATEGY_REUSED = 2;
+  private static final int STRATEGY_CONCAT = 3;
+  private static final int STRATEGY_PLUS = 4;
+  private static final String[] STRATEGY_NAMES = {"default", "presized",
+                                                  "reused", "concat", "plus"};
+
+  // 类日志片段：长度 5..9，按顺序循环追加，所有策略拼出同一个字符串
+  private static final int PIECE_MASK = 63;
+  private static final String[] PIECES = new String[PIECE_MASK + 1];
+  static {
+    for (int i = 0; i <= PIECE_MASK; i++)
+      PIECES[i] = "k" + i + "=" + (i * 7919 % 1000) + ";";
+  }
+
+  private static final StringBuilder REUSED = new StringBuilder();
+  private static volatile long BLACKHOLE;
+
+  private static Object threadBean;
+  private static Method allocatedBytesMethod;
+  private static boolean allocLookupDone;
+
   public static void main(String[] args) {
+    boolean sbBench = false;
+    int[] sbLengths = DEFAULT_SB_LENGTHS;
+    int sbBudget = DEFAULT_SB_BUDGET;
+    int sbReps = DEFAULT_SB_REPS;
+    int sbQuadMax = DEFAULT_SB_QUAD_MAX;
+    for (String s : args) {
+      if ("--sbBench".equals(s)) {
+        sbBench = true;
+      } else if (s.startsWith("--sbLengths=")) {
+        sbLengths = parseIntList(s.substring(s.indexOf('=') + 1), sbLengths);
+      } else if (s.startsWith("--sbBudget=")) {
+        sbBudget = parseInt(s.substring(s.indexOf('=') + 1), sbBudget);
+      } else if (s.startsWith("--sbReps=")) {
+        sbReps = parseInt(s.substring(s.indexOf('=') + 1), sbReps);
+      } else if (s.startsWith("--sbQuadMax=")) {
+        sbQuadMax = parseInt(s.substring(s.indexOf('=') + 1), sbQuadMax);
+      } else if ("--short".equals(s)) {
+        sbBudget = 1 << 22;
+        sbReps = 2;
+        sbQuadMax = 4096;
+      }
+    }
 
     // Direct ByteBuffer（native 分配）
     ByteBuffer bb = ByteBuffer.allocateDirect(1024);
@@ -26,6 +82,9 @@ public final class StringBuilderIntrinsicTest {
       testLargeStringConcats();
       testBuilderReuseAndSlices();
       // testStringFloodUntilOom();
+      if (sbBench)
+        runGrowthBench(sbLengths, Math.max(1, sbBudget), Math.max(1, sbReps),
+                       sbQuadMax);
 
       System.out.println("SUCCESS: All StringBuilder tests passed!");
     } catch (Throwable t) {
@@ -259,4 +318,254 @@ public final class StringBuilderIntrinsicTest {
       System.gc();
     }
   }
+
+  // 10. --sbBench：比较五种拼接方式拼出同一目标长度字符串的成本。
+  //     default = new StringBuilder()，presized = 按最终长度预分配，
+  //     reused = 共享 builder + setLength(0)，concat = String.concat 循环，
+  //     plus = s = s + piece（javac 展开为 StringBuilder 链）。
+  //     concat/plus 是 O(n^2)，超过 --sbQuadMax 的长度跳过。
+  //     每个长度的操作次数 = budget / 长度，取 reps 次中的最好成绩（第 0 次预热）。
+  private static void runGrowthBench(int[] lengths, int budget, int reps,
+                                     int quadMax) {
+    System.out.println("Test 10: StringBuilder growth bench");
+    System.out.printf(Locale.ROOT, "sbBench: budget=%d chars/rep reps=%d " +
+                      "quadMax=%d alloc=%s%n", budget, reps, quadMax,
+                      threadAllocated() >= 0 ? "ThreadMXBean"
+                                             : "heap delta (approx)");
+    for (int target : lengths) {
+      int finalLen = finalLength(target);
+      int ops = Math.max(1, budget / finalLen);
+      String expected;
+      try {
+        expected = build(STRATEGY_DEFAULT, target, finalLen);
+      } catch (OutOfMemoryError oom) {
+        System.out.printf(Locale.ROOT, "sbBench len=%d OOM%n", target);
+        continue;
+      }
+      int best = -1;
+      double bestNs = Double.MAX_VALUE;
+      for (int strategy = 0; strategy < STRATEGY_NAMES.length; strategy++) {
+        String name = STRATEGY_NAMES[strategy];
+        boolean quadratic =
+            strategy == STRATEGY_CONCAT || strategy == STRATEGY_PLUS;
+        if (quadratic && target > quadMax) {
+          System.out.printf(Locale.ROOT,
+                            "sbBench len=%d %-8s skipped (quadratic)%n",
+                            finalLen, name);
+          continue;
+        }
+        try {
+          String got = build(strategy, target, finalLen);
+          if (got.length() != finalLen || got.hashCode() != expected.hashCode())
+            throw new AssertionError("sbBench " + name + " len=" + target +
+                                     " content mismatch");
+          // 二次方策略的单次成本约随 len^2 增长，操作次数相应缩小
+          int n = ops;
+          if (quadratic) {
+            long perOp = (long)finalLen * Math.max(1, finalLen / 16);
+            n = (int)Math.max(1, budget / perOp);
+          }
+          double ns = timeBuild(strategy, target, finalLen, n, reps);
+          double bytes = allocatedPerOp(strategy, target, finalLen, n);
+          System.out.printf(Locale.ROOT,
+                            "sbBench len=%d %-8s %8.3fns/char %7.2fB/char " +
+                                "ops=%d%n",
+                            finalLen, name, ns, bytes / finalLen, n);
+          if (ns < bestNs) {
+            bestNs = ns;
+            best = strategy;
+          }
+        } catch (OutOfMemoryError oom) {
+          System.out.printf(Locale.ROOT, "sbBench len=%d %-8s OOM%n", finalLen,
+                            name);
+        }
+      }
+      if (best >= 0)
+        System.out.printf(Locale.ROOT, "sbBench len=%d best=%s%n", finalLen,
+                          STRATEGY_NAMES[best]);
+    }
+    REUSED.setLength(0);
+    REUSED.trimToSize();
+  }
+
+  private static double timeBuild(int strategy, int target, int finalLen,
+                                  int ops, int reps) {
+    long best = Long.MAX_VALUE;
+    for (int r = 0; r < reps + 1; r++) {
+      long sink = 0;
+      long t0 = System.nanoTime();
+      for (int i = 0; i < ops; i++) {
+        String s = build(strategy, target, finalLen);
+        sink += s.length() ^ s.charAt(s.length() - 1);
+      }
+      long dt = System.nanoTime() - t0;
+      BLACKHOLE ^= sink;
+      if (r == 0)
+        continue; // 预热轮
+      best = Math.min(best, dt);
+    }
+    return best / ((double)ops * finalLen);
+  }
+
+  // 每个 case 都是独立调用点，互不污染 profile
+  private static String build(int strategy, int target, int finalLen) {
+    switch (strategy) {
+    case STRATEGY_DEFAULT:
+      return buildDefault(target);
+    case STRATEGY_PRESIZED:
+      return buildPresized(target, finalLen);
+    case STRATEGY_REUSED:
+      return buildReused(target);
+    case STRATEGY_CONCAT:
+      return buildConcat(target);
+    default:
+      return buildPlus(target);
+    }
+  }
+
+  private static String buildDefault(int target) {
+    StringBuilder sb = new StringBuilder();
+    int p = 0;
+    while (sb.length() < target) {
+      sb.append(PIECES[p]);
+      p = (p + 1) & PIECE_MASK;
+    }
+    return sb.toString();
+  }
+
+  private static String buildPresized(int target, int finalLen) {
+    StringBuilder sb = new StringBuilder(finalLen);
+    int p = 0;
+    while (sb.length() < target) {
+      sb.append(PIECES[p]);
+      p = (p + 1) & PIECE_MASK;
+    }
+    return sb.toString();
+  }
+
+  private static String buildReused(int target) {
+    StringBuilder sb = REUSED;
+    sb.setLength(0);
+    int p = 0;
+    while (sb.length() < target) {
+      sb.append(PIECES[p]);
+      p = (p + 1) & PIECE_MASK;
+    }
+    return sb.toString();
+  }
+
+  private static String buildConcat(int target) {
+    String s = "";
+    int p = 0;
+    while (s.length() < target) {
+      s = s.concat(PIECES[p]);
+      p = (p + 1) & PIECE_MASK;
+    }
+    return s;
+  }
+
+  private static String buildPlus(int target) {
+    String s = "";
+    int p = 0;
+    while (s.length() < target) {
+      s = s + PIECES[p];
+      p = (p + 1) & PIECE_MASK;
+    }
+    return s;
+  }
+
+  private static int finalLength(int target) {
+    int len = 0;
+    int p = 0;
+    while (len < target) {
+      len += PIECES[p].length();
+      p = (p + 1) & PIECE_MASK;
+    }
+    return len;
+  }
+
+  // 拼一次实际分配的字节（含对象头和 toString 的结果），在 timeBuild 之后
+  // 测，所以是编译后代码的分配量。有 com.sun.management.ThreadMXBean 时按
+  // 线程计数；否则（ART）取 GC 后已用堆的增量，拼的次数按 HEAP_DELTA_CHARS
+  // 截断。reused 此时 builder 已够大，量到的是稳态。
+  private static double allocatedPerOp(int strategy, int target, int finalLen,
+                                       int ops) {
+    long sink = 0;
+    long before = threadAllocated();
+    if (before >= 0) {
+      for (int i = 0; i < ops; i++)
+        sink += build(strategy, target, finalLen).length();
+      long bytes = threadAllocated() - before;
+      BLACKHOLE ^= sink;
+      return bytes / (double)ops;
+    }
+    int n = Math.max(1, Math.min(ops, HEAP_DELTA_CHARS / finalLen));
+    Runtime rt = Runtime.getRuntime();
+    long base = usedAfterGc();
+    for (int i = 0; i < n; i++)
+      sink += build(strategy, target, finalLen).length();
+    long bytes = Math.max(0, rt.totalMemory() - rt.freeMemory() - base);
+    BLACKHOLE ^= sink;
+    return bytes / (double)n;
+  }
+
+  // 本线程至今分配的字节数；没有 ThreadMXBean 时返回 -1。
+  private static long threadAllocated() {
+    if (!allocLookupDone) {
+      allocLookupDone = true;
+      try {
+        Object bean = Class.forName("java.lang.management.ManagementFactory")
+                          .getMethod("getThreadMXBean")
+                          .invoke(null);
+        Class<?> ext = Class.forName("com.sun.management.ThreadMXBean");
+        if (ext.isInstance(bean)) {
+          allocatedBytesMethod =
+              ext.getMethod("getThreadAllocatedBytes", long.class);
+          threadBean = bean;
+        }
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        threadBean = null;
+      }
+    }
+    if (threadBean == null)
+      return -1;
+    try {
+      return (Long)allocatedBytesMethod.invoke(threadBean,
+                                               Thread.currentThread().getId());
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return -1;
+    }
+  }
+
+  private static long usedAfterGc() {
+    Runtime rt = Runtime.getRuntime();
+    for (int i = 0; i < 2; i++) {
+      System.gc();
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return rt.totalMemory() - rt.freeMemory();
+  }
+
+  private static int[] parseIntList(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      out[i] = parseInt(parts[i], 0);
+      if (out[i] <= 0)
+        return fallback;
+    }
+    return out;
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
 }
@@ -2,13 +2,38 @@
 // Cover String.equals paths: self, null, non-String, length mismatch,
 // early/late char mismatch, empty, and different backing instances.
 
- 
+import java.util.Locale;
 
 public final class StringEqualsTest {
   private static final TestSupport.Counter CTR = new TestSupport.Counter();
 
   private static final int DEFAULT_REPEAT = 1;
   private static final int DEFAULT_SLEEP_MS = 0;
+  private static final int[] DEFAULT_BENCH_LENGTHS = {
+      0, 1, 8, 16, 32, 64, 256, 1024, 4096, 16384, 65536};
+  private static final int DEFAULT_BENCH_BUDGET = 1 << 22;
+  private static final int DEFAULT_BENCH_REPS = 3;
+  private static final int MIN_BENCH_OPS = 2000;
+  private static final int MAX_BENCH_OPS = 1 << 19;
+  // Copies per operand; the loop rotates through them so the compare cannot
+  // be hoisted out of the timing loop.
+  private static final int COPIES = 8;
+
+  private static final int OP_EQUALS = 0;
+  private static final int OP_EQUALS_IGNORE_CASE = 1;
+  private static final int OP_COMPARE_TO = 2;
+  private static final int OP_REGION_MATCHES = 3;
+  private static final String[] OP_NAMES = {"equals", "equalsIgnoreCase",
+                                            "compareTo", "regionMatches"};
+
+  private static final int MISMATCH_NONE = 0;
+  private static final int MISMATCH_FIRST = 1;
+  private static final int MISMATCH_MID = 2;
+  private static final int MISMATCH_LAST = 3;
+  private static final String[] MISMATCH_NAMES = {"none", "first", "mid",
+                                                  "last"};
+
+  private static volatile long BLACKHOLE;
 
   private StringEqualsTest() {}
 
@@ -87,14 +112,29 @@ public final class StringEqualsTest {
   public static void main(String[] args) {
     int repeat = DEFAULT_REPEAT;
     int sleepMs = DEFAULT_SLEEP_MS;
+    boolean bench = false;
+    int[] benchLengths = DEFAULT_BENCH_LENGTHS;
+    int benchBudget = DEFAULT_BENCH_BUDGET;
+    int benchReps = DEFAULT_BENCH_REPS;
     for (String s : args) {
       if (s.startsWith("--repeat=")) {
         repeat = Integer.parseInt(s.substring(s.indexOf('=') + 1));
       } else if (s.startsWith("--sleepMs=")) {
         sleepMs = Integer.parseInt(s.substring(s.indexOf('=') + 1));
+      } else if ("--bench".equals(s)) {
+        bench = true;
+      } else if (s.startsWith("--benchLengths=")) {
+        benchLengths =
+            parseIntList(s.substring(s.indexOf('=') + 1), benchLengths);
+      } else if (s.startsWith("--benchBudget=")) {
+        benchBudget = parseInt(s.substring(s.indexOf('=') + 1), benchBudget);
+      } else if (s.startsWith("--benchReps=")) {
+        benchReps = parseInt(s.substring(s.indexOf('=') + 1), benchReps);
       } else if ("--short".equals(s)) {
         repeat = 1;
         sleepMs = 0;
+        benchBudget = 1 << 19;
+        benchReps = 2;
       } else if (s.matches("\\d+")) {
         repeat = Integer.parseInt(s);
       }
@@ -108,5 +148,204 @@ public final class StringEqualsTest {
         System.out.println("Exception: " + e);
       }
     }
+    if (bench) {
+      CTR.reset();
+      runBench(benchLengths, Math.max(1, benchBudget), Math.max(1, benchReps));
+      TestSupport.summary("StringEqualsTest.bench", CTR);
+    }
+  }
+
+  /**
+   * --bench: ns per compare for equals / equalsIgnoreCase / compareTo /
+   * regionMatches over length x mismatch position (none/first/mid/last) x
+   * backing. "latin1" strings hold only a-z and stay compressed where the
+   * runtime compresses strings; "utf16" strings hold U+0100.. letters and
+   * never do. Equal operands are measured both as distinct instances and
+   * interned (same object, so the identity check short-circuits).
+   */
+  private static void runBench(int[] lengths, int budget, int reps) {
+    log("== String compare bench ==");
+    System.out.printf(Locale.ROOT, "strBench: budget=%d chars/rep reps=%d%n",
+                      budget, reps);
+    int maxLen = 0;
+    for (int len : lengths)
+      maxLen = Math.max(maxLen, len);
+    double[][] fullScan = new double[OP_NAMES.length][2];
+    for (int op = 0; op < OP_NAMES.length; op++) {
+      for (int utf16 = 0; utf16 < 2; utf16++) {
+        String backing = utf16 == 0 ? "latin1" : "utf16";
+        for (int len : lengths) {
+          int ops = Math.min(MAX_BENCH_OPS, Math.max(MIN_BENCH_OPS,
+                                                     budget / Math.max(1, len)));
+          for (int mm = 0; mm < MISMATCH_NAMES.length; mm++) {
+            if (len == 0 && mm != MISMATCH_NONE)
+              continue;
+            String[] a = new String[COPIES];
+            String[] b = new String[COPIES];
+            fillOperands(a, b, len, utf16 != 0, mm);
+            double ns = benchCell(op, a, b, ops, reps, "strBench." +
+                                  OP_NAMES[op] + "." + backing + ".len" +
+                                  len + "." + MISMATCH_NAMES[mm]);
+            printCell(op, backing, len, MISMATCH_NAMES[mm], "distinct", ns);
+            if (mm != MISMATCH_NONE)
+              continue;
+            if (len == maxLen)
+              fullScan[op][utf16] = ns / Math.max(1, len);
+            for (int i = 0; i < COPIES; i++) {
+              a[i] = a[i].intern();
+              b[i] = b[i].intern();
+            }
+            ns = benchCell(op, a, b, ops, reps, "strBench." + OP_NAMES[op] +
+                           "." + backing + ".len" + len + ".interned");
+            printCell(op, backing, len, "none", "interned", ns);
+          }
+        }
+      }
+    }
+    for (int op = 0; op < OP_NAMES.length; op++) {
+      System.out.printf(Locale.ROOT,
+                        "strBench %-16s full compare len=%d: latin1 " +
+                            "%.4fns/char utf16 %.4fns/char%n",
+                        OP_NAMES[op], maxLen, fullScan[op][0],
+                        fullScan[op][1]);
+    }
+  }
+
+  private static void printCell(int op, String backing, int len,
+                                String mismatch, String identity, double ns) {
+    System.out.printf(Locale.ROOT,
+                      "strBench %-16s %-6s len=%6d mismatch=%-5s %-8s " +
+                          "%9.2fns/op %8.4fns/char%n",
+                      OP_NAMES[op], backing, len, mismatch, identity, ns,
+                      ns / Math.max(1, len));
+  }
+
+  // Builds COPIES distinct instances of each operand (b differs from a at
+  // the mismatch position by a character that also differs ignoring case).
+  private static void fillOperands(String[] a, String[] b, int len,
+                                   boolean utf16, int mismatch) {
+    char[] chars = new char[len];
+    char base = utf16 ? '\u0100' : 'a';
+    for (int i = 0; i < len; i++)
+      chars[i] = (char)(base + (i % 26));
+    char[] other = chars.clone();
+    int pos = -1;
+    if (mismatch == MISMATCH_FIRST)
+      pos = 0;
+    else if (mismatch == MISMATCH_MID)
+      pos = len / 2;
+    else if (mismatch == MISMATCH_LAST)
+      pos = len - 1;
+    if (pos >= 0)
+      other[pos] = utf16 ? '\u2603' : '#';
+    for (int i = 0; i < COPIES; i++) {
+      a[i] = new String(chars);
+      b[i] = new String(other);
+    }
+  }
+
+  private static double benchCell(int op, String[] a, String[] b, int ops,
+                                  int reps, String name) {
+    long expected = expectedResult(op, a[0], b[0]);
+    long got = runOp(op, a, b, 1);
+    checkTrue(name, got == expected);
+    long best = Long.MAX_VALUE;
+    for (int r = 0; r < reps + 1; r++) {
+      long t0 = System.nanoTime();
+      BLACKHOLE ^= runOp(op, a, b, ops);
+      long dt = System.nanoTime() - t0;
+      if (r == 0)
+        continue; // warm-up rep
+      best = Math.min(best, dt);
+    }
+    return best / (double)ops;
+  }
+
+  // Reference result of one compare, from a plain char loop.
+  private static long expectedResult(int op, String a, String b) {
+    int n = Math.min(a.length(), b.length());
+    int diff = a.length() - b.length();
+    for (int i = 0; i < n; i++) {
+      if (a.charAt(i) != b.charAt(i)) {
+        diff = a.charAt(i) - b.charAt(i);
+        break;
+      }
+    }
+    switch (op) {
+    case OP_COMPARE_TO:
+      return Integer.signum(diff);
+    default:
+      // mismatch chars never match ignoring case, so all three agree
+      return diff == 0 ? 1 : 0;
+    }
+  }
+
+  // Separate loops per op so each compare gets its own call site.
+  private static long runOp(int op, String[] a, String[] b, int ops) {
+    switch (op) {
+    case OP_EQUALS:
+      return loopEquals(a, b, ops);
+    case OP_EQUALS_IGNORE_CASE:
+      return loopEqualsIgnoreCase(a, b, ops);
+    case OP_COMPARE_TO:
+      return loopCompareTo(a, b, ops);
+    default:
+      return loopRegionMatches(a, b, ops);
+    }
+  }
+
+  private static long loopEquals(String[] a, String[] b, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      if (a[i & (COPIES - 1)].equals(b[(i + 1) & (COPIES - 1)]))
+        sum++;
+    }
+    return sum;
+  }
+
+  private static long loopEqualsIgnoreCase(String[] a, String[] b, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      if (a[i & (COPIES - 1)].equalsIgnoreCase(b[(i + 1) & (COPIES - 1)]))
+        sum++;
+    }
+    return sum;
+  }
+
+  private static long loopCompareTo(String[] a, String[] b, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++)
+      sum += Integer.signum(
+          a[i & (COPIES - 1)].compareTo(b[(i + 1) & (COPIES - 1)]));
+    return sum;
+  }
+
+  private static long loopRegionMatches(String[] a, String[] b, int ops) {
+    long sum = 0;
+    for (int i = 0; i < ops; i++) {
+      String x = a[i & (COPIES - 1)];
+      if (x.regionMatches(0, b[(i + 1) & (COPIES - 1)], 0, x.length()))
+        sum++;
+    }
+    return sum;
+  }
+
+  private static int[] parseIntList(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      out[i] = parseInt(parts[i], -1);
+      if (out[i] < 0)
+        return fallback;
+    }
+    return out;
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
   }
 }
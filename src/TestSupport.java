@@ -1,6 +1,13 @@
 // TestSupport.java
 // Shared lightweight assertions and counters for simple test modules.
- 
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
 
 public final class TestSupport {
   public static final class Counter {
@@ -14,63 +21,258 @@ public final class TestSupport {
     public void reset() { pass = 0; fail = 0; }
   }
 
+  /**
+   * What the check* helpers print. ALL prints every OK/FAIL line, FAILURES
+   * only FAIL lines (OK checks are just counted, nothing is formatted) and
+   * COUNT nothing but summary(). Chosen with
+   * {@code -Dtestsupport.log=all|failures|count} or {@link #setLogMode}.
+   */
+  public enum LogMode { ALL, FAILURES, COUNT }
+
+  private static final int FLUSH_INTERVAL_MS = 200;
+  private static final String LINE_SEP = System.lineSeparator();
+
+  private static volatile LogMode MODE =
+      parseLogMode(System.getProperty("testsupport.log"), LogMode.ALL);
+
+  // -Dtestsupport.batch=true sends all stdout (check lines and the suites'
+  // own println/printf) through one buffered stream, flushed every
+  // FLUSH_INTERVAL_MS, on failures and at exit. Off by default: a native
+  // crash skips the exit flush and loses the last lines, and buffered stdout
+  // no longer interleaves with System.err.
+  private static final PrintStream OUT = installBatchedOut();
+
+  private static final ThreadLocal<LineBuffer> LINE =
+      new ThreadLocal<LineBuffer>() {
+        @Override
+        protected LineBuffer initialValue() {
+          return new LineBuffer();
+        }
+      };
+
   private TestSupport() {}
 
-  public static void log(String msg) { System.out.println(msg); }
+  public static void setLogMode(LogMode mode) { MODE = mode; }
+
+  public static LogMode getLogMode() { return MODE; }
+
+  /** True if -Dtestsupport.log names a valid mode; suites then leave it. */
+  public static boolean hasExplicitLogMode() {
+    return parseLogMode(System.getProperty("testsupport.log"), null) != null;
+  }
+
+  /** Parses all/failures/count (case-insensitive); fallback otherwise. */
+  public static LogMode parseLogMode(String raw, LogMode fallback) {
+    if (raw == null)
+      return fallback;
+    String v = raw.trim().toLowerCase(Locale.ROOT);
+    if ("all".equals(v))
+      return LogMode.ALL;
+    if ("failures".equals(v))
+      return LogMode.FAILURES;
+    if ("count".equals(v))
+      return LogMode.COUNT;
+    return fallback;
+  }
+
+  public static void flush() { OUT.flush(); }
+
+  public static void log(String msg) { OUT.println(msg); }
 
   public static void checkEq(String name, int got, int exp, Counter c) {
     if (got != exp) {
-      System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
       c.incFail();
+      if (MODE != LogMode.COUNT)
+        fail(name).append(": got=").append(got).append(" exp=").append(exp)
+            .emitFailure();
     } else {
-      System.out.println("OK   " + name + ": " + got);
       c.incPass();
+      if (MODE == LogMode.ALL)
+        ok(name).append(": ").append(got).emit();
     }
   }
 
   public static void checkEq(String name, long got, long exp, Counter c) {
     if (got != exp) {
-      System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
       c.incFail();
+      if (MODE != LogMode.COUNT)
+        fail(name).append(": got=").append(got).append(" exp=").append(exp)
+            .emitFailure();
     } else {
-      System.out.println("OK   " + name + ": " + got);
       c.incPass();
+      if (MODE == LogMode.ALL)
+        ok(name).append(": ").append(got).emit();
     }
   }
 
   public static void checkEq(String name, Object got, Object exp, Counter c) {
     boolean ok = (exp == null ? got == null : exp.equals(got));
     if (!ok) {
-      System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
       c.incFail();
+      if (MODE != LogMode.COUNT)
+        fail(name)
+            .append(": got=")
+            .append(String.valueOf(got))
+            .append(" exp=")
+            .append(String.valueOf(exp))
+            .emitFailure();
     } else {
-      System.out.println("OK   " + name + ": " + got);
       c.incPass();
+      if (MODE == LogMode.ALL)
+        ok(name).append(": ").append(String.valueOf(got)).emit();
     }
   }
 
+  // Doubles still go through Double.toString (one String per value).
   public static void checkApprox(String name, double got, double exp,
                                  double eps, Counter c) {
     if (Math.abs(got - exp) > eps) {
-      System.out.println("FAIL " + name + ": got=" + got + " exp=" + exp);
       c.incFail();
+      if (MODE != LogMode.COUNT)
+        fail(name)
+            .append(": got=")
+            .append(Double.toString(got))
+            .append(" exp=")
+            .append(Double.toString(exp))
+            .emitFailure();
     } else {
-      System.out.println("OK   " + name + ": " + got);
       c.incPass();
+      if (MODE == LogMode.ALL)
+        ok(name).append(": ").append(Double.toString(got)).emit();
     }
   }
 
   public static void checkTrue(String name, boolean ok, Counter c) {
     if (!ok) {
-      System.out.println("FAIL " + name);
       c.incFail();
+      if (MODE != LogMode.COUNT)
+        fail(name).emitFailure();
     } else {
-      System.out.println("OK   " + name);
       c.incPass();
+      if (MODE == LogMode.ALL)
+        ok(name).emit();
     }
   }
 
   public static void summary(String name, Counter c) {
-    System.out.println(name + " PASS=" + c.getPass() + " FAIL=" + c.getFail());
+    OUT.println(name + " PASS=" + c.getPass() + " FAIL=" + c.getFail());
+    OUT.flush();
+  }
+
+  private static LineBuffer ok(String name) {
+    return LINE.get().reset().append("OK   ").append(name);
+  }
+
+  private static LineBuffer fail(String name) {
+    return LINE.get().reset().append("FAIL ").append(name);
+  }
+
+  private static PrintStream installBatchedOut() {
+    if (!"true".equals(System.getProperty("testsupport.batch")))
+      return System.out;
+    System.out.flush();
+    final PrintStream out = new PrintStream(
+        new BufferedOutputStream(new FileOutputStream(FileDescriptor.out),
+                                 1 << 16),
+        false);
+    try {
+      System.setOut(out);
+    } catch (SecurityException e) {
+      return System.out;
+    }
+    Thread flusher = new Thread("TestSupport-flush") {
+      @Override
+      public void run() {
+        while (true) {
+          try {
+            Thread.sleep(FLUSH_INTERVAL_MS);
+          } catch (InterruptedException e) {
+            return;
+          }
+          out.flush();
+        }
+      }
+    };
+    flusher.setDaemon(true);
+    flusher.start();
+    Runtime.getRuntime().addShutdownHook(new Thread("TestSupport-exit") {
+      @Override
+      public void run() {
+        out.flush();
+      }
+    });
+    return out;
+  }
+
+  /**
+   * Per-thread line under construction. Numbers are formatted straight into
+   * the char buffer and ASCII lines are written as bytes, so an OK line costs
+   * no allocation once the buffers have grown to the longest line.
+   */
+  private static final class LineBuffer {
+    private char[] chars = new char[128];
+    private byte[] bytes = new byte[128];
+    private int len;
+
+    LineBuffer reset() {
+      len = 0;
+      return this;
+    }
+
+    LineBuffer append(String s) {
+      int n = s.length();
+      ensure(n);
+      s.getChars(0, n, chars, len);
+      len += n;
+      return this;
+    }
+
+    LineBuffer append(long v) {
+      if (v == Long.MIN_VALUE)
+        return append("-9223372036854775808");
+      ensure(20);
+      if (v < 0) {
+        chars[len++] = '-';
+        v = -v;
+      }
+      int start = len;
+      do {
+        chars[len++] = (char)('0' + (int)(v % 10));
+        v /= 10;
+      } while (v != 0);
+      for (int i = start, j = len - 1; i < j; i++, j--) {
+        char t = chars[i];
+        chars[i] = chars[j];
+        chars[j] = t;
+      }
+      return this;
+    }
+
+    void emit() {
+      append(LINE_SEP);
+      if (bytes.length < len)
+        bytes = new byte[chars.length];
+      for (int i = 0; i < len; i++) {
+        char ch = chars[i];
+        if (ch >= 0x80) {
+          byte[] enc =
+              new String(chars, 0, len).getBytes(StandardCharsets.UTF_8);
+          OUT.write(enc, 0, enc.length);
+          return;
+        }
+        bytes[i] = (byte)ch;
+      }
+      OUT.write(bytes, 0, len);
+    }
+
+    void emitFailure() {
+      emit();
+      OUT.flush();
+    }
+
+    private void ensure(int extra) {
+      if (len + extra > chars.length)
+        chars = Arrays.copyOf(chars, Math.max(chars.length * 2, len + extra));
+    }
   }
 }
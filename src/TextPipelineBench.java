@@ -0,0 +1,491 @@
+// TextPipelineBench.java
+// Streaming text pipeline over a memory-mapped UTF-8 corpus: chunked decode,
+// NFC normalization and word segmentation without ever holding the corpus
+// as one String. ICUTestSuite --textPipe feeds it android.icu Normalizer2 and
+// BreakIterator; run standalone it uses java.text.
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.text.BreakIterator;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+public final class TextPipelineBench {
+  private static final TestSupport.Counter CTR = new TestSupport.Counter();
+
+  private static final int DEFAULT_MB = 16;
+  private static final int DEFAULT_CHUNK_KB = 64;
+  private static final int DEFAULT_REPS = 3;
+  // The whole-String reference (and the equality checks that need it) only
+  // runs up to this corpus size; above it, it is the OOM we are avoiding.
+  private static final int DEFAULT_MATERIALIZE_MB = 64;
+  private static final long SEED = 0x7E47L;
+  private static final String[] STAGES = {"mmap", "decode", "nfc", "words"};
+
+  // Corpus vocabulary. Several entries are deliberately NFD (combining
+  // marks, conjoining Hangul jamo) so NFC has real work to do, and the
+  // emoji put surrogate pairs on chunk edges.
+  private static final String[] VOCAB = {
+      "the",       "index",   "search", "query",        "token",
+      "device",    "memory",  "stream", "e.g.",         "3.14",
+      "1,000",     "can't",   "U.S.A.", "cafe\u0301",   "caf\u00E9",
+      "A\u030Angstro\u0308m", "o\u0308verfo\u0308ring", "so\u0308k",
+      "re\u0301sume\u0301",     "r\u00E9sum\u00E9",      "nai\u0308ve",
+      "\u03B1\u0301\u03BB\u03C6\u03B1",
+      "\u03BA\u03B1\u03BB\u03B7\u03BC\u03AD\u03C1\u03B1",
+      "\u043F\u0440\u0438\u0432\u0435\u0442", "\u043C\u0438\u0440",
+      "\u4F60\u597D", "\u4E16\u754C", "\u641C\u7D22\u5F15\u64CE",
+      "\u1112\u1161\u11AB\u1100\u1173\u11AF", "\uD55C\uAD6D\uC5B4",
+      "\u0645\u0631\u062D\u0628\u0627",
+      "\u0928\u092E\u0938\u094D\u0924\u0947",
+      "\uD83C\uDF0D", "\uD83D\uDE80", "x\u0307\u0323", "Z\u0327"};
+
+  private static volatile long BLACKHOLE;
+
+  private TextPipelineBench() {}
+
+  /** Normalization and word segmentation; one instance per pipeline. */
+  public interface Text {
+    /** True if NFC never combines cp with any text before it. */
+    boolean hasBoundaryBefore(int cp);
+
+    String normalize(CharSequence s);
+
+    /** Word BreakIterator over s; first/next follow BreakIterator. */
+    void setText(String s);
+
+    int first();
+
+    /** Next boundary, or -1 (BreakIterator.DONE) at the end. */
+    int next();
+  }
+
+  public static void main(String[] args) {
+    CTR.reset();
+    boolean ok = run("java.text", new JavaText(), args);
+    TestSupport.summary("TextPipelineBench", CTR);
+    if (!ok)
+      System.exit(1);
+  }
+
+  /**
+   * Maps the corpus (generated, or --pipeFile=), then per rep: a bulk read
+   * of the mapping, and the streaming pipeline with each stage timed on its
+   * own. Reports MB/s of UTF-8 input per stage, the peak heap above the
+   * pre-run baseline, and the largest text window held. Up to
+   * --pipeMaterializeMB the same work is done on one whole String for
+   * comparison, and the streamed char, NFC and word results must match it.
+   */
+  public static boolean run(String label, Text text, String[] args) {
+    int failBefore = CTR.getFail();
+    int mb = DEFAULT_MB;
+    int chunkKb = DEFAULT_CHUNK_KB;
+    int reps = DEFAULT_REPS;
+    int materializeMb = DEFAULT_MATERIALIZE_MB;
+    String path = null;
+    for (String s : args) {
+      if (s.startsWith("--pipeMB=")) {
+        mb = parseInt(s.substring(s.indexOf('=') + 1), mb);
+      } else if (s.startsWith("--pipeChunkKB=")) {
+        chunkKb = parseInt(s.substring(s.indexOf('=') + 1), chunkKb);
+      } else if (s.startsWith("--pipeReps=")) {
+        reps = parseInt(s.substring(s.indexOf('=') + 1), reps);
+      } else if (s.startsWith("--pipeMaterializeMB=")) {
+        materializeMb =
+            parseInt(s.substring(s.indexOf('=') + 1), materializeMb);
+      } else if (s.startsWith("--pipeFile=")) {
+        path = s.substring(s.indexOf('=') + 1);
+      } else if ("--short".equals(s)) {
+        mb = 2;
+        reps = 2;
+      }
+    }
+    // One mapping per corpus keeps the code simple; 1 GB is far past the
+    // point where the streaming numbers stop changing.
+    mb = Math.max(1, Math.min(mb, 1024));
+    int chunk = Math.max(1, chunkKb) * 1024;
+    reps = Math.max(1, reps);
+    File file = null;
+    boolean generated = path == null;
+    try {
+      file = generated ? generateCorpus((long)mb << 20) : new File(path);
+      try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+           FileChannel ch = raf.getChannel()) {
+        long size = Math.min(ch.size(), Integer.MAX_VALUE);
+        MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        System.out.printf(Locale.ROOT, "textPipe [%s]: corpus=%.1fMB (%s) " +
+                          "chunk=%dKB reps=%d%n", label, size / 1048576.0,
+                          generated ? "generated" : file.getPath(),
+                          chunk / 1024, reps);
+        Result stream = null;
+        long[] best = new long[STAGES.length];
+        Arrays.fill(best, Long.MAX_VALUE);
+        long peak = 0;
+        int runs = reps == 1 ? 1 : reps + 1;
+        for (int i = 0; i < runs; i++) {
+          long base = usedAfterGc();
+          long t0 = System.nanoTime();
+          BLACKHOLE ^= readMapped(map, chunk);
+          long mmapNs = System.nanoTime() - t0;
+          stream = stream(text, map, chunk, base);
+          if (runs > 1 && i == 0)
+            continue; // warm-up rep
+          best[0] = Math.min(best[0], mmapNs);
+          for (int s = 1; s < STAGES.length; s++)
+            best[s] = Math.min(best[s], stream.ns[s]);
+          peak = Math.max(peak, stream.peakHeap);
+        }
+        StringBuilder line = new StringBuilder();
+        long pipeNs = 0;
+        for (int s = 0; s < STAGES.length; s++) {
+          line.append(String.format(Locale.ROOT, " %s=%.1f", STAGES[s],
+                                    mbPerSec(size, best[s])));
+          if (s > 0)
+            pipeNs += best[s];
+        }
+        System.out.printf(Locale.ROOT, "textPipe [%s] stream MB/s:%s " +
+                          "pipeline=%.1f%n", label, line,
+                          mbPerSec(size, pipeNs));
+        System.out.printf(Locale.ROOT, "textPipe [%s] stream: chars=%d " +
+                          "nfcChars=%d words=%d peakHeap=%.1fMB " +
+                          "window=%dKB%n", label, stream.chars,
+                          stream.normChars, stream.words, peak / 1048576.0,
+                          stream.windowChars * 2 / 1024);
+        TestSupport.checkTrue("textPipe." + label + ".words",
+                              stream.words > 0, CTR);
+        if (size > (long)materializeMb << 20) {
+          System.out.printf(Locale.ROOT, "textPipe [%s] materialize: " +
+                            "skipped (corpus > %dMB)%n", label,
+                            materializeMb);
+        } else {
+          materialize(label, text, file, size, stream);
+        }
+      }
+    } catch (IOException e) {
+      TestSupport.checkTrue("textPipe." + label + ".io: " + e, false, CTR);
+    } finally {
+      if (generated && file != null && !file.delete())
+        file.deleteOnExit();
+    }
+    return CTR.getFail() == failBefore;
+  }
+
+  /** What one pass produced; hashes are over the NFC text and the words. */
+  private static final class Result {
+    final long[] ns = new long[STAGES.length];
+    long chars;
+    long normChars;
+    long normHash;
+    long words;
+    long wordHash;
+    long peakHeap;
+    long windowChars;
+    int[] bounds = new int[1024];
+  }
+
+  /**
+   * The pipeline proper. Bytes are decoded chunk by chunk straight from the
+   * mapping (the decoder keeps a split UTF-8 sequence for the next chunk).
+   * Decoded text is normalized up to the last NFC boundary and the rest
+   * carried over, and the normalized text is segmented up to the last word
+   * boundary that follows whitespace, so no chunk edge changes the result.
+   */
+  private static Result stream(Text text, MappedByteBuffer map, int chunk,
+                               long baseHeap) throws CharacterCodingException {
+    Runtime rt = Runtime.getRuntime();
+    Result r = new Result();
+    CharsetDecoder dec = StandardCharsets.UTF_8.newDecoder()
+                             .onMalformedInput(CodingErrorAction.REPORT)
+                             .onUnmappableCharacter(CodingErrorAction.REPORT);
+    ByteBuffer in = map.duplicate();
+    in.position(0);
+    int size = in.capacity();
+    // A UTF-8 byte never decodes to more than one char, so a chunk of
+    // bytes always fits.
+    CharBuffer cb = CharBuffer.allocate(chunk);
+    StringBuilder pending = new StringBuilder(chunk);
+    StringBuilder window = new StringBuilder(chunk);
+    boolean eof = false;
+    while (!eof) {
+      int end = (int)Math.min(size, (long)in.position() + chunk);
+      in.limit(end);
+      eof = end == size;
+
+      long t0 = System.nanoTime();
+      cb.clear();
+      CoderResult cr = dec.decode(in, cb, eof);
+      if (cr.isError())
+        cr.throwException();
+      if (eof)
+        dec.flush(cb);
+      cb.flip();
+      r.chars += cb.remaining();
+      pending.append(cb.array(), cb.arrayOffset() + cb.position(),
+                     cb.remaining());
+
+      long t1 = System.nanoTime();
+      int cut = eof ? pending.length() : nfcCut(text, pending);
+      String norm = null;
+      if (cut > 0) {
+        norm = text.normalize(pending.substring(0, cut));
+        pending.delete(0, cut);
+        window.append(norm);
+      }
+      long t2 = System.nanoTime();
+      if (norm != null) {
+        r.normChars += norm.length();
+        r.normHash = hash(r.normHash, norm, 0, norm.length());
+      }
+      r.windowChars =
+          Math.max(r.windowChars, pending.length() + window.length());
+
+      long t3 = System.nanoTime();
+      if (window.length() > 0) {
+        String w = window.toString();
+        window.delete(0, segment(text, w, eof, r));
+      }
+      long t4 = System.nanoTime();
+
+      r.ns[1] += t1 - t0;
+      r.ns[2] += t2 - t1;
+      r.ns[3] += t4 - t3;
+      r.peakHeap = Math.max(r.peakHeap, rt.totalMemory() - rt.freeMemory());
+    }
+    r.peakHeap = Math.max(0, r.peakHeap - baseHeap);
+    return r;
+  }
+
+  /** Last index (0 if none) before which NFC cannot join text. */
+  private static int nfcCut(Text text, StringBuilder s) {
+    for (int i = s.length() - 1; i > 0; i--) {
+      char c = s.charAt(i);
+      if (!Character.isLowSurrogate(c) &&
+          text.hasBoundaryBefore(Character.codePointAt(s, i)))
+        return i;
+    }
+    return 0;
+  }
+
+  /**
+   * Counts the words of w up to the cut and returns the cut: the end of w
+   * at eof, otherwise the last boundary inside w that follows whitespace.
+   * Word rules look at most one char past a boundary after whitespace, so
+   * text appended later cannot move the words before it.
+   */
+  private static int segment(Text text, String w, boolean eof, Result r) {
+    int nb = 0;
+    int[] bounds = r.bounds;
+    text.setText(w);
+    for (int b = text.first(); b != BreakIterator.DONE; b = text.next()) {
+      if (nb == bounds.length)
+        bounds = r.bounds = Arrays.copyOf(bounds, nb * 2);
+      bounds[nb++] = b;
+    }
+    int cutIdx = nb - 1;
+    if (!eof) {
+      while (cutIdx > 0 &&
+             (bounds[cutIdx] == w.length() ||
+              !Character.isWhitespace(w.charAt(bounds[cutIdx] - 1))))
+        cutIdx--;
+    }
+    for (int j = 0; j < cutIdx; j++) {
+      int lo = bounds[j];
+      int hi = bounds[j + 1];
+      if (Character.isLetterOrDigit(w.codePointAt(lo))) {
+        r.words++;
+        r.wordHash = hash(r.wordHash, w, lo, hi) * 31 + ' ';
+      }
+    }
+    return cutIdx < 0 ? 0 : bounds[cutIdx];
+  }
+
+  /**
+   * The approach that keeps running out of memory: read the whole file,
+   * decode, normalize and segment it as Strings. Reports its MB/s and peak
+   * heap next to the stream's, and checks the stream got the same text.
+   */
+  private static void materialize(String label, Text text, File file,
+                                  long size, Result stream) {
+    Runtime rt = Runtime.getRuntime();
+    long base = usedAfterGc();
+    Result r = new Result();
+    try {
+      long t0 = System.nanoTime();
+      byte[] all = new byte[(int)size];
+      try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+        raf.readFully(all);
+      }
+      String s = new String(all, StandardCharsets.UTF_8);
+      long peak = rt.totalMemory() - rt.freeMemory();
+      String norm = text.normalize(s);
+      peak = Math.max(peak, rt.totalMemory() - rt.freeMemory());
+      segment(text, norm, true, r);
+      peak = Math.max(peak, rt.totalMemory() - rt.freeMemory());
+      long dt = System.nanoTime() - t0;
+      r.chars = s.length();
+      r.normChars = norm.length();
+      r.normHash = hash(0, norm, 0, norm.length());
+      BLACKHOLE ^= all[all.length - 1];
+      System.out.printf(Locale.ROOT, "textPipe [%s] materialize: " +
+                        "pipeline=%.1fMB/s peakHeap=%.1fMB words=%d%n", label,
+                        mbPerSec(size, dt),
+                        Math.max(0, peak - base) / 1048576.0, r.words);
+    } catch (OutOfMemoryError e) {
+      System.out.printf(Locale.ROOT, "textPipe [%s] materialize: " +
+                        "OutOfMemoryError at %.1fMB%n", label,
+                        size / 1048576.0);
+      return;
+    } catch (IOException e) {
+      TestSupport.checkTrue("textPipe." + label + ".materialize.io: " + e,
+                            false, CTR);
+      return;
+    }
+    String p = "textPipe." + label + ".";
+    TestSupport.checkEq(p + "chars", stream.chars, r.chars, CTR);
+    TestSupport.checkEq(p + "nfcChars", stream.normChars, r.normChars, CTR);
+    TestSupport.checkEq(p + "nfcHash", stream.normHash, r.normHash, CTR);
+    TestSupport.checkEq(p + "words", stream.words, r.words, CTR);
+    TestSupport.checkEq(p + "wordHash", stream.wordHash, r.wordHash, CTR);
+  }
+
+  /** Bulk copy of the whole mapping through one chunk-sized array. */
+  private static long readMapped(MappedByteBuffer map, int chunk) {
+    ByteBuffer in = map.duplicate();
+    in.position(0);
+    byte[] buf = new byte[chunk];
+    long sum = 0;
+    while (in.hasRemaining()) {
+      int n = Math.min(chunk, in.remaining());
+      in.get(buf, 0, n);
+      sum += buf[n - 1];
+    }
+    return sum;
+  }
+
+  /** Deterministic sentences and paragraphs of VOCAB, about bytes long. */
+  private static File generateCorpus(long bytes) throws IOException {
+    File f = createTempUnderDataTmp("textpipe", ".txt");
+    Random rnd = new Random(SEED);
+    StringBuilder sb = new StringBuilder(4096);
+    long written = 0;
+    try (OutputStream out =
+             new BufferedOutputStream(new FileOutputStream(f), 1 << 16)) {
+      while (written < bytes) {
+        sb.setLength(0);
+        int sentences = 3 + rnd.nextInt(4);
+        for (int i = 0; i < sentences; i++) {
+          int words = 5 + rnd.nextInt(11);
+          for (int j = 0; j < words; j++) {
+            if (j > 0)
+              sb.append(rnd.nextInt(16) == 0 ? ", " : " ");
+            sb.append(VOCAB[rnd.nextInt(VOCAB.length)]);
+          }
+          sb.append(rnd.nextInt(8) == 0 ? "? " : ". ");
+        }
+        sb.append('\n');
+        byte[] b = sb.toString().getBytes(StandardCharsets.UTF_8);
+        out.write(b);
+        written += b.length;
+      }
+    }
+    return f;
+  }
+
+  private static long hash(long h, CharSequence s, int from, int to) {
+    for (int i = from; i < to; i++)
+      h = h * 31 + s.charAt(i);
+    return h;
+  }
+
+  private static double mbPerSec(long bytes, long ns) {
+    return ns <= 0 ? 0 : bytes / 1048576.0 / (ns / 1e9);
+  }
+
+  private static long usedAfterGc() {
+    Runtime rt = Runtime.getRuntime();
+    for (int i = 0; i < 2; i++) {
+      System.gc();
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return rt.totalMemory() - rt.freeMemory();
+  }
+
+  private static File createTempUnderDataTmp(String prefix, String suffix)
+      throws IOException {
+    // System tmpdir first, then /data/local/tmp (writable from adb shell).
+    try {
+      File f = File.createTempFile(prefix, suffix);
+      f.deleteOnExit();
+      return f;
+    } catch (IOException e) {
+      File dir = new File("/data/local/tmp");
+      if (!dir.exists())
+        dir.mkdirs();
+      File f = new File(dir, prefix + "-" + System.nanoTime() + suffix);
+      f.deleteOnExit();
+      return f;
+    }
+  }
+
+  /**
+   * java.text. Normalizer has no boundary query; every code point below
+   * U+0300 is an NFC starter that never composes with what precedes it,
+   * so those are the cut points (ASCII spaces and punctuation in practice).
+   */
+  static final class JavaText implements Text {
+    private final BreakIterator words =
+        BreakIterator.getWordInstance(Locale.ROOT);
+
+    @Override
+    public boolean hasBoundaryBefore(int cp) {
+      return cp < 0x300;
+    }
+
+    @Override
+    public String normalize(CharSequence s) {
+      return Normalizer.normalize(s, Normalizer.Form.NFC);
+    }
+
+    @Override
+    public void setText(String s) {
+      words.setText(s);
+    }
+
+    @Override
+    public int first() {
+      return words.first();
+    }
+
+    @Override
+    public int next() {
+      return words.next();
+    }
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+}
@@ -1,12 +1,18 @@
 // WriteBarrierStressTest.java
 // Tries to expose old->young barrier issues by clearing local refs.
 
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 public final class WriteBarrierStressTest {
   private static final TestSupport.Counter CTR = new TestSupport.Counter();
   private static volatile long BLACKHOLE;
   private static volatile Holder HOLDER_SINK;
   private static volatile Object OBJECT_SINK;
   private static volatile Object STATIC_REF;
+  private static volatile int STATIC_PRIM;
 
   private static final int DEFAULT_ITERS = 8000;
   private static final int DEFAULT_ROUNDS = 3;
@@ -18,6 +24,12 @@ public final class WriteBarrierStressTest {
   private static final int DEFAULT_GC_STRIDE = 0;
   private static final int DEFAULT_HOLDERS = 8;
   private static final int DEFAULT_SLOTS = 16;
+  private static final int DEFAULT_BENCH_STORES = 5_000_000;
+  private static final int DEFAULT_BENCH_REPS = 5;
+  private static final int BENCH_VALUE_POOL = 4096;
+
+  private static final String[] STORE_SHAPES = {"field", "array", "static",
+                                                "chained"};
 
   private static final class Wrapper {
     Object ref;
@@ -29,6 +41,25 @@ public final class WriteBarrierStressTest {
     }
   }
 
+  /** All-final so a racy reader never sees a half-published value. */
+  private static final class Stamp {
+    final int writer;
+    final int seq;
+    final byte[] data;
+
+    Stamp(int writer, int seq, int size) {
+      this.writer = writer;
+      this.seq = seq;
+      this.data = new byte[Math.max(2, size)];
+      data[0] = (byte)seq;
+      data[data.length - 1] = (byte)writer;
+    }
+
+    boolean intact() {
+      return data[0] == (byte)seq && data[data.length - 1] == (byte)writer;
+    }
+  }
+
   private static final class Holder {
     final int id;
     Object f;
@@ -36,10 +67,13 @@ public final class WriteBarrierStressTest {
     Object[] slots;
     Wrapper wrap;
     Holder next;
+    int prim;
+    int[] primSlots;
 
     Holder(int id, int slots) {
       this.id = id;
       this.slots = new Object[Math.max(2, slots)];
+      this.primSlots = new int[this.slots.length];
     }
   }
 
@@ -62,6 +96,11 @@ public final class WriteBarrierStressTest {
     int gcStride = DEFAULT_GC_STRIDE;
     int holders = DEFAULT_HOLDERS;
     int slots = DEFAULT_SLOTS;
+    boolean bench = false;
+    int benchStores = DEFAULT_BENCH_STORES;
+    int benchReps = DEFAULT_BENCH_REPS;
+    int[] benchYoung = {0, 50, 100};
+    int threads = 0;
 
     for (String s : args) {
       if (s.startsWith("--iters=")) {
@@ -84,6 +123,17 @@ public final class WriteBarrierStressTest {
         holders = parseInt(s.substring(s.indexOf('=') + 1), holders);
       } else if (s.startsWith("--slots=")) {
         slots = parseInt(s.substring(s.indexOf('=') + 1), slots);
+      } else if (s.startsWith("--threads=")) {
+        threads = parseInt(s.substring(s.indexOf('=') + 1), threads);
+      } else if ("--bench".equals(s)) {
+        bench = true;
+      } else if (s.startsWith("--benchStores=")) {
+        benchStores = parseInt(s.substring(s.indexOf('=') + 1), benchStores);
+      } else if (s.startsWith("--benchReps=")) {
+        benchReps = parseInt(s.substring(s.indexOf('=') + 1), benchReps);
+      } else if (s.startsWith("--benchYoung=")) {
+        benchYoung = parsePercentList(s.substring(s.indexOf('=') + 1),
+                                      benchYoung);
       } else if ("--short".equals(s)) {
         iters = 2000;
         rounds = 2;
@@ -131,6 +181,27 @@ public final class WriteBarrierStressTest {
       slots = 2;
 
     JitSupport.requestJitCompilation(WriteBarrierStressTest.class);
+    if (bench) {
+      runBench(ageCycles, ageAllocs, allocSize, holders, slots,
+               Math.max(1000, benchStores), Math.max(1, benchReps), benchYoung);
+      TestSupport.summary("WriteBarrierStressTest", CTR);
+      if (CTR.getFail() != 0)
+        System.exit(1);
+      return;
+    }
+    if (threads > 0) {
+      for (int r = 0; r < rounds; r++) {
+        Holder[] holderSet = ageHolders(ageCycles, ageAllocs, allocSize,
+                                        holders, slots + threads);
+        int failures = runConcurrent(threads, iters, holderSet, slots,
+                                     allocBurst, allocSize, youngSize, gcStride);
+        TestSupport.checkTrue("writeBarrier.mt.r" + r, failures == 0, CTR);
+      }
+      TestSupport.summary("WriteBarrierStressTest", CTR);
+      if (CTR.getFail() != 0)
+        System.exit(1);
+      return;
+    }
     warmUp(Math.max(1, iters / 4), allocBurst, allocSize, youngSize, holders,
            slots);
 
@@ -273,6 +344,332 @@ public final class WriteBarrierStressTest {
     return 0;
   }
 
+  /**
+   * N writers share the aged holders: slots[0, shared) and f/g take racing
+   * stores from every writer, slots[shared + t] belongs to writer t only.
+   * A validator samples slots without locking while the writers run; every
+   * value it can observe must be an intact Stamp. Returns the failure count.
+   */
+  private static int runConcurrent(int threads, int iters, Holder[] holderSet,
+                                   int slots, int allocBurst, int allocSize,
+                                   int youngSize, int gcStride) {
+    final int shared = Math.max(1, slots / 4);
+    final AtomicInteger failures = new AtomicInteger();
+    final AtomicReference<String> firstFailure = new AtomicReference<>();
+    final long[] stores = new long[threads];
+    final long[] nanos = new long[threads];
+    final long[] churn = new long[threads];
+    Thread[] writers = new Thread[threads];
+    for (int t = 0; t < threads; t++) {
+      final int me = t;
+      writers[t] = new Thread(() -> {
+        int own = shared + me;
+        long count = 0;
+        long acc = 0;
+        int i = 0;
+        long t0 = System.nanoTime();
+        try {
+          for (; i < iters; i++) {
+            Holder h = holderSet[(i + me) % holderSet.length];
+            Stamp stamp = new Stamp(me, i, youngSize);
+            h.slots[own] = stamp;
+            h.slots[(i + me) % shared] = stamp;
+            h.f = stamp;
+            count += 3;
+            if ((i & 7) == 0) {
+              h.next.g = stamp;
+              count++;
+            }
+            acc += churn(allocBurst, allocSize);
+            if (me == 0 && gcStride > 0 && (i % gcStride) == 0)
+              System.gc();
+            if (h.slots[own] != stamp || !stamp.intact()) {
+              failures.incrementAndGet();
+              firstFailure.compareAndSet(
+                  null, "writer " + me + " lost own slot at iter " + i);
+            }
+          }
+        } catch (Throwable e) {
+          // An OOM or crash in a writer is a failed run, not a quiet one.
+          failures.incrementAndGet();
+          firstFailure.compareAndSet(
+              null, "writer " + me + " threw at iter " + i + ": " + e);
+        } finally {
+          nanos[me] = System.nanoTime() - t0;
+          stores[me] = count;
+          churn[me] = acc;
+        }
+      }, "wb-writer-" + t);
+    }
+
+    long samples = 0;
+    for (Thread w : writers)
+      w.start();
+    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+    while (anyAlive(writers)) {
+      Holder h = holderSet[rnd.nextInt(holderSet.length)];
+      Object a = h.slots[rnd.nextInt(h.slots.length)];
+      Object b = ((samples & 1) == 0) ? h.f : h.g;
+      if (!stampOk(a) || !stampOk(b)) {
+        failures.incrementAndGet();
+        firstFailure.compareAndSet(null, "validator saw corrupt value in holder " +
+                                             h.id);
+      }
+      samples++;
+    }
+    for (Thread w : writers) {
+      try {
+        w.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    long total = 0;
+    long maxNanos = 1;
+    for (int t = 0; t < threads; t++) {
+      BLACKHOLE ^= churn[t];
+      System.out.printf(Locale.ROOT,
+                        "mt writer %d: stores=%d time=%.1fms %.2f M stores/s%n",
+                        t, stores[t], nanos[t] / 1e6,
+                        stores[t] / (Math.max(1, nanos[t]) / 1e3));
+      total += stores[t];
+      maxNanos = Math.max(maxNanos, nanos[t]);
+    }
+    System.out.printf(Locale.ROOT,
+                      "mt total: threads=%d shared=%d %.2f M stores/s, " +
+                          "validator samples=%d failures=%d%n",
+                      threads, shared, total / (maxNanos / 1e3), samples,
+                      failures.get());
+    if (firstFailure.get() != null)
+      System.out.println("FAIL: " + firstFailure.get());
+    return failures.get();
+  }
+
+  private static boolean stampOk(Object o) {
+    return o == null || !(o instanceof Stamp) || ((Stamp)o).intact();
+  }
+
+  private static boolean anyAlive(Thread[] threads) {
+    for (Thread t : threads) {
+      if (t.isAlive())
+        return true;
+    }
+    return false;
+  }
+
+  /** allocBurst without the shared volatile sink, for concurrent writers. */
+  private static long churn(int count, int size) {
+    long acc = 0;
+    for (int i = 0; i < count; i++) {
+      byte[] junk = new byte[size];
+      acc += junk.length;
+      if ((i & 7) == 0) {
+        Object[] objs = new Object[8];
+        objs[0] = junk;
+        objs[1] = new Object();
+        acc += objs.length;
+      }
+    }
+    return acc;
+  }
+
+  /**
+   * Times reference stores into aged holders per store shape and per share
+   * of young values, against the same shape storing an int. The difference
+   * is roughly the write barrier (card mark) cost.
+   */
+  private static void runBench(int ageCycles, int ageAllocs, int allocSize,
+                               int holders, int slots, int stores, int reps,
+                               int[] youngPcts) {
+    System.out.printf(Locale.ROOT,
+                      "bench: holders=%d slots=%d stores=%d reps=%d%n",
+                      holders, slots, stores, reps);
+    Object[] oldPool = new Object[BENCH_VALUE_POOL];
+    for (int i = 0; i < oldPool.length; i++)
+      oldPool[i] = new Wrapper(null, i);
+    Holder[] holderSet =
+        ageHolders(ageCycles, ageAllocs, allocSize, holders, slots);
+    OBJECT_SINK = oldPool;
+
+    for (int pct : youngPcts) {
+      Object[] values = new Object[oldPool.length];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = ((i * 100) / values.length < pct) ? new Wrapper(null, i)
+                                                      : oldPool[i];
+      }
+      for (int shape = 0; shape < STORE_SHAPES.length; shape++) {
+        long refNs = Long.MAX_VALUE;
+        long primNs = Long.MAX_VALUE;
+        for (int r = 0; r < reps + 1; r++) {
+          long t0 = System.nanoTime();
+          storeRefs(shape, holderSet, values, stores);
+          long t1 = System.nanoTime();
+          storePrims(shape, holderSet, stores);
+          long t2 = System.nanoTime();
+          if (r == 0)
+            continue; // warm-up rep
+          refNs = Math.min(refNs, t1 - t0);
+          primNs = Math.min(primNs, t2 - t1);
+        }
+        double refPer = refNs / (double)stores;
+        double primPer = primNs / (double)stores;
+        System.out.printf(Locale.ROOT,
+                          "bench young=%3d%% %-7s ref=%.2fns prim=%.2fns " +
+                              "barrier~%.2fns/store (%.1f M ref stores/s)%n",
+                          pct, STORE_SHAPES[shape], refPer, primPer,
+                          refPer - primPer, stores / (refNs / 1e3));
+      }
+      TestSupport.checkTrue("bench.stores.young" + pct,
+                            benchStoresLanded(holderSet, values), CTR);
+    }
+  }
+
+  private static void storeRefs(int shape, Holder[] hs, Object[] values,
+                                int n) {
+    switch (shape) {
+    case 0:
+      storeField(hs, values, n);
+      break;
+    case 1:
+      storeArray(hs, values, n);
+      break;
+    case 2:
+      storeStatic(values, n);
+      break;
+    default:
+      storeChained(hs, values, n);
+      break;
+    }
+  }
+
+  private static void storePrims(int shape, Holder[] hs, int n) {
+    switch (shape) {
+    case 0:
+      storeFieldPrim(hs, n);
+      break;
+    case 1:
+      storeArrayPrim(hs, n);
+      break;
+    case 2:
+      storeStaticPrim(n);
+      break;
+    default:
+      storeChainedPrim(hs, n);
+      break;
+    }
+  }
+
+  private static void storeField(Holder[] hs, Object[] values, int n) {
+    int h = 0;
+    int v = 0;
+    for (int i = 0; i < n; i++) {
+      hs[h].f = values[v];
+      if (++h == hs.length)
+        h = 0;
+      if (++v == values.length)
+        v = 0;
+    }
+  }
+
+  private static void storeArray(Holder[] hs, Object[] values, int n) {
+    int h = 0;
+    int v = 0;
+    int slot = 0;
+    for (int i = 0; i < n; i++) {
+      Object[] slots = hs[h].slots;
+      slots[slot < slots.length ? slot : 0] = values[v];
+      if (++h == hs.length) {
+        h = 0;
+        slot++;
+        if (slot >= slots.length)
+          slot = 0;
+      }
+      if (++v == values.length)
+        v = 0;
+    }
+  }
+
+  private static void storeStatic(Object[] values, int n) {
+    int v = 0;
+    for (int i = 0; i < n; i++) {
+      STATIC_REF = values[v];
+      if (++v == values.length)
+        v = 0;
+    }
+  }
+
+  private static void storeChained(Holder[] hs, Object[] values, int n) {
+    int h = 0;
+    int v = 0;
+    for (int i = 0; i < n; i++) {
+      hs[h].next.f = values[v];
+      if (++h == hs.length)
+        h = 0;
+      if (++v == values.length)
+        v = 0;
+    }
+  }
+
+  private static void storeFieldPrim(Holder[] hs, int n) {
+    int h = 0;
+    for (int i = 0; i < n; i++) {
+      hs[h].prim = i;
+      if (++h == hs.length)
+        h = 0;
+    }
+  }
+
+  private static void storeArrayPrim(Holder[] hs, int n) {
+    int h = 0;
+    int slot = 0;
+    for (int i = 0; i < n; i++) {
+      int[] slots = hs[h].primSlots;
+      slots[slot < slots.length ? slot : 0] = i;
+      if (++h == hs.length) {
+        h = 0;
+        slot++;
+        if (slot >= slots.length)
+          slot = 0;
+      }
+    }
+  }
+
+  private static void storeStaticPrim(int n) {
+    for (int i = 0; i < n; i++)
+      STATIC_PRIM = i;
+  }
+
+  private static void storeChainedPrim(Holder[] hs, int n) {
+    int h = 0;
+    for (int i = 0; i < n; i++) {
+      hs[h].next.prim = i;
+      if (++h == hs.length)
+        h = 0;
+    }
+  }
+
+  private static boolean benchStoresLanded(Holder[] hs, Object[] values) {
+    System.gc();
+    for (Holder h : hs) {
+      if (!(h.f instanceof Wrapper) || !(h.slots[0] instanceof Wrapper))
+        return false;
+    }
+    return STATIC_REF instanceof Wrapper && values.length > 0;
+  }
+
+  private static int[] parsePercentList(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      int v = parseInt(parts[i], -1);
+      if (v < 0 || v > 100)
+        return fallback;
+      out[i] = v;
+    }
+    return out;
+  }
+
   private static void allocBurst(int count, int size) {
     for (int i = 0; i < count; i++) {
       byte[] junk = new byte[size];
@@ -0,0 +1,198 @@
+// BufferLoopGen.java
+// Host-side generator for src/ByteBufferLoops.java: one copy of every
+// ByteBufferTest --bench loop per buffer kind, so heap, direct and mapped
+// buffers are each timed through call sites that only ever saw that kind.
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public final class BufferLoopGen {
+  private static final String CLASS_NAME = "ByteBufferLoops";
+
+  // Index order is ByteBufferTest's KIND_* constants.
+  private static final String[] KINDS = {"Heap", "Direct", "Mapped"};
+
+  // Index order is ByteBufferTest's OP_* constants. Each loop: op name,
+  // method stem, extra parameters after buf, body lines.
+  private static final Object[][] LOOPS = {
+      {"put", "put", ", byte[] chunk", new String[] {
+          "for (int i = 0; i < ops; i++) {",
+          "  buf.clear();",
+          "  while (buf.hasRemaining())",
+          "    buf.put(chunk, 0, Math.min(chunk.length, buf.remaining()));",
+          "}",
+          "return buf.get(buf.capacity() - 1);"}},
+      {"get", "get", ", byte[] chunk", new String[] {
+          "long sum = 0;",
+          "for (int i = 0; i < ops; i++) {",
+          "  buf.clear();",
+          "  while (buf.hasRemaining()) {",
+          "    int n = Math.min(chunk.length, buf.remaining());",
+          "    buf.get(chunk, 0, n);",
+          "    sum += chunk[n - 1];",
+          "  }",
+          "}",
+          "return sum;"}},
+      {"compact", "compact", "", new String[] {
+          "long sum = 0;",
+          "int half = buf.capacity() / 2;",
+          "for (int i = 0; i < ops; i++) {",
+          "  buf.clear().position(half);",
+          "  buf.compact();",
+          "  sum += buf.position();",
+          "}",
+          "buf.clear();",
+          "return sum + buf.get(0);"}},
+      {"view.int", "viewInt", "", new String[] {
+          "long sum = 0;",
+          "for (int i = 0; i < ops; i++) {",
+          "  buf.clear();",
+          "  IntBuffer view = buf.asIntBuffer();",
+          "  int n = view.limit();",
+          "  for (int j = 0; j < n; j++)",
+          "    sum += view.get(j);",
+          "}",
+          "return sum;"}},
+      {"view.long", "viewLong", "", new String[] {
+          "long sum = 0;",
+          "for (int i = 0; i < ops; i++) {",
+          "  buf.clear();",
+          "  LongBuffer view = buf.asLongBuffer();",
+          "  int n = view.limit();",
+          "  for (int j = 0; j < n; j++)",
+          "    sum += view.get(j);",
+          "}",
+          "return sum;"}},
+      {"getInt.abs", "getIntAbs", "", new String[] {
+          "long sum = 0;",
+          "int n = buf.capacity() & ~3;",
+          "for (int i = 0; i < ops; i++) {",
+          "  for (int j = 0; j < n; j += 4)",
+          "    sum += buf.getInt(j);",
+          "}",
+          "return sum;"}},
+      {"putInt.abs", "putIntAbs", "", new String[] {
+          "int n = buf.capacity() & ~3;",
+          "for (int i = 0; i < ops; i++) {",
+          "  for (int j = 0; j < n; j += 4)",
+          "    buf.putInt(j, i + j);",
+          "}",
+          "return n == 0 ? 0 : buf.getInt(0) + buf.getInt(n - 4);"}},
+      {"getLong.rel", "getLongRel", "", new String[] {
+          "long sum = 0;",
+          "for (int i = 0; i < ops; i++) {",
+          "  buf.clear();",
+          "  while (buf.remaining() >= 8)",
+          "    sum += buf.getLong();",
+          "}",
+          "return sum;"}},
+      {"putLong.rel", "putLongRel", "", new String[] {
+          "for (int i = 0; i < ops; i++) {",
+          "  buf.clear();",
+          "  long v = i;",
+          "  while (buf.remaining() >= 8)",
+          "    buf.putLong(v++);",
+          "}",
+          "int last = (buf.capacity() & ~7) - 8;",
+          "return last < 0 ? 0 : buf.getLong(0) ^ buf.getLong(last);"}},
+  };
+
+  private BufferLoopGen() {}
+
+  public static void main(String[] args) throws IOException {
+    String out = CLASS_NAME + ".java";
+
+    for (String s : args) {
+      if (s.startsWith("--out=")) {
+        out = s.substring(s.indexOf('=') + 1);
+      } else {
+        System.err.println("BufferLoopGen: unknown option " + s);
+        System.exit(2);
+      }
+    }
+
+    StringBuilder sb = new StringBuilder(1 << 16);
+    emitClass(sb);
+    try (Writer w = new OutputStreamWriter(new FileOutputStream(out),
+                                           StandardCharsets.UTF_8)) {
+      w.write(sb.toString());
+    }
+    System.out.println("BufferLoopGen: wrote " + KINDS.length + " x " +
+                       LOOPS.length + " loops to " + out);
+  }
+
+  private static void emitClass(StringBuilder sb) {
+    sb.append("// ").append(CLASS_NAME).append(".java\n");
+    sb.append("// GENERATED by tools/BufferLoopGen.java; do not edit.\n");
+    sb.append("// Regenerate with `make ByteBufferLoops-gen`.\n");
+    sb.append("\n");
+    sb.append("import java.nio.ByteBuffer;\n");
+    sb.append("import java.nio.IntBuffer;\n");
+    sb.append("import java.nio.LongBuffer;\n");
+    sb.append("\n");
+    sb.append("final class ").append(CLASS_NAME).append(" {\n");
+    sb.append("  static final String[] OP_NAMES = {");
+    for (int op = 0; op < LOOPS.length; op++) {
+      sb.append(op % 4 == 0 ? "\n      " : " ");
+      sb.append('"').append(LOOPS[op][0]).append("\",");
+    }
+    sb.append("\n  };\n\n");
+    sb.append("  private ").append(CLASS_NAME).append("() {}\n\n");
+
+    sb.append("  static long run(int kind, int op, ByteBuffer buf, ")
+        .append("byte[] chunk, int ops) {\n");
+    sb.append("    switch (kind) {\n");
+    for (int k = 0; k < KINDS.length; k++) {
+      if (k == KINDS.length - 1) {
+        sb.append("    default:\n");
+      } else {
+        sb.append("    case ").append(k).append(":\n");
+      }
+      sb.append("      return run").append(KINDS[k])
+          .append("(op, buf, chunk, ops);\n");
+    }
+    sb.append("    }\n");
+    sb.append("  }\n\n");
+
+    for (int k = 0; k < KINDS.length; k++)
+      emitKindDispatch(sb, KINDS[k]);
+    for (int k = 0; k < KINDS.length; k++) {
+      for (Object[] loop : LOOPS)
+        emitLoop(sb, KINDS[k], loop);
+    }
+    // Drop the blank line after the last loop.
+    sb.setLength(sb.length() - 1);
+    sb.append("}\n");
+  }
+
+  private static void emitKindDispatch(StringBuilder sb, String kind) {
+    String head = "  private static long run" + kind + "(";
+    sb.append(head).append("int op, ByteBuffer buf, byte[] chunk,\n");
+    for (int i = 0; i < head.length(); i++)
+      sb.append(' ');
+    sb.append("int ops) {\n");
+    sb.append("    switch (op) {\n");
+    for (int op = 0; op < LOOPS.length; op++) {
+      Object[] loop = LOOPS[op];
+      String label = op == LOOPS.length - 1 ? "default" : "case " + op;
+      sb.append("    ").append(label).append(": // ").append(loop[0])
+          .append("\n");
+      sb.append("      return ").append(loop[1]).append(kind).append("(buf")
+          .append(((String)loop[2]).isEmpty() ? "" : ", chunk")
+          .append(", ops);\n");
+    }
+    sb.append("    }\n");
+    sb.append("  }\n\n");
+  }
+
+  private static void emitLoop(StringBuilder sb, String kind, Object[] loop) {
+    sb.append("  private static long ").append(loop[1]).append(kind)
+        .append("(ByteBuffer buf").append(loop[2]).append(", int ops) {\n");
+    for (String line : (String[])loop[3])
+      sb.append("    ").append(line).append("\n");
+    sb.append("  }\n\n");
+  }
+}
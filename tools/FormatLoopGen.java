@@ -0,0 +1,126 @@
+// FormatLoopGen.java
+// Host-side generator for src/FormatBenchLoops.java: SLOTS copies of the
+// FormatBench strategy and construction loops, so every service is timed
+// through call sites that have only ever seen that service's lambdas.
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public final class FormatLoopGen {
+  private static final String CLASS_NAME = "FormatBenchLoops";
+  private static final int DEFAULT_SLOTS = 32;
+
+  private FormatLoopGen() {}
+
+  public static void main(String[] args) throws IOException {
+    String out = CLASS_NAME + ".java";
+    int slots = DEFAULT_SLOTS;
+
+    for (String s : args) {
+      if (s.startsWith("--out=")) {
+        out = s.substring(s.indexOf('=') + 1);
+      } else if (s.startsWith("--slots=")) {
+        slots = parseInt(s.substring(s.indexOf('=') + 1), slots);
+      } else {
+        System.err.println("FormatLoopGen: unknown option " + s);
+        System.exit(2);
+      }
+    }
+    if (slots < 1) {
+      System.err.println("FormatLoopGen: --slots must be positive");
+      System.exit(2);
+    }
+
+    StringBuilder sb = new StringBuilder(1 << 16);
+    emitClass(sb, slots);
+    try (Writer w = new OutputStreamWriter(new FileOutputStream(out),
+                                           StandardCharsets.UTF_8)) {
+      w.write(sb.toString());
+    }
+    System.out.println("FormatLoopGen: wrote " + slots + " slots to " + out);
+  }
+
+  private static void emitClass(StringBuilder sb, int slots) {
+    sb.append("// ").append(CLASS_NAME).append(".java\n");
+    sb.append("// GENERATED by tools/FormatLoopGen.java; do not edit.\n");
+    sb.append("// Regenerate with `make FormatBenchLoops-gen`.\n");
+    sb.append("\n");
+    sb.append("final class ").append(CLASS_NAME).append(" {\n");
+    sb.append("  static final int SLOTS = ").append(slots).append(";\n\n");
+    sb.append("  private ").append(CLASS_NAME).append("() {}\n\n");
+    emitDispatch(sb, slots, "shared", "FormatBench.Service<T> s, T inst",
+                 "s, inst");
+    emitDispatch(sb, slots, "cold", "FormatBench.Service<T> s", "s");
+    emitDispatch(sb, slots, "clone", "FormatBench.Service<T> s, T proto",
+                 "s, proto");
+    emitDispatch(sb, slots, "threadLocal",
+                 "FormatBench.Service<T> s, ThreadLocal<T> tl", "s, tl");
+    emitDispatch(sb, slots, "construct", "FormatBench.Service<T> s", "s");
+    emitDispatch(sb, slots, "copy", "FormatBench.Service<T> s, T proto",
+                 "s, proto");
+    for (int k = 0; k < slots; k++) {
+      emitLoop(sb, "shared", k, "FormatBench.Service<T> s, T inst",
+               "s.use.apply(inst, i)");
+      emitLoop(sb, "cold", k, "FormatBench.Service<T> s",
+               "s.use.apply(s.factory.create(), i)");
+      emitLoop(sb, "clone", k, "FormatBench.Service<T> s, T proto",
+               "s.use.apply(s.copier.copy(proto), i)");
+      emitLoop(sb, "threadLocal", k,
+               "FormatBench.Service<T> s, ThreadLocal<T> tl",
+               "s.use.apply(tl.get(), i)");
+      emitLoop(sb, "construct", k, "FormatBench.Service<T> s",
+               "System.identityHashCode(s.factory.create())");
+      emitLoop(sb, "copy", k, "FormatBench.Service<T> s, T proto",
+               "System.identityHashCode(s.copier.copy(proto))");
+    }
+    // Drop the blank line after the last loop.
+    sb.setLength(sb.length() - 1);
+    sb.append("}\n");
+  }
+
+  private static void emitDispatch(StringBuilder sb, int slots, String name,
+                                   String params, String callArgs) {
+    signature(sb, "  static <T> long " + name + "(",
+              "int slot, " + params + ", int ops");
+    sb.append("    switch (slot) {\n");
+    for (int k = 0; k < slots; k++) {
+      sb.append("    case ").append(k).append(":\n");
+      sb.append("      return ").append(name).append(k).append("(")
+          .append(callArgs).append(", ops);\n");
+    }
+    sb.append("    default:\n");
+    sb.append("      throw new IllegalArgumentException(\"slot=\" + slot);\n");
+    sb.append("    }\n");
+    sb.append("  }\n\n");
+  }
+
+  private static void emitLoop(StringBuilder sb, String name, int k,
+                               String params, String body) {
+    signature(sb, "  private static <T> long " + name + k + "(",
+              params + ", int ops");
+    sb.append("    long sum = 0;\n");
+    sb.append("    for (int i = 0; i < ops; i++)\n");
+    sb.append("      sum += ").append(body).append(";\n");
+    sb.append("    return sum;\n");
+    sb.append("  }\n\n");
+  }
+
+  /** "head params) {", with params on a continuation line past 80 columns. */
+  private static void signature(StringBuilder sb, String head, String params) {
+    if (head.length() + params.length() + 3 > 80)
+      sb.append(head).append("\n      ").append(params).append(") {\n");
+    else
+      sb.append(head).append(params).append(") {\n");
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+// MegaReceiverGen.java
+// Host-side generator for src/MegaReceivers.java: the Impl<k> receiver
+// classes BytecodePlaygroundJit --megaBench drives through one I.apply call
+// site. Each class has its own apply body, so every receiver is a distinct
+// dispatch target and not just a distinct class.
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public final class MegaReceiverGen {
+  private static final String CLASS_NAME = "MegaReceivers";
+  private static final int DEFAULT_COUNT = 64;
+
+  private MegaReceiverGen() {}
+
+  public static void main(String[] args) throws IOException {
+    String out = CLASS_NAME + ".java";
+    int count = DEFAULT_COUNT;
+
+    for (String s : args) {
+      if (s.startsWith("--out=")) {
+        out = s.substring(s.indexOf('=') + 1);
+      } else if (s.startsWith("--count=")) {
+        count = parseInt(s.substring(s.indexOf('=') + 1), count);
+      } else {
+        System.err.println("MegaReceiverGen: unknown option " + s);
+        System.exit(2);
+      }
+    }
+    if (count < 1) {
+      System.err.println("MegaReceiverGen: --count must be positive");
+      System.exit(2);
+    }
+
+    StringBuilder sb = new StringBuilder(1 << 14);
+    emitClass(sb, count);
+    try (Writer w = new OutputStreamWriter(new FileOutputStream(out),
+                                           StandardCharsets.UTF_8)) {
+      w.write(sb.toString());
+    }
+    System.out.println("MegaReceiverGen: wrote " + count + " receivers to " +
+                       out);
+  }
+
+  private static void emitClass(StringBuilder sb, int count) {
+    sb.append("// ").append(CLASS_NAME).append(".java\n");
+    sb.append("// GENERATED by tools/MegaReceiverGen.java; do not edit.\n");
+    sb.append("// Regenerate with `make MegaReceivers-gen`.\n");
+    sb.append("\n");
+    sb.append("final class ").append(CLASS_NAME).append(" {\n");
+    sb.append("  // Impl<k>.apply(x) == x + k, so RECEIVERS[k] gives the ")
+        .append("expected value.\n");
+    sb.append("  interface I {\n");
+    sb.append("    int apply(int x);\n");
+    sb.append("  }\n\n");
+    emitReceivers(sb, count);
+    sb.append("  private ").append(CLASS_NAME).append("() {}\n");
+    for (int k = 0; k < count; k++) {
+      sb.append("\n");
+      sb.append("  static final class Impl").append(k)
+          .append(" implements I {\n");
+      sb.append("    @Override\n");
+      sb.append("    public int apply(int x) { return x + ").append(k)
+          .append("; }\n");
+      sb.append("  }\n");
+    }
+    sb.append("}\n");
+  }
+
+  /** "static final I[] RECEIVERS = {...};", filled to 80 columns. */
+  private static void emitReceivers(StringBuilder sb, int count) {
+    sb.append("  static final I[] RECEIVERS = {\n");
+    StringBuilder line = new StringBuilder("     ");
+    for (int k = 0; k < count; k++) {
+      String item = " new Impl" + k + "(),";
+      if (line.length() + item.length() > 80) {
+        sb.append(line).append("\n");
+        line.setLength(0);
+        line.append("     ");
+      }
+      line.append(item);
+    }
+    sb.append(line).append("\n");
+    sb.append("  };\n\n");
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+}
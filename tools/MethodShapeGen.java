@@ -0,0 +1,474 @@
+// MethodShapeGen.java
+// Host-side generator for the MethodShapeCorpus module: emits one static
+// target + driver per (argument count, type mix, live refs, try depth) cell.
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class MethodShapeGen {
+  private static final String CLASS_NAME = "MethodShapeCorpus";
+
+  // Parameter slots available to a static method (long/double take two).
+  private static final int MAX_SLOTS = 255;
+
+  // Size of the emitted BOXES array (a power of two: indices are masked
+  // with BOX_COUNT - 1). Live refs r0..r<n-1> are seeded from BOXES[k], so
+  // --refs is clamped to it.
+  private static final int BOX_COUNT = 64;
+
+  private static final int[] DEFAULT_ARGS = {0,  1,  2,  3,   4,  5, 6,
+                                             8,  16, 32, 64, 128, 255};
+  private static final String[] DEFAULT_MIXES = {"narrow", "wide", "mixed"};
+  private static final int[] DEFAULT_REFS = {0, 8};
+  private static final int[] DEFAULT_TRY_DEPTHS = {0, 1, 3};
+
+  // Argument type codes: I=int F=float J=long D=double L=Object.
+  private static final String NARROW = "IF";
+  private static final String WIDE = "JD";
+  private static final String MIXED = "IJDLF";
+
+  private MethodShapeGen() {}
+
+  private static final class Shape {
+    final String mix;
+    final String types;
+    final int refs;
+    final int tryDepth;
+
+    Shape(String mix, String types, int refs, int tryDepth) {
+      this.mix = mix;
+      this.types = types;
+      this.refs = refs;
+      this.tryDepth = tryDepth;
+    }
+
+    String name() {
+      return mix + "_a" + types.length() + "_r" + refs + "_t" + tryDepth;
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    String out = CLASS_NAME + ".java";
+    int[] argCounts = DEFAULT_ARGS;
+    String[] mixes = DEFAULT_MIXES;
+    int[] refs = DEFAULT_REFS;
+    int[] tryDepths = DEFAULT_TRY_DEPTHS;
+
+    for (String s : args) {
+      if (s.startsWith("--out=")) {
+        out = s.substring(s.indexOf('=') + 1);
+      } else if (s.startsWith("--args=")) {
+        argCounts = parseIntList(s.substring(s.indexOf('=') + 1), argCounts);
+      } else if (s.startsWith("--mix=")) {
+        mixes = s.substring(s.indexOf('=') + 1).split(",");
+      } else if (s.startsWith("--refs=")) {
+        refs = parseIntList(s.substring(s.indexOf('=') + 1), refs);
+      } else if (s.startsWith("--tryDepth=")) {
+        tryDepths = parseIntList(s.substring(s.indexOf('=') + 1), tryDepths);
+      } else {
+        System.err.println("MethodShapeGen: unknown option " + s);
+        System.exit(2);
+      }
+    }
+
+    List<Shape> shapes = new ArrayList<>();
+    Set<String> seen = new LinkedHashSet<>();
+    for (String mix : mixes) {
+      String cycle = mixCycle(mix);
+      if (cycle == null) {
+        System.err.println("MethodShapeGen: unknown mix " + mix);
+        System.exit(2);
+      }
+      for (int n : argCounts) {
+        String types = fitTypes(cycle, n);
+        for (int want : refs) {
+          int r = Math.min(want, BOX_COUNT);
+          for (int t : tryDepths) {
+            Shape shape = new Shape(mix, types, r, t);
+            if (seen.add(shape.name()))
+              shapes.add(shape);
+          }
+        }
+      }
+    }
+
+    StringBuilder sb = new StringBuilder(1 << 20);
+    emitClass(sb, shapes);
+    try (Writer w = new OutputStreamWriter(new FileOutputStream(out),
+                                           StandardCharsets.UTF_8)) {
+      w.write(sb.toString());
+    }
+    System.out.println("MethodShapeGen: wrote " + shapes.size() +
+                       " shapes to " + out);
+  }
+
+  private static String mixCycle(String mix) {
+    switch (mix) {
+    case "narrow":
+      return NARROW;
+    case "wide":
+      return WIDE;
+    case "mixed":
+      return MIXED;
+    default:
+      return null;
+    }
+  }
+
+  /** Repeats the mix cycle up to {@code n} args, stopping at MAX_SLOTS. */
+  private static String fitTypes(String cycle, int n) {
+    StringBuilder types = new StringBuilder();
+    int slots = 0;
+    for (int k = 0; k < Math.max(0, n); k++) {
+      char c = cycle.charAt(k % cycle.length());
+      int need = isWide(c) ? 2 : 1;
+      if (slots + need > MAX_SLOTS)
+        break;
+      slots += need;
+      types.append(c);
+    }
+    return types.toString();
+  }
+
+  private static boolean isWide(char c) { return c == 'J' || c == 'D'; }
+
+  private static String javaType(char c) {
+    switch (c) {
+    case 'I':
+      return "int";
+    case 'F':
+      return "float";
+    case 'J':
+      return "long";
+    case 'D':
+      return "double";
+    default:
+      return "Object";
+    }
+  }
+
+  /** Argument k at call i; referenceCall in the emitted class must agree. */
+  private static String argExpr(char c, int k) {
+    switch (c) {
+    case 'I':
+      return "i + " + k;
+    case 'F':
+      return "(i + " + k + ") * 0.5f";
+    case 'J':
+      return "i * 3L + " + k;
+    case 'D':
+      return "(i + " + k + ") * 0.25";
+    default:
+      return "BOXES[(i + " + k + ") & " + (BOX_COUNT - 1) + "]";
+    }
+  }
+
+  private static String foldExpr(char c, int k) {
+    switch (c) {
+    case 'F':
+      return "Float.floatToRawIntBits(a" + k + ")";
+    case 'D':
+      return "Double.doubleToRawLongBits(a" + k + ")";
+    case 'L':
+      return "a" + k + ".hashCode()";
+    default:
+      return "a" + k;
+    }
+  }
+
+  private static void emitClass(StringBuilder sb, List<Shape> shapes) {
+    sb.append("// ").append(CLASS_NAME).append(".java\n");
+    sb.append("// GENERATED by tools/MethodShapeGen.java; do not edit.\n");
+    sb.append("\n");
+    sb.append("import java.util.Locale;\n\n");
+    sb.append("public final class ").append(CLASS_NAME).append(" {\n");
+    sb.append("  private static final TestSupport.Counter CTR =\n");
+    sb.append("      new TestSupport.Counter();\n");
+    sb.append("  private static volatile long BLACKHOLE;\n\n");
+    sb.append("  private static final int DEFAULT_ITERS = 200000;\n");
+    sb.append("  private static final int DEFAULT_REPS = 3;\n");
+    sb.append("  private static final int CHECK_ITERS = 2048;\n\n");
+    sb.append("  private static final Object[] BOXES = new Object[")
+        .append(BOX_COUNT).append("];\n");
+    sb.append("  static {\n");
+    sb.append("    for (int i = 0; i < BOXES.length; i++)\n");
+    sb.append("      BOXES[i] = Integer.valueOf(1000 + i);\n");
+    sb.append("  }\n\n");
+    sb.append("  private static final String[] NAMES = {\n");
+    for (Shape s : shapes)
+      sb.append("      \"").append(s.name()).append("\",\n");
+    sb.append("  };\n");
+    sb.append("  private static final String[] TYPES = {\n");
+    for (Shape s : shapes)
+      sb.append("      \"").append(s.types).append("\",\n");
+    sb.append("  };\n");
+    sb.append("  private static final int[] REFS = {");
+    appendInts(sb, shapes, true);
+    sb.append("};\n");
+    sb.append("  private static final int[] TRY_DEPTHS = {");
+    appendInts(sb, shapes, false);
+    sb.append("};\n\n");
+    sb.append("  private static final class ShapeSignal extends RuntimeException {\n");
+    sb.append("    ShapeSignal() { super(null, null, false, false); }\n");
+    sb.append("  }\n\n");
+    sb.append("  private static final ShapeSignal SIGNAL = new ShapeSignal();\n\n");
+    sb.append("  private ").append(CLASS_NAME).append("() {}\n\n");
+    emitMain(sb);
+    emitRuntime(sb, shapes);
+    for (int s = 0; s < shapes.size(); s++) {
+      emitTarget(sb, shapes.get(s));
+      emitDriver(sb, shapes.get(s));
+    }
+    sb.append("}\n");
+  }
+
+  private static void appendInts(StringBuilder sb, List<Shape> shapes,
+                                 boolean refs) {
+    for (int s = 0; s < shapes.size(); s++) {
+      if (s > 0)
+        sb.append(", ");
+      if (s % 16 == 0)
+        sb.append("\n      ");
+      sb.append(refs ? shapes.get(s).refs : shapes.get(s).tryDepth);
+    }
+  }
+
+  private static void emitMain(StringBuilder sb) {
+    sb.append(
+        "  public static void main(String[] args) {\n"
+        + "    CTR.reset();\n"
+        + "    BLACKHOLE = 0;\n"
+        + "    System.out.println(\"=== " + CLASS_NAME + " starting ===\");\n"
+        + "    int iters = DEFAULT_ITERS;\n"
+        + "    int reps = DEFAULT_REPS;\n"
+        + "    String only = null;\n"
+        + "    for (String s : args) {\n"
+        + "      if (s.startsWith(\"--iters=\")) {\n"
+        + "        iters = parseInt(s.substring(s.indexOf('=') + 1), iters);\n"
+        + "      } else if (s.startsWith(\"--reps=\")) {\n"
+        + "        reps = parseInt(s.substring(s.indexOf('=') + 1), reps);\n"
+        + "      } else if (s.startsWith(\"--only=\")) {\n"
+        + "        only = s.substring(s.indexOf('=') + 1);\n"
+        + "      } else if (\"--short\".equals(s)) {\n"
+        + "        iters = 20000;\n"
+        + "        reps = 2;\n"
+        + "      } else if (\"--full\".equals(s)) {\n"
+        + "        iters = 1000000;\n"
+        + "        reps = 5;\n"
+        + "      }\n"
+        + "    }\n"
+        + "    if (iters < 1)\n"
+        + "      iters = 1;\n"
+        + "    if (reps < 1)\n"
+        + "      reps = 1;\n"
+        + "\n"
+        + "    JitSupport.requestJitCompilation(" + CLASS_NAME + ".class);\n"
+        + "    System.out.printf(Locale.ROOT, \"shapes=%d iters=%d reps=%d%n\",\n"
+        + "                      NAMES.length, iters, reps);\n"
+        + "    for (int s = 0; s < NAMES.length; s++) {\n"
+        + "      if (only != null && !NAMES[s].contains(only))\n"
+        + "        continue;\n"
+        + "      TestSupport.checkEq(\"shape.\" + NAMES[s],\n"
+        + "                          drive(s, CHECK_ITERS), reference(s, CHECK_ITERS),\n"
+        + "                          CTR);\n"
+        + "      long best = Long.MAX_VALUE;\n"
+        + "      for (int r = 0; r < reps + 1; r++) {\n"
+        + "        long t0 = System.nanoTime();\n"
+        + "        BLACKHOLE ^= drive(s, iters);\n"
+        + "        long dt = System.nanoTime() - t0;\n"
+        + "        if (r == 0)\n"
+        + "          continue; // warm-up rep\n"
+        + "        best = Math.min(best, dt);\n"
+        + "      }\n"
+        + "      System.out.printf(Locale.ROOT,\n"
+        + "                        \"shape %-20s args=%3d slots=%3d invoke=%-5s \" +\n"
+        + "                            \"refs=%2d try=%d %8.2f ns/call%n\",\n"
+        + "                        NAMES[s], TYPES[s].length(), slots(TYPES[s]),\n"
+        + "                        slots(TYPES[s]) > 5 ? \"range\" : \"plain\", REFS[s],\n"
+        + "                        TRY_DEPTHS[s], best / (double)iters);\n"
+        + "    }\n"
+        + "\n"
+        + "    TestSupport.summary(\"" + CLASS_NAME + "\", CTR);\n"
+        + "    if (CTR.getFail() != 0)\n"
+        + "      System.exit(1);\n"
+        + "  }\n\n");
+  }
+
+  private static void emitRuntime(StringBuilder sb, List<Shape> shapes) {
+    sb.append("  private static long signal(long h) {\n"
+              + "    if ((h & 1023) == 0)\n"
+              + "      throw SIGNAL;\n"
+              + "    return h;\n"
+              + "  }\n\n");
+    sb.append("  private static int slots(String types) {\n"
+              + "    int slots = 0;\n"
+              + "    for (int k = 0; k < types.length(); k++) {\n"
+              + "      char c = types.charAt(k);\n"
+              + "      slots += c == 'J' || c == 'D' ? 2 : 1;\n"
+              + "    }\n"
+              + "    return slots;\n"
+              + "  }\n\n");
+    sb.append(
+        "  /** Interpreted model of target(s, i): the fold, signal and try levels. */\n"
+        + "  private static long referenceCall(String types, int tryDepth, int i) {\n"
+        + "    long h = 17;\n"
+        + "    for (int k = 0; k < types.length(); k++) {\n"
+        + "      long v;\n"
+        + "      switch (types.charAt(k)) {\n"
+        + "      case 'I':\n"
+        + "        v = i + k;\n"
+        + "        break;\n"
+        + "      case 'F':\n"
+        + "        v = Float.floatToRawIntBits((i + k) * 0.5f);\n"
+        + "        break;\n"
+        + "      case 'J':\n"
+        + "        v = i * 3L + k;\n"
+        + "        break;\n"
+        + "      case 'D':\n"
+        + "        v = Double.doubleToRawLongBits((i + k) * 0.25);\n"
+        + "        break;\n"
+        + "      default:\n"
+        + "        v = BOXES[(i + k) & (BOXES.length - 1)].hashCode();\n"
+        + "        break;\n"
+        + "      }\n"
+        + "      h = h * 31 + v;\n"
+        + "    }\n"
+        + "    if (tryDepth > 0 && (h & 1023) == 0)\n"
+        + "      h ^= 0x5A5AL + tryDepth;\n"
+        + "    for (int level = tryDepth; level >= 1; level--)\n"
+        + "      h = h * 31 + level;\n"
+        + "    return h;\n"
+        + "  }\n\n");
+    sb.append(
+        "  /** Model of drive(s, iters): call sum, then the rotated-ref fold. */\n"
+        + "  private static long reference(int s, int iters) {\n"
+        + "    long acc = 0;\n"
+        + "    for (int i = 0; i < iters; i++)\n"
+        + "      acc += referenceCall(TYPES[s], TRY_DEPTHS[s], i);\n"
+        + "    int refs = REFS[s];\n"
+        + "    for (int k = 0; k < refs; k++) {\n"
+        + "      if ((k + iters) % refs == k)\n"
+        + "        acc += k + 1;\n"
+        + "    }\n"
+        + "    return acc;\n"
+        + "  }\n\n");
+    sb.append("  private static long drive(int s, int iters) {\n");
+    sb.append("    switch (s) {\n");
+    for (int s = 0; s < shapes.size(); s++) {
+      sb.append("    case ").append(s).append(":\n");
+      sb.append("      return drive_").append(shapes.get(s).name())
+          .append("(iters);\n");
+    }
+    sb.append("    default:\n");
+    sb.append("      throw new IllegalArgumentException(\"shape \" + s);\n");
+    sb.append("    }\n");
+    sb.append("  }\n\n");
+    sb.append("  private static int parseInt(String raw, int fallback) {\n"
+              + "    try {\n"
+              + "      return Integer.parseInt(raw.trim());\n"
+              + "    } catch (NumberFormatException e) {\n"
+              + "      return fallback;\n"
+              + "    }\n"
+              + "  }\n\n");
+  }
+
+  private static void emitTarget(StringBuilder sb, Shape shape) {
+    String types = shape.types;
+    sb.append("  private static long target_").append(shape.name()).append("(");
+    for (int k = 0; k < types.length(); k++) {
+      if (k > 0)
+        sb.append(",");
+      sb.append("\n      ").append(javaType(types.charAt(k))).append(" a")
+          .append(k);
+    }
+    sb.append(") {\n");
+    sb.append("    long h = 17;\n");
+    emitTryLevel(sb, shape, 1, "    ");
+    sb.append("    return h;\n");
+    sb.append("  }\n\n");
+  }
+
+  private static void emitTryLevel(StringBuilder sb, Shape shape, int level,
+                                   String indent) {
+    if (level > shape.tryDepth) {
+      for (int k = 0; k < shape.types.length(); k++) {
+        sb.append(indent).append("h = h * 31 + ")
+            .append(foldExpr(shape.types.charAt(k), k)).append(";\n");
+      }
+      if (shape.tryDepth > 0)
+        sb.append(indent).append("h = signal(h);\n");
+      return;
+    }
+    sb.append(indent).append("try {\n");
+    emitTryLevel(sb, shape, level + 1, indent + "  ");
+    if (level == shape.tryDepth) {
+      sb.append(indent).append("} catch (ShapeSignal e) {\n");
+      sb.append(indent).append("  h ^= 0x5A5AL + ").append(level)
+          .append(";\n");
+    } else {
+      // Never thrown: these levels only add handler ranges around the call.
+      sb.append(indent).append("} catch (IllegalStateException e) {\n");
+      sb.append(indent).append("  h = -h;\n");
+    }
+    sb.append(indent).append("}\n");
+    sb.append(indent).append("h = h * 31 + ").append(level).append(";\n");
+  }
+
+  private static void emitDriver(StringBuilder sb, Shape shape) {
+    String types = shape.types;
+    sb.append("  private static long drive_").append(shape.name())
+        .append("(int iters) {\n");
+    for (int k = 0; k < shape.refs; k++) {
+      sb.append("    Object r").append(k).append(" = BOXES[").append(k)
+          .append("];\n");
+    }
+    sb.append("    long acc = 0;\n");
+    sb.append("    for (int i = 0; i < iters; i++) {\n");
+    sb.append("      acc += target_").append(shape.name()).append("(");
+    for (int k = 0; k < types.length(); k++) {
+      if (k > 0)
+        sb.append(",");
+      sb.append("\n          ").append(argExpr(types.charAt(k), k));
+    }
+    sb.append(");\n");
+    if (shape.refs > 0) {
+      // Rotate so every ref stays live across the call.
+      sb.append("      Object t = r0;\n");
+      for (int k = 0; k < shape.refs - 1; k++) {
+        sb.append("      r").append(k).append(" = r").append(k + 1)
+            .append(";\n");
+      }
+      sb.append("      r").append(shape.refs - 1).append(" = t;\n");
+    }
+    sb.append("    }\n");
+    for (int k = 0; k < shape.refs; k++) {
+      sb.append("    if (r").append(k).append(" == BOXES[").append(k)
+          .append("])\n");
+      sb.append("      acc += ").append(k + 1).append(";\n");
+    }
+    sb.append("    return acc;\n");
+    sb.append("  }\n\n");
+  }
+
+  private static int[] parseIntList(String raw, int[] fallback) {
+    String[] parts = raw.split(",");
+    int[] out = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      try {
+        out[i] = Integer.parseInt(parts[i].trim());
+      } catch (NumberFormatException e) {
+        return fallback;
+      }
+      if (out[i] < 0)
+        return fallback;
+    }
+    return out;
+  }
+}
@@ -0,0 +1,191 @@
+// PressureKernelGen.java
+// Host-side generator for src/PressureKernels.java: one Object, long and
+// double register-pressure kernel per live-value count, plus the dispatch
+// switches RegAllocMoveStressTest --pressureBench calls through.
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public final class PressureKernelGen {
+  private static final String CLASS_NAME = "PressureKernels";
+
+  // The long/double kernels chain v[k] to v[k + 1], so two values minimum.
+  private static final int MIN_LIVE = 2;
+  private static final int DEFAULT_MIN = 4;
+  private static final int DEFAULT_MAX = 32;
+
+  private PressureKernelGen() {}
+
+  public static void main(String[] args) throws IOException {
+    String out = CLASS_NAME + ".java";
+    int min = DEFAULT_MIN;
+    int max = DEFAULT_MAX;
+
+    for (String s : args) {
+      if (s.startsWith("--out=")) {
+        out = s.substring(s.indexOf('=') + 1);
+      } else if (s.startsWith("--min=")) {
+        min = parseInt(s.substring(s.indexOf('=') + 1), min);
+      } else if (s.startsWith("--max=")) {
+        max = parseInt(s.substring(s.indexOf('=') + 1), max);
+      } else {
+        System.err.println("PressureKernelGen: unknown option " + s);
+        System.exit(2);
+      }
+    }
+    if (min < MIN_LIVE || max < min) {
+      System.err.println("PressureKernelGen: need " + MIN_LIVE +
+                         " <= --min <= --max, got " + min + ".." + max);
+      System.exit(2);
+    }
+
+    StringBuilder sb = new StringBuilder(1 << 18);
+    emitClass(sb, min, max);
+    try (Writer w = new OutputStreamWriter(new FileOutputStream(out),
+                                           StandardCharsets.UTF_8)) {
+      w.write(sb.toString());
+    }
+    System.out.println("PressureKernelGen: wrote live=" + min + ".." + max +
+                       " to " + out);
+  }
+
+  private static void emitClass(StringBuilder sb, int min, int max) {
+    sb.append("// ").append(CLASS_NAME).append(".java\n");
+    sb.append("// GENERATED by tools/PressureKernelGen.java; do not edit.\n");
+    sb.append("// Regenerate with `make PressureKernels-gen`.\n");
+    sb.append("\n");
+    sb.append("public final class ").append(CLASS_NAME).append(" {\n");
+    sb.append("  public static final int MIN_LIVE = ").append(min)
+        .append(";\n");
+    sb.append("  public static final int MAX_LIVE = ").append(max)
+        .append(";\n\n");
+    sb.append("  private ").append(CLASS_NAME).append("() {}\n\n");
+    emitDispatch(sb, min, max, "long", "objects",
+                 "Object[] src, Object pivot, int iters", "liveObjects",
+                 "src, pivot, iters");
+    emitDispatch(sb, min, max, "long", "longs", "long seed, int iters",
+                 "liveLongs", "seed, iters");
+    emitDispatch(sb, min, max, "double", "doubles", "double seed, int iters",
+                 "liveDoubles", "seed, iters");
+    sb.append("  // live* kernels: every value is read and written each ")
+        .append("iteration, so all\n");
+    sb.append("  // N stay live across the loop back-edge.\n");
+    for (int n = min; n <= max; n++) {
+      emitObjects(sb, n);
+      emitLongs(sb, n);
+      emitDoubles(sb, n);
+    }
+    // Drop the blank line after the last kernel.
+    sb.setLength(sb.length() - 1);
+    sb.append("}\n");
+  }
+
+  private static void emitDispatch(StringBuilder sb, int min, int max,
+                                   String ret, String name, String params,
+                                   String kernel, String callArgs) {
+    sb.append("  public static ").append(ret).append(" ").append(name)
+        .append("(int live, ").append(params).append(") {\n");
+    sb.append("    switch (live) {\n");
+    for (int n = min; n <= max; n++) {
+      sb.append("    case ").append(n).append(":\n");
+      sb.append("      return ").append(kernel).append(n).append("(")
+          .append(callArgs).append(");\n");
+    }
+    sb.append("    default:\n");
+    sb.append("      throw new IllegalArgumentException(\"live=\" + live);\n");
+    sb.append("    }\n");
+    sb.append("  }\n\n");
+  }
+
+  private static void emitObjects(StringBuilder sb, int n) {
+    sb.append("  private static long liveObjects").append(n)
+        .append("(Object[] src, Object pivot, int iters) {\n");
+    for (int k = 0; k < n; k++) {
+      sb.append("    Object o").append(k).append(" = src[").append(k)
+          .append("];\n");
+    }
+    sb.append("    long acc = 0;\n");
+    sb.append("    for (int i = 0; i < iters; i++) {\n");
+    sb.append("      Object t = o0;\n");
+    for (int k = 0; k < n - 1; k++) {
+      sb.append("      o").append(k).append(" = o").append(k + 1)
+          .append(";\n");
+    }
+    sb.append("      o").append(n - 1).append(" = t;\n");
+    sb.append("      acc += o0 == pivot ? i : 1;\n");
+    sb.append("    }\n");
+    for (int k = 1; k < n; k++) {
+      sb.append("    if (o").append(k).append(" == pivot)\n");
+      sb.append("      acc += ").append(k).append(";\n");
+    }
+    sb.append("    return acc;\n");
+    sb.append("  }\n\n");
+  }
+
+  private static void emitLongs(StringBuilder sb, int n) {
+    sb.append("  private static long liveLongs").append(n)
+        .append("(long seed, int iters) {\n");
+    sb.append("    long v0 = seed;\n");
+    for (int k = 1; k < n; k++) {
+      sb.append("    long v").append(k).append(" = seed + ").append(k)
+          .append(";\n");
+    }
+    sb.append("    for (int i = 0; i < iters; i++) {\n");
+    sb.append("      v0 += v1 ^ i;\n");
+    for (int k = 1; k < n - 1; k++) {
+      sb.append("      v").append(k).append(" += v").append(k + 1)
+          .append(";\n");
+    }
+    sb.append("      v").append(n - 1).append(" += v0;\n");
+    sb.append("    }\n");
+    emitFold(sb, n, " ^ ");
+    sb.append("  }\n\n");
+  }
+
+  private static void emitDoubles(StringBuilder sb, int n) {
+    sb.append("  private static double liveDoubles").append(n)
+        .append("(double seed, int iters) {\n");
+    sb.append("    double v0 = seed;\n");
+    for (int k = 1; k < n; k++) {
+      sb.append("    double v").append(k).append(" = seed + ").append(k)
+          .append(";\n");
+    }
+    sb.append("    for (int i = 0; i < iters; i++) {\n");
+    for (int k = 0; k < n - 1; k++) {
+      sb.append("      v").append(k).append(" = v").append(k)
+          .append(" * 0.5 + v").append(k + 1).append(" * 0.25;\n");
+    }
+    sb.append("      v").append(n - 1).append(" = v").append(n - 1)
+        .append(" * 0.5 + v0 * 0.25 + 1.0;\n");
+    sb.append("    }\n");
+    emitFold(sb, n, " + ");
+    sb.append("  }\n\n");
+  }
+
+  /** "return v0 op v1 op ...;", wrapped at 80 columns after an op. */
+  private static void emitFold(StringBuilder sb, int n, String op) {
+    StringBuilder line = new StringBuilder("    return v0");
+    for (int k = 1; k < n; k++) {
+      String term = "v" + k;
+      if (line.length() + op.length() + term.length() + 1 > 80) {
+        sb.append(line).append(' ').append(op.trim()).append("\n");
+        line.setLength(0);
+        line.append("        ").append(term);
+      } else {
+        line.append(op).append(term);
+      }
+    }
+    sb.append(line).append(";\n");
+  }
+
+  private static int parseInt(String raw, int fallback) {
+    try {
+      return Integer.parseInt(raw.trim());
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+}